@@ -0,0 +1,64 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Team;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TeamMember;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TeamMemberId;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** 팀 목록 응답 매핑 (팀 하나 기준, 멤버 수별) */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TeamListDtoBenchmark {
+
+    @Param({"5", "30"})
+    public int members;
+
+    private Team team;
+    private List<TeamMember> teamMembers;
+    private TeamListDto.Response.Stats stats;
+
+    @Setup
+    public void setUp() {
+        team = Team.builder().id(7L).name("캡스톤 7팀").description("벤치마크용 팀").build();
+        // createdAt/updatedAt 은 감사 리스너가 채우는 필드라 setter 가 없다
+        ReflectionTestUtils.setField(team, "createdAt", LocalDateTime.of(2025, 3, 2, 9, 0));
+        ReflectionTestUtils.setField(team, "updatedAt", LocalDateTime.of(2025, 9, 12, 15, 37, 54));
+
+        teamMembers = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            long userId = 100L + i;
+            UserAccount user = UserAccount.builder()
+                    .id(userId)
+                    .name("학생" + i)
+                    .email("student" + i + "@example.com")
+                    .avatarUrl(i % 2 == 0 ? "/files?key=avatars/" + userId + ".png" : null)
+                    .role(Role.STUDENT)
+                    .build();
+            teamMembers.add(TeamMember.builder()
+                    .id(new TeamMemberId(team.getId(), userId))
+                    .team(team)
+                    .user(user)
+                    // 팀장은 목록 중간에 둔다 (앞에서부터 찾는 비용 포함)
+                    .roleInTeam(i == members / 2 ? "LEADER" : "MEMBER")
+                    .build());
+        }
+        stats = new TeamListDto.Response.Stats(12, 4, new TeamListDto.Response.Tasks(3, 8));
+    }
+
+    @Benchmark
+    public TeamListDto.Response from() {
+        return TeamListDto.Response.from(team, teamMembers, "캡스톤 프로젝트", stats);
+    }
+}
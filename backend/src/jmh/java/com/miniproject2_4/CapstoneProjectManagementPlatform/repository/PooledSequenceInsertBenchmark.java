@@ -0,0 +1,158 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Notification;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.NotificationType;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 INSERT 처리량: pooled 시퀀스(50개 선할당 + JDBC 배치) vs IDENTITY(행마다 INSERT + 키 회수).
+ * - pooled: 실제 Notification 엔티티를 애플리케이션과 같은 배치 설정(batch_size=50, order_inserts)으로 저장
+ * - identity: 같은 컬럼을 IDENTITY 로 매핑한 벤치 전용 엔티티
+ * 기본은 내장 H2. -jvmArgsAppend 로 -Dbench.url/-Dbench.user/-Dbench.password 를 넘겨 MariaDB 를 지정하면 왕복 비용 차이가 드러난다.
+ * 점수는 초당 INSERT 행 수.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class PooledSequenceInsertBenchmark {
+
+    private static final int ROWS_PER_TX = 500;
+
+    @Param({"pooled", "identity"})
+    public String strategy;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory emf;
+    private TransactionTemplate tx;
+    private JdbcTemplate jdbc;
+    private Long recipientId;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = {Notification.class, PooledSequenceInsertBenchmark.class})
+    static class Config {}
+
+    /** IDENTITY 비교용: Notification 과 같은 컬럼 */
+    @Entity
+    @Table(name = "bench_identity_notification")
+    @Getter @NoArgsConstructor
+    public static class IdentityNotification {
+
+        @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "recipient_id", nullable = false)
+        private UserAccount recipient;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 32)
+        private NotificationType type;
+
+        @Column(nullable = false, length = 120)
+        private String title;
+
+        @Column(columnDefinition = "TEXT")
+        private String body;
+
+        @Column(columnDefinition = "TEXT")
+        private String payload;
+
+        @Column(nullable = false)
+        private boolean isRead;
+
+        @Column(nullable = false)
+        private LocalDateTime createdAt;
+
+        IdentityNotification(UserAccount recipient, String title) {
+            this.recipient = recipient;
+            this.type = NotificationType.TEAM_INVITATION;
+            this.title = title;
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Config.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=benchmark",
+                        "--spring.datasource.url=" + System.getProperty("bench.url",
+                                "jdbc:h2:mem:bench;MODE=MariaDB;DB_CLOSE_DELAY=-1"),
+                        "--spring.datasource.username=" + System.getProperty("bench.user", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("bench.password", ""),
+                        "--spring.flyway.enabled=false",
+                        "--spring.data.jpa.repositories.enabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.boot.admin.client.enabled=false",
+                        "--logging.level.root=WARN");
+        emf = context.getBean(EntityManagerFactory.class);
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbc = context.getBean(JdbcTemplate.class);
+
+        recipientId = tx.execute(s -> {
+            UserAccount u = UserAccount.builder()
+                    .name("bench").email("bench@example.com").role(Role.STUDENT).passwordHash("x").build();
+            entityManager().persist(u);
+            return u.getId();
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbc.update("DELETE FROM notification");
+        jdbc.update("DELETE FROM bench_identity_notification");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 한 트랜잭션에서 ROWS_PER_TX 건 저장 (알림 일괄 발송과 같은 패턴) */
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TX)
+    public void insert() {
+        boolean pooled = "pooled".equals(strategy);
+        tx.executeWithoutResult(s -> {
+            EntityManager em = entityManager();
+            UserAccount to = em.getReference(UserAccount.class, recipientId);
+            for (int i = 0; i < ROWS_PER_TX; i++) {
+                String title = "notification " + i;
+                if (pooled) {
+                    em.persist(Notification.builder()
+                            .recipient(to).type(NotificationType.TEAM_INVITATION).title(title).build());
+                } else {
+                    em.persist(new IdentityNotification(to, title));
+                }
+            }
+        });
+    }
+
+    private EntityManager entityManager() {
+        return EntityManagerFactoryUtils.getTransactionalEntityManager(emf);
+    }
+}
@@ -0,0 +1,51 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtAuthenticationFilter 가 부르는 토큰 검증/payload 파싱.
+ * - valid: 정상 토큰 (파싱 + HMAC 검증 + 만료 비교)
+ * - tampered: 서명 마지막 글자만 바꾼 토큰 (검증 실패 경로)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("benchmark-secret-benchmark-secret-0123456789");
+        // 토큰 수명(15분)이 한 fork 실행 시간보다 훨씬 길다
+        validToken = jwtUtil.generateAccessToken(42L, "bench@example.com", "벤치마크");
+        char last = validToken.charAt(validToken.length() - 1);
+        tamperedToken = validToken.substring(0, validToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+        if (!jwtUtil.isValid(validToken) || jwtUtil.isValid(tamperedToken)) {
+            throw new IllegalStateException("benchmark fixture is broken");
+        }
+    }
+
+    @Benchmark
+    public boolean isValid_valid() {
+        return jwtUtil.isValid(validToken);
+    }
+
+    @Benchmark
+    public boolean isValid_tampered() {
+        return jwtUtil.isValid(tamperedToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> getPayload() {
+        return jwtUtil.getPayload(validToken);
+    }
+}
@@ -0,0 +1,53 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.security.jwt;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청마다 실행되는 권한 목록 구성.
+ * - rolesClaim: 토큰에 roles 클레임이 있는 경우
+ * - entityRole: 클레임이 없어 UserAccount 에서 reflection 으로 역할을 찾는 경우 (현재 발급 토큰의 기본 경로)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private UserAccount user;
+    private Map<String, Object> withRoles;
+    private Map<String, Object> withoutRoles;
+
+    @Setup
+    public void setUp() {
+        // buildAuthorities 는 의존성을 쓰지 않는다
+        filter = new JwtAuthenticationFilter(null, null, null);
+        user = UserAccount.builder()
+                .id(42L)
+                .name("벤치마크")
+                .email("bench@example.com")
+                .role(Role.STUDENT)
+                .build();
+        withRoles = Map.of("sub", "42", "roles", List.of("student", "leader"));
+        withoutRoles = Map.of("sub", "42", "email", "bench@example.com");
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> rolesClaim() {
+        return filter.buildAuthorities(user, withRoles);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> entityRole() {
+        return filter.buildAuthorities(user, withoutRoles);
+    }
+}
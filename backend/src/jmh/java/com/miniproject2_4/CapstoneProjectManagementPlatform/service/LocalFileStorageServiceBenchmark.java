@@ -0,0 +1,47 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/** 파일 다운로드/업로드마다 거치는 key → 로컬 경로 변환 (정규화 + 루트 이탈 검사) */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class LocalFileStorageServiceBenchmark {
+
+    @Param({
+            "projects/12/docs/1726123074963_report.pdf",
+            "/projects/12/docs/../docs/1726123074963_report.pdf"
+    })
+    public String key;
+
+    private Path rootDir;
+    private LocalFileStorageService storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        rootDir = Files.createTempDirectory("jmh-uploads");
+        // resolveKeyToPath 는 썸네일 서비스를 쓰지 않는다
+        storage = new LocalFileStorageService(null);
+        ReflectionTestUtils.setField(storage, "rootDirStr", rootDir.toString());
+        storage.init();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(rootDir);
+    }
+
+    @Benchmark
+    public Path resolveKeyToPath() {
+        return storage.resolveKeyToPath(key);
+    }
+}
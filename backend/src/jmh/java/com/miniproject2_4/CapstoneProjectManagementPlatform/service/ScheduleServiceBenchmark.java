@@ -0,0 +1,105 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.ScheduleDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Assignment;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.AssignmentStatus;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Event;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EventType;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Project;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.AssignmentRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.EventRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 조회의 DTO 매핑 + 정렬 (listSchedulesInRange).
+ * 저장소는 미리 만든 목록을 돌려주는 고정 스텁이라 DB 비용은 빠지고 서비스 코드만 측정된다.
+ * 입력은 고정 시드로 만들어 실행마다 같다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ScheduleServiceBenchmark {
+
+    private static final long PROJECT_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2025, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 9, 30);
+
+    /** 이벤트 수 = 과제 수 */
+    @Param({"20", "200"})
+    public int size;
+
+    private ScheduleService scheduleService;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Project project = Project.builder().id(PROJECT_ID).title("캡스톤 프로젝트").build();
+        EventType[] eventTypes = EventType.values();
+        AssignmentStatus[] statuses = AssignmentStatus.values();
+
+        List<Event> events = new ArrayList<>(size);
+        List<Assignment> assignments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = FROM.atStartOfDay()
+                    .plusDays(random.nextInt(30))
+                    .plusMinutes(30L * random.nextInt(48));
+            events.add(Event.builder()
+                    .id(1000L + i)
+                    .project(project)
+                    .title("회의 " + i)
+                    .startAt(start)
+                    .endAt(start.plusHours(1))
+                    .location(i % 3 == 0 ? null : "공학관 " + (300 + i % 20))
+                    .type(eventTypes[random.nextInt(eventTypes.length)])
+                    .build());
+            // 과제 마감은 앞뒤 한 달로 흩어 두어 기간 밖 필터링 경로도 탄다
+            assignments.add(Assignment.builder()
+                    .id(2000L + i)
+                    .project(project)
+                    .title("과제 " + i)
+                    .dueDate(FROM.atStartOfDay().plusDays(random.nextInt(90) - 30).withHour(23).withMinute(59))
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .build());
+        }
+        assignments.sort((a, b) -> a.getDueDate().compareTo(b.getDueDate()));
+
+        scheduleService = new ScheduleService(
+                stub(AssignmentRepository.class, Map.of("findByProject_IdOrderByDueDateAsc", assignments)),
+                stub(EventRepository.class, Map.of("findInRange", events)),
+                stub(ProjectRepository.class, Map.of("findById", Optional.of(project))));
+    }
+
+    @Benchmark
+    public List<ScheduleDto> eventsAndAssignments() {
+        return scheduleService.listSchedulesInRange(PROJECT_ID, null, FROM, TO, false);
+    }
+
+    @Benchmark
+    public List<ScheduleDto> eventsOnly() {
+        return scheduleService.listSchedulesInRange(PROJECT_ID, null, FROM, TO, true);
+    }
+
+    /** 메서드 이름 → 고정 반환값 (그 외 호출은 실패시킨다) */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object answer = answers.get(method.getName());
+            if (answer == null) throw new UnsupportedOperationException(method.getName());
+            return answer;
+        });
+    }
+}
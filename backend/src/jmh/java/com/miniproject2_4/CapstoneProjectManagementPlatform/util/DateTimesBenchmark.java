@@ -0,0 +1,29 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/** parseFlexible 의 입력 형식별 비용 (앞 단계 파서가 실패할수록 예외 생성 비용이 쌓인다) */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Duser.timezone=Asia/Seoul"})
+@State(Scope.Benchmark)
+public class DateTimesBenchmark {
+
+    @Param({
+            "2025-09-12T15:37:54.963Z",
+            "2025-09-12T15:37:54+09:00",
+            "2025-09-12T15:37:54",
+            "2025-09-12"
+    })
+    public String input;
+
+    @Benchmark
+    public LocalDateTime parseFlexible() {
+        return DateTimes.parseFlexible(input);
+    }
+}
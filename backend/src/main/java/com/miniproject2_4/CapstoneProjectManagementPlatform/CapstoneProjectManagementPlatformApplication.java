@@ -4,8 +4,10 @@ package com.miniproject2_4.CapstoneProjectManagementPlatform;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class CapstoneProjectManagementPlatformApplication {
     public static void main(String[] args) {
@@ -0,0 +1,110 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 (Caffeine JCache, 프로세스 로컬).
+ * - 요청마다 id 로 반복 조회되는 참조 데이터(사용자/팀/프로젝트/팀 멤버)만 캐시한다.
+ * - 영역마다 최대 항목 수와 쓰기 후 만료 시간을 명시한다 (app.cache.entity.{영역}.max-size / ttl).
+ *   설정에 없는 영역은 만들지 않으며, hibernate.javax.cache.missing_cache_strategy=fail 로 누락을 기동 시 잡는다.
+ * - 영역별 적중/미스/축출 수와 적중률(cache.hit.ratio)을 Micrometer 로 내보낸다.
+ */
+@Configuration
+@Log4j2
+public class EntityCacheConfig {
+
+    public static final String USER_REGION = "entity.user";
+    public static final String TEAM_REGION = "entity.team";
+    public static final String PROJECT_REGION = "entity.project";
+    public static final String TEAM_MEMBER_REGION = "entity.team-member";
+
+    /** 영역별 기본 정책 */
+    private record Policy(long maxSize, Duration ttl) {}
+
+    private static final Map<String, Policy> DEFAULTS = new LinkedHashMap<>();
+    static {
+        DEFAULTS.put(USER_REGION, new Policy(10_000, Duration.ofMinutes(30)));
+        DEFAULTS.put(TEAM_REGION, new Policy(5_000, Duration.ofMinutes(30)));
+        DEFAULTS.put(PROJECT_REGION, new Policy(5_000, Duration.ofMinutes(10)));
+        DEFAULTS.put(TEAM_MEMBER_REGION, new Policy(50_000, Duration.ofMinutes(10)));
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(Environment env) {
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        DEFAULTS.forEach((region, def) -> {
+            String prefix = "app.cache.entity." + region.substring("entity.".length());
+            long maxSize = env.getProperty(prefix + ".max-size", Long.class, def.maxSize());
+            Duration ttl = env.getProperty(prefix + ".ttl", Duration.class, def.ttl());
+
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(Math.max(1, maxSize)));
+            config.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            // Hibernate 는 분해된 불변 상태를 넣으므로 직렬화 복사가 필요 없다
+            config.setStoreByValue(false);
+            config.setStatisticsEnabled(true);
+            if (manager.getCache(region) == null) manager.createCache(region, config);
+            log.info("Entity cache region {}: maxSize={}, ttl={}", region, maxSize, ttl);
+        });
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return props -> props.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (String region : DEFAULTS.keySet()) {
+                Cache<Object, Object> cache = entityCacheManager.getCache(region);
+                if (cache == null) continue;
+                Tags tags = Tags.of("cacheManager", "hibernate");
+                JCacheMetrics.monitor(registry, cache, tags);
+                Gauge.builder("cache.hit.ratio", server, s -> hitRatio(s, region))
+                        .description("2차 캐시 적중률 (0~1, 기동 이후 누적)")
+                        .tags(tags.and("cache", region))
+                        .register(registry);
+            }
+        };
+    }
+
+    /** JCache 통계 MXBean 의 CacheHitPercentage (조회 전이면 NaN) */
+    private static double hitRatio(MBeanServer server, String region) {
+        try {
+            ObjectName pattern = new ObjectName("javax.cache:type=CacheStatistics,CacheManager=*,Cache=" + region);
+            for (ObjectName name : server.queryNames(pattern, null)) {
+                if (server.getAttribute(name, "CacheHitPercentage") instanceof Number n) {
+                    return n.doubleValue() / 100.0;
+                }
+            }
+        } catch (Exception ignored) {
+            // 통계 MXBean 이 아직 없거나 조회 실패 → 값 없음
+        }
+        return Double.NaN;
+    }
+}
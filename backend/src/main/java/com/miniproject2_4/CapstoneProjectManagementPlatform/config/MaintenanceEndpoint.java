@@ -0,0 +1,40 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.config;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.MaintenanceScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/maintenance: 정리 작업 상태 조회와 즉시 실행 (관리자 전용, SecurityConfig 참고).
+ * - GET  /actuator/maintenance         전체 상태
+ * - GET  /actuator/maintenance/{job}   작업 하나 (없으면 404)
+ * - POST /actuator/maintenance/{job}   즉시 실행 요청 (백그라운드 실행, 요청 시점 상태를 바로 반환)
+ */
+@Component
+@Endpoint(id = "maintenance")
+@RequiredArgsConstructor
+public class MaintenanceEndpoint {
+
+    private final MaintenanceScheduler maintenanceScheduler;
+
+    @ReadOperation
+    public List<MaintenanceScheduler.JobStatus> jobs() {
+        return maintenanceScheduler.statuses();
+    }
+
+    @ReadOperation
+    public MaintenanceScheduler.JobStatus job(@Selector String job) {
+        return maintenanceScheduler.status(job);
+    }
+
+    @WriteOperation
+    public MaintenanceScheduler.JobStatus run(@Selector String job) {
+        return maintenanceScheduler.runNow(job);
+    }
+}
@@ -0,0 +1,90 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.config;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.RefreshTokenService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.TokenRevocationService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.EmailOutboxService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.LocalFileStorageService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.MaintenanceJob;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.NotificationArchiveService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.PasswordResetService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.UploadGarbageCollector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 정리 작업 등록. 각 작업의 본문은 해당 서비스에 있고 여기서는 이름과 기본 간격만 정한다.
+ * 삭제 청크 크기는 app.maintenance.batch-size (세션/폐기 목록은 기존 설정을 따름).
+ */
+@Configuration
+public class MaintenanceJobConfig {
+
+    @Value("${app.maintenance.batch-size:1000}")
+    private int batchSize;
+
+    /** 이보다 오래된 .part 파일은 중단된 업로드의 잔재로 본다 */
+    @Value("${app.maintenance.part-files.max-age:6h}")
+    private Duration partFileMaxAge;
+
+    /** 고아 업로드 정리 간격 (app.maintenance.jobs.upload-gc.interval 로도 덮어쓸 수 있음) */
+    @Value("${app.upload.gc.interval:10m}")
+    private Duration uploadGcInterval;
+
+    @Bean
+    public MaintenanceJob passwordResetTokenCleanupJob(PasswordResetService passwordResetService) {
+        return MaintenanceJob.of("password-reset-tokens", Duration.ofHours(1),
+                () -> passwordResetService.cleanupExpiredTokens(batchSize));
+    }
+
+    @Bean
+    public MaintenanceJob authSessionPurgeJob(RefreshTokenService refreshTokenService) {
+        return MaintenanceJob.of("auth-sessions", Duration.ofHours(1), refreshTokenService::purgeExpired);
+    }
+
+    @Bean
+    public MaintenanceJob tokenRevocationPurgeJob(TokenRevocationService tokenRevocationService) {
+        return MaintenanceJob.of("token-revocations", Duration.ofMinutes(30), tokenRevocationService::purgeExpired);
+    }
+
+    @Bean
+    public MaintenanceJob emailOutboxPurgeJob(EmailOutboxService emailOutboxService) {
+        return MaintenanceJob.of("email-outbox", Duration.ofHours(6),
+                () -> emailOutboxService.purgeFinished(batchSize));
+    }
+
+    @Bean
+    public MaintenanceJob notificationArchiveJob(NotificationArchiveService notificationArchiveService) {
+        return MaintenanceJob.of("notification-archive", Duration.ofHours(6),
+                () -> notificationArchiveService.archiveRead(batchSize));
+    }
+
+    @Bean
+    public MaintenanceJob notificationArchivePartitionJob(NotificationArchiveService notificationArchiveService) {
+        return MaintenanceJob.of("notification-archive-partitions", Duration.ofDays(1),
+                notificationArchiveService::ensureMonthlyPartitions);
+    }
+
+    @Bean
+    public MaintenanceJob notificationArchiveRetentionJob(NotificationArchiveService notificationArchiveService) {
+        return MaintenanceJob.of("notification-archive-retention", Duration.ofDays(1),
+                () -> notificationArchiveService.purgeExpired(batchSize));
+    }
+
+    @Bean
+    public MaintenanceJob uploadGarbageCollectionJob(UploadGarbageCollector uploadGarbageCollector) {
+        return MaintenanceJob.of("upload-gc", uploadGcInterval, uploadGarbageCollector::run);
+    }
+
+    @Bean
+    public MaintenanceJob uploadTicketPurgeJob(LocalFileStorageService storage) {
+        return MaintenanceJob.of("upload-tickets", Duration.ofMinutes(10), storage::purgeExpiredTickets);
+    }
+
+    @Bean
+    public MaintenanceJob partFilePurgeJob(LocalFileStorageService storage) {
+        return MaintenanceJob.of("upload-part-files", Duration.ofHours(1),
+                () -> storage.purgeStalePartFiles(partFileMaxAge, batchSize));
+    }
+}
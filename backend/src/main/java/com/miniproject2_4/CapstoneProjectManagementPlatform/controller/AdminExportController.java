@@ -0,0 +1,45 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.AdminExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/export") // /api/admin/export (ADMIN 전용: SecurityConfig)
+public class AdminExportController {
+
+    private final AdminExportService exportService;
+
+    /**
+     * 전체 데이터 내보내기: /admin/export/{projects|assignments|events|users}?format=csv|ndjson
+     * 응답 본문에 바로 스트리밍한다.
+     */
+    @GetMapping("/{kind}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String kind,
+                                                        @RequestParam(name = "format", required = false) String format) {
+        AdminExportService.Kind k = AdminExportService.Kind.parse(kind);
+        if (k == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "UNKNOWN_EXPORT");
+        AdminExportService.Format f = AdminExportService.Format.parse(format);
+        if (f == null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "UNSUPPORTED_FORMAT");
+
+        String ext = f == AdminExportService.Format.CSV ? "csv" : "ndjson";
+        String filename = k.name().toLowerCase(Locale.ROOT) + "-" + LocalDate.now() + "." + ext;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentDisposition(ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build());
+        headers.setContentType(f == AdminExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8));
+
+        StreamingResponseBody body = out -> exportService.export(k, f, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,87 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.RosterImportDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.RosterImportService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.CsvReader;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.MultipartStreamReader;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/import") // /api/admin/import (ADMIN 전용: SecurityConfig)
+public class AdminImportController {
+
+    private final RosterImportService rosterImportService;
+
+    /** defaultPassword 필드 최대 길이 */
+    private static final int MAX_FIELD_BYTES = 1024;
+
+    /**
+     * 명단 CSV 일괄 등록.
+     * - text/csv 본문: 기본 비밀번호는 X-Default-Password 헤더
+     * - multipart/form-data: defaultPassword 필드(선택, file 보다 앞) + file 파트
+     * 본문은 스트리밍으로 읽으며, 결과로 행별 오류 보고서를 돌려준다.
+     *
+     * @param charset CSV 인코딩 (엑셀 한글 CSV 는 MS949)
+     */
+    @PostMapping("/roster")
+    public RosterImportDto.Report importRoster(HttpServletRequest request,
+                                               @RequestHeader(name = "X-Default-Password", required = false) String defaultPasswordHeader,
+                                               @RequestParam(name = "charset", defaultValue = "UTF-8") String charset) throws IOException {
+        Charset cs = resolveCharset(charset);
+        String boundary = MultipartStreamReader.boundaryOf(request.getContentType());
+
+        try {
+            if (boundary == null) {
+                return rosterImportService.importRoster(reader(request.getInputStream(), cs), defaultPasswordHeader);
+            }
+
+            String defaultPassword = defaultPasswordHeader;
+            try (MultipartStreamReader parts = new MultipartStreamReader(request.getInputStream(), boundary)) {
+                MultipartStreamReader.Part part;
+                while ((part = parts.next()) != null) {
+                    if ("defaultPassword".equals(part.name()) && part.filename() == null) {
+                        defaultPassword = readSmallField(part.body());
+                    } else if ("file".equals(part.name())) {
+                        return rosterImportService.importRoster(reader(part.body(), cs), defaultPassword);
+                    }
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "FILE_REQUIRED");
+        } catch (CsvReader.MalformedCsvException | MultipartStreamReader.MalformedMultipartException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_CSV: " + e.getMessage());
+        }
+    }
+
+    private static BufferedReader reader(InputStream in, Charset cs) {
+        return new BufferedReader(new InputStreamReader(in, cs), 64 * 1024);
+    }
+
+    private static String readSmallField(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes(MAX_FIELD_BYTES + 1);
+        if (bytes.length > MAX_FIELD_BYTES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "FIELD_TOO_LARGE");
+        }
+        String s = new String(bytes, StandardCharsets.UTF_8).trim();
+        return s.isEmpty() ? null : s;
+    }
+
+    private static Charset resolveCharset(String name) {
+        try {
+            return Charset.forName(name);
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "UNSUPPORTED_CHARSET");
+        }
+    }
+}
@@ -6,7 +6,6 @@ import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Assignment;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.AssignmentStatus;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.service.AssignmentService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -66,17 +65,13 @@ public class AssignmentController {
 
     /** POST /api/projects/{projectId}/assignments/status-bulk */
     @PostMapping("/status-bulk")
-    @Transactional
-    public void bulkChange(@PathVariable Long projectId, @RequestBody BulkReq req) {
-        if (req.assignmentIds() == null || req.assignmentIds().isEmpty()) return;
-        AssignmentStatus target = req.status() != null ? req.status() : AssignmentStatus.COMPLETED;
-        for (Long id : req.assignmentIds()) {
-            try {
-                assignmentService.changeStatus(projectId, id, target);
-            } catch (IllegalArgumentException ignore) {
-                // 다른 프로젝트 소속/없는 ID 등은 무시
-            }
+    public AssignmentService.BulkStatusResult bulkChange(@PathVariable Long projectId, @RequestBody BulkReq req) {
+        if (req.assignmentIds() == null || req.assignmentIds().isEmpty()) {
+            return new AssignmentService.BulkStatusResult(List.of(), List.of());
         }
+        AssignmentStatus target = req.status() != null ? req.status() : AssignmentStatus.COMPLETED;
+        // 다른 프로젝트 소속/없는 ID 는 변경하지 않고 notFoundIds 로 돌려준다
+        return assignmentService.changeStatusBulk(projectId, req.assignmentIds(), target);
     }
 
     /** PATCH /api/projects/{projectId}/assignments/{id}/request-review */
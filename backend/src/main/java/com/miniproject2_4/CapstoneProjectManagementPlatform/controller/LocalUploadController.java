@@ -1,12 +1,12 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.service.LocalFileStorageService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.MultipartStreamReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,44 +27,70 @@ public class LocalUploadController {
 
     private final LocalFileStorageService storage;
 
+    /** 멀티파트 경계/헤더 여유분 */
+    private static final long MULTIPART_OVERHEAD_BYTES = 64 * 1024;
+
+    /**
+     * 멀티파트 업로드: 요청 본문을 직접 스트리밍 파싱해 최종 저장 위치로 바로 쓴다.
+     * (MultipartFile 은 컨테이너가 임시 파일로 한 번 더 쓰므로 사용하지 않음)
+     */
     @PostMapping("/uploads")
-    public Map<String, Object> upload(@RequestParam("file") MultipartFile file,
+    public Map<String, Object> upload(HttpServletRequest request,
                                       Authentication auth) throws IOException {
         if (auth == null || !auth.isAuthenticated()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED");
         }
-        if (file == null || file.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "FILE_REQUIRED");
+        String boundary = MultipartStreamReader.boundaryOf(request.getContentType());
+        if (boundary == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "MULTIPART_REQUIRED");
+        }
+        // 선언된 길이만으로도 초과가 확실하면 본문을 읽기 전에 거절
+        if (request.getContentLengthLong() > storage.getMaxUploadBytes() + MULTIPART_OVERHEAD_BYTES) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "FILE_TOO_LARGE");
         }
 
         Long userId = extractUserId(auth);
 
-        String original = file.getOriginalFilename();
-        String key = buildKey(original);
+        try (MultipartStreamReader reader = new MultipartStreamReader(request.getInputStream(), boundary)) {
+            MultipartStreamReader.Part part;
+            while ((part = reader.next()) != null) {
+                // "file" 파트만 저장, 나머지 필드는 건너뜀
+                if (!"file".equals(part.name()) || part.filename() == null) continue;
 
-        Path target = storage.resolveKeyToPath(key);
-        Files.createDirectories(target.getParent());
-        try (InputStream in = file.getInputStream()) {
-            Files.copy(in, target);
-        }
+                String original = part.filename();
+                String key = buildKey(original);
+                long size = storage.storeStream(key, part.body());
+
+                Path target = storage.resolveKeyToPath(key);
+                if (size == 0) {
+                    Files.deleteIfExists(target);
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "FILE_REQUIRED");
+                }
+
+                String contentType = part.contentType();
+                if (contentType == null) {
+                    try {
+                        contentType = Files.probeContentType(target);
+                    } catch (Exception ignore) {
+                        contentType = null;
+                    }
+                    if (contentType == null) contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+                }
 
-        String contentType = file.getContentType();
-        if (contentType == null) {
-            try {
-                contentType = Files.probeContentType(target);
-            } catch (Exception ignore) {
-                contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+                Map<String, Object> resp = new HashMap<>();
+                String encodedKey = URLEncoder.encode(key, StandardCharsets.UTF_8).replace("+", "%20");
+                resp.put("objectUrl", "/api/files?key=" + encodedKey);
+                resp.put("key", key);
+                resp.put("filename", original);
+                resp.put("size", size);
+                resp.put("contentType", contentType);
+                return resp;
             }
+        } catch (MultipartStreamReader.MalformedMultipartException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "MALFORMED_MULTIPART");
         }
 
-        Map<String, Object> resp = new HashMap<>();
-        String encodedKey = URLEncoder.encode(key, StandardCharsets.UTF_8).replace("+", "%20");
-        resp.put("objectUrl", "/api/files?key=" + encodedKey);
-        resp.put("key", key);
-        resp.put("filename", original);
-        resp.put("size", file.getSize());
-        resp.put("contentType", contentType);
-        return resp;
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "FILE_REQUIRED");
     }
 
     private static String buildKey(String filename) {
@@ -139,10 +165,42 @@ public class LocalUploadController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 썸네일: /api/files/thumb?key=원본key
+     * - 아직 생성되지 않았으면 생성을 요청하고 404 (클라이언트는 아이콘 등으로 대체)
+     * - 작은 JPEG 라 Range 는 지원하지 않는다 (Accept-Ranges 를 보내지 않음)
+     */
+    @GetMapping("/files/thumb")
+    public ResponseEntity<?> getThumbnail(@RequestParam("key") String key) throws IOException {
+        if (!storage.isThumbnailSupported(key)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not found");
+        }
+        Path thumb = storage.resolveThumbnailPath(key);
+        if (!Files.exists(thumb)) {
+            if (Files.exists(storage.resolveKeyToPath(key))) {
+                storage.requestThumbnail(key);
+            }
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not found");
+        }
+
+        String filename = thumb.getFileName().toString();
+        String encoded = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_DISPOSITION,
+                "inline; filename=\"" + asciiFallback(filename) + "\"; filename*=UTF-8''" + encoded);
+        headers.setContentType(MediaType.IMAGE_JPEG);
+        headers.setContentLength(Files.size(thumb));
+        return new ResponseEntity<>(new InputStreamResource(Files.newInputStream(thumb)), headers, HttpStatus.OK);
+    }
+
     /** 다운로드/열람: /api/files?key=... */
     @GetMapping("/files")
     public ResponseEntity<?> getFile(@RequestParam("key") String key,
                                      @RequestHeader(value = "Range", required = false) String rangeHeader) throws IOException {
+        if (storage.isInternalKey(key)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not found");
+        }
         Path path = storage.resolveKeyToPath(key);
         if (!Files.exists(path)) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not found");
@@ -1,15 +1,20 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.CursorPage;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Notification;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.NotificationArchive;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.NotificationArchiveService;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +24,7 @@ import java.util.Map;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationArchiveService notificationArchiveService;
     private final ObjectMapper om = new ObjectMapper();
 
     private static final ZoneId ZONE = ZoneId.systemDefault();
@@ -32,6 +38,17 @@ public class NotificationController {
         return notificationService.list(me.getId(), unreadOnly).stream().map(this::toDto).toList();
     }
 
+    /** 보관된(읽은 지 오래된) 알림: id 커서 페이지 */
+    @GetMapping("/archive")
+    public CursorPage<Map<String, Object>> archive(
+            @AuthenticationPrincipal UserAccount me,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        CursorPage<NotificationArchive> page = notificationArchiveService.page(me.getId(), beforeId, limit);
+        return new CursorPage<>(page.items().stream().map(this::toArchiveDto).toList(), page.nextCursor());
+    }
+
     @PostMapping("/{id}/read")
     public void markRead(@PathVariable Long id, @AuthenticationPrincipal UserAccount me) {
         notificationService.markRead(me.getId(), id);
@@ -60,4 +77,29 @@ public class NotificationController {
                 "ts", ts != null ? ts : 0L                               // epoch ms (정렬용)
         );
     }
+
+    /** 보관 알림: 목록과 같은 모양 + archivedAt (body/payload 가 null 일 수 있어 LinkedHashMap) */
+    private Map<String, Object> toArchiveDto(NotificationArchive a) {
+        Object payload = null;
+        try {
+            payload = (a.getPayload() != null && !a.getPayload().isBlank())
+                    ? om.readValue(a.getPayload(), Map.class) : null;
+        } catch (Exception ignored) {}
+
+        Map<String, Object> dto = new LinkedHashMap<>();
+        dto.put("id", a.getId());
+        dto.put("type", a.getType().name());
+        dto.put("title", a.getTitle());
+        dto.put("body", a.getBody());
+        dto.put("payload", payload);
+        dto.put("isRead", true);
+        dto.put("createdAt", isoOrEmpty(a.getCreatedAt()));
+        dto.put("ts", a.getCreatedAt() != null ? a.getCreatedAt().atZone(ZONE).toInstant().toEpochMilli() : 0L);
+        dto.put("archivedAt", isoOrEmpty(a.getArchivedAt()));
+        return dto;
+    }
+
+    private static String isoOrEmpty(LocalDateTime t) {
+        return t != null ? ISO_OFFSET.format(t.atZone(ZONE)) : "";
+    }
 }
@@ -3,21 +3,30 @@ package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.ProjectDocumentDto;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.ProjectDocument;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
-import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
-import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TeamMemberRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.DocumentExportService;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.service.ProjectDocumentService;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.service.StorageService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ProjectAccessCache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Hibernate;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
@@ -27,14 +36,15 @@ import java.util.Map;
 public class ProjectDocumentController {
 
     private final ProjectDocumentService service;
-    private final ProjectRepository projectRepository;
-    private final TeamMemberRepository teamMemberRepository;
+    private final ProjectAccessCache accessCache;
     private final StorageService storageService;
+    private final DocumentExportService exportService;
 
     @PersistenceContext
     private EntityManager em;
 
     private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String ACCESS_ATTR = ProjectDocumentController.class.getName() + ".access.";
 
     private UserAccount ensureUser(Authentication auth) {
         if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof UserAccount)) {
@@ -49,32 +59,38 @@ public class ProjectDocumentController {
         return auth.getAuthorities().stream().anyMatch(a -> target.equals(a.getAuthority()));
     }
 
-    private boolean isProjectMember(Long projectId, Long userId) {
-        var p = projectRepository.findById(projectId).orElse(null);
-        if (p == null || p.getTeam() == null) return false;
-        return teamMemberRepository.existsByTeam_IdAndUser_Id(p.getTeam().getId(), userId);
+    /** (프로젝트, 현재 사용자) 권한 재료. exists 는 프로젝트 존재 여부 */
+    private record Access(boolean admin, boolean professorRole, boolean member, boolean assignedProfessor, boolean exists) {
+        boolean professorOfProject() { return professorRole && assignedProfessor; }
+        boolean canView() { return admin || professorOfProject() || member; }
     }
 
-    private boolean isAssignedProfessor(Long projectId, Long userId) {
-        var p = projectRepository.findById(projectId).orElse(null);
-        if (p == null || p.getProfessor() == null) return false;
-        return p.getProfessor().getId().equals(userId);
+    /**
+     * 권한 재료를 한 번에 조회 (ProjectAccessCache → 미스 시 findAccessFlags 한 번).
+     * 같은 요청 안에서는 요청 속성에 memo 해 두고 재사용한다.
+     */
+    private Access access(Long projectId, Authentication auth) {
+        UserAccount ua = ensureUser(auth);
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        String key = ACCESS_ATTR + projectId;
+        if (attrs != null && attrs.getAttribute(key, RequestAttributes.SCOPE_REQUEST) instanceof Access cached) {
+            return cached;
+        }
+        ProjectAccessCache.Decision d = accessCache.decision(projectId, ua.getId());
+        Access a = new Access(hasRole(auth, "ADMIN"), hasRole(auth, "PROFESSOR"),
+                d.member(), d.professor(), d.teamId() != null);
+        if (attrs != null) attrs.setAttribute(key, a, RequestAttributes.SCOPE_REQUEST);
+        return a;
     }
 
     /** 파일 편집 권한: 팀 멤버 OR (담당 교수) OR 관리자 */
     private boolean canEditFiles(Long projectId, Authentication auth) {
-        if (hasRole(auth, "ADMIN")) return true;
-        UserAccount ua = ensureUser(auth);
-        if (hasRole(auth, "PROFESSOR") && isAssignedProfessor(projectId, ua.getId())) return true;
-        return isProjectMember(projectId, ua.getId());
+        return access(projectId, auth).canView();
     }
 
     /** 보기 권한: 팀 멤버 OR (담당 교수) OR 관리자 */
     private boolean canViewProject(Long projectId, Authentication auth) {
-        if (hasRole(auth, "ADMIN")) return true;
-        UserAccount ua = ensureUser(auth);
-        if (hasRole(auth, "PROFESSOR") && isAssignedProfessor(projectId, ua.getId())) return true;
-        return isProjectMember(projectId, ua.getId());
+        return access(projectId, auth).canView();
     }
 
     private ProjectDocumentDto map(ProjectDocument d) {
@@ -171,6 +187,42 @@ public class ProjectDocumentController {
         service.delete(docId);
     }
 
+    /* ===============================
+     * ZIP 내보내기 (스트리밍)
+     * =============================== */
+
+    /** 프로젝트 문서 일괄 다운로드: 보기 권한과 동일 */
+    @GetMapping("/projects/{projectId}/documents/export.zip")
+    public ResponseEntity<StreamingResponseBody> exportZip(@PathVariable Long projectId, Authentication auth) {
+        Access access = access(projectId, auth);
+        if (!access.canView()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "NOT_PROJECT_MEMBER");
+        }
+        if (!access.exists()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "PROJECT_NOT_FOUND");
+        }
+        StreamingResponseBody body = out -> exportService.writeProjectArchive(projectId, out);
+        return zipResponse("project-" + projectId + "-documents.zip", body);
+    }
+
+    /** 전체 프로젝트 문서 일괄 다운로드 (관리자) */
+    @GetMapping("/admin/documents/export.zip")
+    public ResponseEntity<StreamingResponseBody> exportAllZip(Authentication auth) {
+        ensureUser(auth);
+        if (!hasRole(auth, "ADMIN")) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "ADMIN_ONLY");
+        }
+        StreamingResponseBody body = exportService::writeAllProjectsArchive;
+        return zipResponse("all-projects-documents-" + LocalDate.now() + ".zip", body);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> zipResponse(String filename, StreamingResponseBody body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentDisposition(ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build());
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
     /* ===============================
      * 프리사인 업로드 초기화
      * =============================== */
@@ -214,14 +266,14 @@ public class ProjectDocumentController {
 
     @GetMapping("/projects/{projectId}/me/permissions")
     public ProjectPermissions myPermissions(@PathVariable Long projectId, Authentication auth) {
-        UserAccount ua = ensureUser(auth);
+        Access access = access(projectId, auth);
 
-        boolean isProfessor = hasRole(auth, "PROFESSOR");
-        boolean isAdmin = hasRole(auth, "ADMIN");
-        boolean isMember = isProjectMember(projectId, ua.getId());
-        boolean isProfessorOfProject = isProfessor && isAssignedProfessor(projectId, ua.getId());
+        boolean isProfessor = access.professorRole();
+        boolean isAdmin = access.admin();
+        boolean isMember = access.member();
+        boolean isProfessorOfProject = access.professorOfProject();
 
-        boolean canView = isMember || isProfessorOfProject || isAdmin;
+        boolean canView = access.canView();
 
         // 파일 편집: 팀 멤버 OR (담당 교수) OR 관리자
         boolean canCreateDoc = isMember || isProfessorOfProject || isAdmin;
@@ -1,20 +1,29 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.OverviewRevisionDto;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.ProjectOverviewDto;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TeamMemberRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.OverviewRevisionService;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.service.ProjectOverviewService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.LineDiff;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ProjectAccessGuard;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.LazyInitializationException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 @RestController
@@ -24,6 +33,8 @@ public class ProjectOverviewController {
     private final ProjectOverviewService service;
     private final ProjectRepository projectRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final OverviewRevisionService revisionService;
+    private final ProjectAccessGuard accessGuard;
 
     private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
@@ -74,10 +85,43 @@ public class ProjectOverviewController {
         );
     }
 
+    /**
+     * 개요 조회. ETag(버전+제안 상태)가 같으면 본문(LONGTEXT)을 읽지 않고 304.
+     */
     @GetMapping("/projects/{projectId}/overview")
     @Transactional(readOnly = true)
-    public ProjectOverviewDto get(@PathVariable Long projectId) {
-        return map(service.getOrInit(projectId));
+    public ResponseEntity<ProjectOverviewDto> get(@PathVariable Long projectId, WebRequest request) {
+        String etag = service.currentEtag(projectId);
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        var ov = service.getOrInit(projectId);
+        String fresh = ProjectOverviewService.etagOf(ov.getVersion(), ov.getStatus(), ov.getPendingAt());
+        return ResponseEntity.ok()
+                .eTag(fresh)
+                .cacheControl(CacheControl.noCache())
+                .body(map(ov));
+    }
+
+    /**
+     * 게시본 HTML (서버 렌더링, (projectId, version) 캐시).
+     * ETag 는 게시 버전 기준이므로 제안 제출/반려로는 바뀌지 않는다.
+     */
+    @GetMapping(value = "/projects/{projectId}/overview/html", produces = "text/html;charset=UTF-8")
+    @Transactional(readOnly = true)
+    public ResponseEntity<String> getHtml(@PathVariable Long projectId, WebRequest request) {
+        Integer version = service.currentVersion(projectId);
+        if (version == null) {
+            version = service.getOrInit(projectId).getVersion();
+        }
+        String etag = ProjectOverviewService.htmlEtagOf(projectId, version);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(service.renderedHtml(projectId, version));
     }
 
     public record OverviewBody(String markdown) {}
@@ -125,4 +169,47 @@ public class ProjectOverviewController {
         }
         return map(service.reject(projectId));
     }
-}
\ No newline at end of file
+
+    /* ===== 게시본 이력 ===== */
+
+    @GetMapping("/projects/{projectId}/overview/revisions")
+    public List<OverviewRevisionDto.Item> revisions(@PathVariable Long projectId, Authentication auth) {
+        accessGuard.assertCanViewProject(projectId, ensureUser(auth));
+        return revisionService.list(projectId).stream()
+                .map(r -> new OverviewRevisionDto.Item(
+                        r.getVersion(),
+                        r.getKind().name(),
+                        r.getCreatedAt() == null ? null : r.getCreatedAt().format(ISO),
+                        r.getEditorId() == null ? null : new ProjectOverviewDto.SimpleUser(r.getEditorId(), r.getEditorName())))
+                .toList();
+    }
+
+    @GetMapping("/projects/{projectId}/overview/revisions/{version}")
+    public OverviewRevisionDto.Content revision(@PathVariable Long projectId, @PathVariable int version, Authentication auth) {
+        accessGuard.assertCanViewProject(projectId, ensureUser(auth));
+        return new OverviewRevisionDto.Content(version, revisionService.markdownAt(projectId, version));
+    }
+
+    /** 두 게시 버전 간 줄 단위 diff (같은 줄은 개수만 반환) */
+    @GetMapping("/projects/{projectId}/overview/diff")
+    public OverviewRevisionDto.Diff diff(@PathVariable Long projectId,
+                                         @RequestParam int from,
+                                         @RequestParam int to,
+                                         Authentication auth) {
+        accessGuard.assertCanViewProject(projectId, ensureUser(auth));
+        List<LineDiff.Op> ops = revisionService.diff(projectId, from, to);
+        int added = 0, removed = 0;
+        List<OverviewRevisionDto.Chunk> chunks = new ArrayList<>(ops.size());
+        for (LineDiff.Op op : ops) {
+            int count = op.lines().size();
+            switch (op.type()) {
+                case INSERT -> added += count;
+                case DELETE -> removed += count;
+                default -> { }
+            }
+            chunks.add(new OverviewRevisionDto.Chunk(op.type().name(), count,
+                    op.type() == LineDiff.Type.EQUAL ? List.of() : op.lines()));
+        }
+        return new OverviewRevisionDto.Diff(from, to, added, removed, chunks);
+    }
+}
@@ -0,0 +1,51 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.SearchDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ProjectAccessGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndexService searchIndex;
+    private final ProjectAccessGuard accessGuard;
+
+    private UserAccount ensureUser(Authentication auth) {
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof UserAccount)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+        }
+        return (UserAccount) auth.getPrincipal();
+    }
+
+    /** 통합 검색: 조회 권한이 있는 프로젝트의 결과만 반환 */
+    @GetMapping("/search")
+    public SearchDto.Response search(@RequestParam("q") String q,
+                                     @RequestParam(name = "limit", defaultValue = "20") int limit,
+                                     Authentication auth) {
+        UserAccount user = ensureUser(auth);
+        String query = q == null ? "" : q.trim();
+        if (query.isEmpty()) {
+            return new SearchDto.Response(query, List.of(), 0);
+        }
+        if (query.length() > 200) query = query.substring(0, 200);
+        int size = Math.max(1, Math.min(limit, 100));
+
+        long started = System.currentTimeMillis();
+        // 같은 프로젝트에 대한 권한 판정은 요청 안에서 한 번만
+        Map<Long, Boolean> visible = new HashMap<>();
+        List<SearchDto.Hit> hits = searchIndex.search(query, size,
+                projectId -> visible.computeIfAbsent(projectId, id -> accessGuard.canViewProject(id, user)));
+        return new SearchDto.Response(query, hits, System.currentTimeMillis() - started);
+    }
+}
@@ -1,5 +1,6 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.CursorPage;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.MemberReq;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.TeamListDto;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.UserDto;
@@ -49,10 +50,21 @@ public class TeamController {
         return ResponseEntity.ok(teamService.listTeamsForProfessor(user.getId()));
     }
 
-    /** 초대 가능한 유저 */
+    /** 초대 가능한 유저 (q 로 이름/이메일 검색, 최대 200명; 더 필요하면 /page) */
     @GetMapping("/{teamId}/invitable-users")
-    public ResponseEntity<List<UserDto>> getInvitableUsers(@PathVariable Long teamId) {
-        return ResponseEntity.ok(teamService.findInvitableUsers(teamId));
+    public ResponseEntity<List<UserDto>> getInvitableUsers(@PathVariable Long teamId,
+                                                           @RequestParam(name = "q", required = false) String q) {
+        return ResponseEntity.ok(teamService.findInvitableUsers(teamId, q));
+    }
+
+    /** 초대 가능한 유저 커서 페이지: ?q=&afterId=&limit= */
+    @GetMapping("/{teamId}/invitable-users/page")
+    public ResponseEntity<CursorPage<UserDto>> getInvitableUsersPage(
+            @PathVariable Long teamId,
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(teamService.findInvitableUsers(teamId, q, afterId, limit));
     }
 
     /** 모든 교수 목록 조회 */
@@ -1,7 +1,7 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.controller;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.UserDto;
-import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,19 +20,17 @@ public class UserController {
      * 사용자 목록/검색
      * - /api/users
      * - /api/users?q=검색어&size=100
+     * - /api/users?q=검색어&role=STUDENT (역할 필터)
      */
     @GetMapping
     public ResponseEntity<List<UserDto>> list(
             @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "role", required = false) Role role,
             @RequestParam(value = "size", required = false) Integer size
     ) {
-        List<UserAccount> rows = (q == null || q.isBlank())
-                ? userService.findTop(size)
-                : userService.searchTop(q, size);
-
-        List<UserDto> dto = rows.stream()
-                .map(u -> new UserDto(u.getId(), u.getName(), u.getEmail()))
-                .toList();
+        List<UserDto> dto = (q == null || q.isBlank())
+                ? userService.findTop(role, size)
+                : userService.searchTop(q, role, size);
 
         return ResponseEntity.ok(dto);
     }
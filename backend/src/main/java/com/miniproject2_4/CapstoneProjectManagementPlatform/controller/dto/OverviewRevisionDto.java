@@ -0,0 +1,25 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto;
+
+import java.util.List;
+
+public class OverviewRevisionDto {
+
+    /** 이력 목록 항목 */
+    public record Item(
+            int version,
+            String kind,        // SNAPSHOT | DELTA
+            String createdAt,   // ISO
+            ProjectOverviewDto.SimpleUser editor
+    ) {}
+
+    /** 특정 버전 본문 */
+    public record Content(int version, String markdown) {}
+
+    /**
+     * diff 묶음. EQUAL 은 줄 수(count)만 담고 lines 는 비운다.
+     * type: EQUAL | DELETE | INSERT
+     */
+    public record Chunk(String type, int count, List<String> lines) {}
+
+    public record Diff(int from, int to, int added, int removed, List<Chunk> chunks) {}
+}
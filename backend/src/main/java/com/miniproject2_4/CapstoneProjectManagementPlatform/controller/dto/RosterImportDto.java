@@ -0,0 +1,22 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto;
+
+import java.util.List;
+
+public class RosterImportDto {
+
+    /** 행 오류 (line 은 CSV 원본 줄 번호, 헤더가 1) */
+    public record RowError(long line, String email, String code, String message) {}
+
+    public record Report(
+            long totalRows,
+            long importedRows,
+            int createdUsers,
+            int existingUsers,
+            int createdTeams,
+            int addedMemberships,
+            long errorCount,
+            boolean errorsTruncated,
+            List<RowError> errors,
+            long elapsedMs
+    ) {}
+}
@@ -0,0 +1,19 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto;
+
+import java.util.List;
+
+public class SearchDto {
+
+    /** 검색 결과 항목 */
+    public record Hit(
+            String type,        // "OVERVIEW" | "FEEDBACK" | "DECISION" | "RISK" | "ASSIGNMENT" | "EVENT"
+            Long id,
+            Long projectId,
+            String title,
+            String snippet,
+            double score
+    ) {}
+
+    /** 검색 응답 */
+    public record Response(String query, List<Hit> items, long tookMs) {}
+}
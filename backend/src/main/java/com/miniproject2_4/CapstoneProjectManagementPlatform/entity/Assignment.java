@@ -1,5 +1,6 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -9,10 +10,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "assignment")
+@Table(name = "assignment",
+        indexes = @Index(name = "idx_assignment_project_status_due", columnList = "project_id, status, due_date"))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexEntityListener.class})
 public class Assignment {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
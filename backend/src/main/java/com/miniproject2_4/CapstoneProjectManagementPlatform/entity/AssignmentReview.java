@@ -16,7 +16,8 @@ public class AssignmentReview {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assignment_review_seq")
+    @SequenceGenerator(name = "assignment_review_seq", sequenceName = "assignment_review_seq", allocationSize = 50)
     private Long id;
 
     /** 어떤 과제의 리뷰인지 */
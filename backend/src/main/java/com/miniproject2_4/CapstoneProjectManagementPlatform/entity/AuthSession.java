@@ -5,8 +5,16 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * 리프레시 토큰 세션. 토큰 원문은 저장하지 않고 SHA-256 다이제스트(hex)만 둔다.
+ * 만료된 행은 RefreshTokenService 의 주기 작업이 청크 단위로 지운다.
+ */
 @Entity
-@Table(name = "auth_session")
+@Table(name = "auth_session",
+        indexes = {
+                @Index(name = "idx_auth_session_expires", columnList = "expires_at"),
+                @Index(name = "idx_auth_session_user_created", columnList = "user_id, created_at")
+        })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class AuthSession {
 
@@ -17,12 +25,12 @@ public class AuthSession {
     @JoinColumn(name = "user_id")
     private UserAccount user;
 
-    @Column(name = "refresh_token", nullable = false, unique = true, length = 255)
-    private String refreshToken;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
-}
\ No newline at end of file
+}
@@ -1,11 +1,13 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @Table(name = "decision", indexes = @Index(name = "idx_decision_project", columnList = "project_id"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Decision {
@@ -0,0 +1,57 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (transactional outbox).
+ * 업무 변경과 같은 트랜잭션에서 저장되고, 커밋된 행만 EmailOutboxService 디스패처가 보낸다.
+ */
+@Entity
+@Table(name = "email_outbox",
+        indexes = {
+                @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_email_outbox_dedup", columnList = "dedup_key, created_at")
+        })
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class EmailOutbox {
+
+    public enum Status { PENDING, SENT, FAILED, SKIPPED }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dedup_key", nullable = false, length = 100)
+    private String dedupKey;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
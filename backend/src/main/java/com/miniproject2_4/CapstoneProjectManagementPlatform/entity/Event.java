@@ -1,17 +1,21 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @Table(name = "event")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Event {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
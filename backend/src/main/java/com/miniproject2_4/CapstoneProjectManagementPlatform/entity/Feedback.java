@@ -1,9 +1,11 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @Table(name = "feedback")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Feedback extends BaseEntity {
@@ -0,0 +1,42 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된(읽은 지 오래된) 알림. 조회 전용이며 행은 NotificationArchiveJdbcRepository 가 notification 에서 옮겨 넣는다.
+ * id 는 원래 알림 id 를 그대로 쓴다 (DB 기본 키는 파티션 때문에 (id, created_at)).
+ */
+@Entity
+@Table(name = "notification_archive")
+@org.hibernate.annotations.Immutable
+@Getter @NoArgsConstructor @AllArgsConstructor @Builder
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 120)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,9 +1,16 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.config.EntityCacheConfig;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexEntityListener;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ProjectAccessEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.PROJECT_REGION)
+@EntityListeners({SearchIndexEntityListener.class, ProjectAccessEntityListener.class})
 @Table(name = "project")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
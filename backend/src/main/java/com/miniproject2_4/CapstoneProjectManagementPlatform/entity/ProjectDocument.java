@@ -1,12 +1,16 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.StorageKeys;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "project_document", indexes = @Index(name = "idx_doc_project", columnList = "project_id"))
+@Table(name = "project_document", indexes = {
+        @Index(name = "idx_doc_project", columnList = "project_id"),
+        @Index(name = "idx_doc_file_key", columnList = "file_key")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ProjectDocument {
 
@@ -23,6 +27,10 @@ public class ProjectDocument {
     @Column(nullable = false, length = 500)
     private String url;
 
+    /** url 이 로컬 저장소 파일이면 그 key (고아 업로드 판정용 인덱스 컬럼, url 에서 자동 계산) */
+    @Column(name = "file_key", length = 500)
+    private String fileKey;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private Type type;
@@ -35,4 +43,10 @@ public class ProjectDocument {
     private LocalDateTime createdAt;
 
     public enum Type { SPEC, REPORT, PRESENTATION, OTHER }
+
+    @PrePersist
+    @PreUpdate
+    void syncFileKey() {
+        this.fileKey = StorageKeys.normalizedFromObjectUrl(url);
+    }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @Table(name = "project_overview",
         indexes = @Index(name = "uk_overview_project", columnList = "project_id", unique = true))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
@@ -0,0 +1,57 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 개요 게시본 이력.
+ * - SNAPSHOT: content 에 해당 버전 전체 본문
+ * - DELTA: content 에 직전 버전 대비 줄 단위 델타 (LineDiff 형식)
+ * depth 는 마지막 스냅샷 이후 누적 델타 수 (복원 시 적용 횟수 상한)
+ */
+@Entity
+@Table(name = "project_overview_revision",
+        uniqueConstraints = @UniqueConstraint(name = "uk_overview_revision_version", columnNames = {"project_id", "version"}),
+        indexes = @Index(name = "idx_overview_revision_kind", columnList = "project_id, kind, version"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ProjectOverviewRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_overview_revision_seq")
+    @SequenceGenerator(name = "project_overview_revision_seq", sequenceName = "project_overview_revision_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false)
+    private int version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Kind kind;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Lob
+    @Column(name = "content", columnDefinition = "LONGTEXT", nullable = false)
+    private String content;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "editor_id")
+    private UserAccount editor;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    public enum Kind { SNAPSHOT, DELTA }
+}
@@ -1,9 +1,13 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.config.EntityCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.TEAM_REGION)
 @Table(name = "team")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Team extends BaseEntity {
@@ -1,9 +1,15 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.config.EntityCacheConfig;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ProjectAccessEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.TEAM_MEMBER_REGION)
+@EntityListeners(ProjectAccessEntityListener.class)
 @Table(name = "team_member")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class TeamMember {
@@ -0,0 +1,44 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 액세스 토큰 폐기 기록. 판정은 메모리(TokenRevocationService)에서만 하고,
+ * 이 테이블은 재기동 시 재생과 인스턴스 간 동기화용이다.
+ */
+@Entity
+@Table(name = "token_revocation",
+        indexes = {
+                @Index(name = "idx_token_revocation_expires", columnList = "expires_at"),
+                @Index(name = "idx_token_revocation_created", columnList = "created_at")
+        })
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class TokenRevocation {
+
+    public enum Kind { USER, TOKEN }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Kind kind;
+
+    /** USER → 사용자 id, TOKEN → jti */
+    @Column(nullable = false)
+    private Long subject;
+
+    /** USER 일 때: 이 시각(초) 이전에 발급된 토큰 무효 (같은 초 발급분은 유효) */
+    @Column(name = "issued_before")
+    private LocalDateTime issuedBefore;
+
+    /** 이 시각 이후로는 대상 토큰이 모두 만료됨 → 행 삭제 가능 */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
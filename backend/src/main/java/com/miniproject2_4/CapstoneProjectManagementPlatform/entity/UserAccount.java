@@ -1,11 +1,17 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.entity;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.config.EntityCacheConfig;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.UserAutocompleteEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.USER_REGION)
+@EntityListeners(UserAutocompleteEntityListener.class)
 @Table(name = "user_account",
         indexes = @Index(name = "uk_user_email", columnList = "email", unique = true))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
@@ -31,6 +37,7 @@ public class UserAccount extends BaseEntity {
     @Column(name = "avatar_url", length = 255)
     private String avatarUrl;
 
-    @Column(name = "last_login_at")
+    /** LastLoginBuffer 가 일괄 UPDATE 로만 갱신 (엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 updatable = false) */
+    @Column(name = "last_login_at", updatable = false)
     private LocalDateTime lastLoginAt;
 }
\ No newline at end of file
@@ -2,10 +2,19 @@ package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Assignment;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.AssignmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
 
@@ -26,4 +35,78 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
 
     /** 교수 요약 집계를 위한 멀티 프로젝트 조회 */
     List<Assignment> findByProject_IdIn(List<Long> projectIds);
+
+    /** 일괄 처리용: 과제 + 프로젝트를 IN 쿼리 한 번으로 조회 */
+    @Query("""
+           select a
+           from Assignment a
+           join fetch a.project p
+           where a.id in :ids
+           """)
+    List<Assignment> findAllWithProjectByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 상태 일괄 변경 (감사 리스너를 거치지 않으므로 updated_at 을 직접 갱신) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           update Assignment a
+              set a.status = :status, a.updatedAt = :now
+            where a.id in :ids
+           """)
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") AssignmentStatus status,
+                           @Param("now") LocalDateTime now);
+
+    /** 프로젝트 소속으로 존재하는 id 만 추림 (일괄 상태 변경 결과 산출용) */
+    @Query("""
+           select a.id
+           from Assignment a
+           where a.project.id = :projectId
+             and a.id in :ids
+           """)
+    List<Long> findIdsByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    /** 프로젝트 범위 상태 일괄 변경 (updated_at 직접 갱신) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           update Assignment a
+              set a.status = :status, a.updatedAt = :now
+            where a.project.id = :projectId
+              and a.id in :ids
+           """)
+    int updateStatusByProjectIdAndIdIn(@Param("projectId") Long projectId,
+                                       @Param("ids") Collection<Long> ids,
+                                       @Param("status") AssignmentStatus status,
+                                       @Param("now") LocalDateTime now);
+
+    /**
+     * 교수 검토 대기함: 담당 활성 프로젝트의 PENDING 과제 중 마감이 until 이전(또는 미지정, until 이 null 이면 전체)인 것을 임박순으로.
+     * (project_id, status, due_date) 인덱스 사용, 프로젝트/팀은 fetch join.
+     */
+    @Query("""
+           select a
+           from Assignment a
+           join fetch a.project p
+           left join fetch p.team t
+           where p.professor.id = :professorId
+             and p.archived = false
+             and a.status = com.miniproject2_4.CapstoneProjectManagementPlatform.entity.AssignmentStatus.PENDING
+             and (:until is null or a.dueDate is null or a.dueDate <= :until)
+           order by a.dueDate asc nulls last, a.id asc
+           """)
+    List<Assignment> findPendingForProfessor(@Param("professorId") Long professorId,
+                                             @Param("until") LocalDateTime until,
+                                             Pageable pageable);
+
+    /** 관리자 내보내기: id 순 스트리밍 */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+           select a
+           from Assignment a
+           join fetch a.project
+           order by a.id
+           """)
+    Stream<Assignment> streamAllForExport();
 }
@@ -1,17 +1,62 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.AuthSession;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthSessionRepository extends JpaRepository<AuthSession, Long> {
 
-    Optional<AuthSession> findByRefreshToken(String refreshToken);
-
     @EntityGraph(attributePaths = "user")  // refresh 시 LAZY 로딩 문제 방지
-    Optional<AuthSession> findWithUserByRefreshToken(String refreshToken);
+    Optional<AuthSession> findWithUserByTokenHash(String tokenHash);
+
+    /**
+     * 토큰 교체(rotation). 이전 다이제스트가 그대로일 때만 바꾸므로
+     * 같은 토큰으로 동시에 들어온 refresh 중 하나만 성공한다 (0 이면 이미 사용된 토큰).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update AuthSession s
+           set s.tokenHash = :newHash,
+               s.expiresAt = :expiresAt
+         where s.id = :id
+           and s.tokenHash = :oldHash
+    """)
+    int rotate(@Param("id") Long id,
+               @Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("delete from AuthSession s where s.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("delete from AuthSession s where s.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /** 사용자의 세션 id (최근 생성 순) – 세션 수 제한용 */
+    @Query("""
+        select s.id
+          from AuthSession s
+         where s.user.id = :userId
+         order by s.createdAt desc, s.id desc
+    """)
+    List<Long> findIdsByUserIdNewestFirst(@Param("userId") Long userId);
+
+    /** 만료된 세션 id (청크 삭제용, id 순) */
+    @Query("select s.id from AuthSession s where s.expiresAt < :now order by s.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
 
-    void deleteByRefreshToken(String refreshToken);
-}
\ No newline at end of file
+    @Modifying
+    @Query("delete from AuthSession s where s.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,92 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /** dedup 창 안에 같은 키의 대기/발송 완료 메일이 있는지 */
+    @Query("""
+        select count(e) > 0 from EmailOutbox e
+         where e.dedupKey = :dedupKey
+           and e.createdAt > :since
+           and e.status in :statuses
+           and (:excludeId is null or e.id <> :excludeId)
+    """)
+    boolean existsRecent(@Param("dedupKey") String dedupKey,
+                         @Param("since") LocalDateTime since,
+                         @Param("statuses") Collection<EmailOutbox.Status> statuses,
+                         @Param("excludeId") Long excludeId);
+
+    /** 발송 시각이 된 대기 메일 id (오래된 순) */
+    @Query("""
+        select e.id from EmailOutbox e
+         where e.status = com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EmailOutbox.Status.PENDING
+           and e.nextAttemptAt <= :now
+         order by e.nextAttemptAt, e.id
+    """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 가져가기(claim): 아직 대기 중이고 발송 시각이 지났을 때만 다음 시도 시각을 임대 만료로 밀고 시도 횟수를 올린다.
+     * 1 이면 이 인스턴스가 가져간 것, 0 이면 다른 인스턴스가 먼저 가져감.
+     */
+    @Modifying
+    @Query("""
+        update EmailOutbox e
+           set e.nextAttemptAt = :leaseUntil,
+               e.attempts = e.attempts + 1
+         where e.id = :id
+           and e.status = com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EmailOutbox.Status.PENDING
+           and e.nextAttemptAt <= :now
+    """)
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /** 발송 완료. 본문(재설정 링크 등)은 더 필요 없으므로 비운다 */
+    @Modifying
+    @Query("""
+        update EmailOutbox e
+           set e.status = com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EmailOutbox.Status.SENT,
+               e.sentAt = :sentAt,
+               e.lastError = null,
+               e.body = ''
+         where e.id in :ids
+    """)
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("""
+        update EmailOutbox e
+           set e.status = :status,
+               e.nextAttemptAt = :nextAttemptAt,
+               e.lastError = :error
+         where e.id = :id
+    """)
+    int markAttempt(@Param("id") Long id,
+                    @Param("status") EmailOutbox.Status status,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                    @Param("error") String error);
+
+    /** 처리가 끝난 지 오래된 행 id (정리 작업의 청크 삭제용, id 순) */
+    @Query("""
+        select e.id from EmailOutbox e
+         where e.status <> com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EmailOutbox.Status.PENDING
+           and e.createdAt < :before
+         order by e.id
+    """)
+    List<Long> findFinishedIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from EmailOutbox e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
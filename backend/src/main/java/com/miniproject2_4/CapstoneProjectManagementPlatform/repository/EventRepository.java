@@ -2,13 +2,17 @@ package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Event;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EventType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
 
@@ -46,4 +50,17 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         order by e.startAt desc
     """)
     List<Event> findAllActivitiesOrderByStartAtDesc(Pageable pageable);
-}
\ No newline at end of file
+
+    /** 관리자 내보내기: id 순 스트리밍 */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+           select e
+           from Event e
+           left join fetch e.project
+           order by e.id
+           """)
+    Stream<Event> streamAllForExport();
+}
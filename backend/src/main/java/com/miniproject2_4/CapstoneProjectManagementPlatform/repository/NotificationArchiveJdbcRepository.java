@@ -0,0 +1,98 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 보관 이동(INSERT ... SELECT + DELETE), 보존 기간 삭제, MariaDB 월 파티션 관리.
+ * 이동/삭제는 호출 측 트랜잭션 안에서 실행되어야 한다 (이동은 복사와 삭제가 함께 커밋/롤백되도록).
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationArchiveJdbcRepository {
+
+    private static final String MAX_PARTITION = "pmax";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** ids 알림을 보관 테이블로 옮긴다. 반환: notification 에서 지운 행 수 */
+    public int moveToArchive(List<Long> ids, LocalDateTime archivedAt) {
+        if (ids.isEmpty()) return 0;
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(archivedAt));
+        args.addAll(ids);
+        jdbcTemplate.update(
+                "INSERT INTO notification_archive (id, recipient_id, type, title, body, payload, created_at, archived_at) " +
+                "SELECT n.id, n.recipient_id, n.type, n.title, n.body, n.payload, n.created_at, ? " +
+                "FROM notification n WHERE n.id IN (" + in + ")",
+                args.toArray());
+        return jdbcTemplate.update("DELETE FROM notification WHERE id IN (" + in + ")", ids.toArray());
+    }
+
+    /* ===== 파티션 (MariaDB) ===== */
+
+    /** 현재 파티션 이름 (파티션 테이블이 아니거나 정보 스키마가 없으면 빈 목록) */
+    public List<String> partitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification_archive' " +
+                "AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class);
+    }
+
+    /** 월 파티션 하나: name 은 pYYYYMM, upperBound 는 다음 달 1일 (VALUES LESS THAN) */
+    public record MonthPartition(String name, LocalDate upperBound) {}
+
+    /** 가장 오래된 보관 알림 시각 (비어 있으면 null). 첫 분할의 시작 달을 정할 때 쓴다 */
+    public LocalDateTime minCreatedAt() {
+        return jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM notification_archive", LocalDateTime.class);
+    }
+
+    /**
+     * pmax 를 partitions(경계 오름차순) + pmax 로 한 번에 다시 나눈다.
+     * pmax 에 쌓인 행은 한 번만 다시 쓰이며 각자 자기 달로 들어간다. 비어 있으면 메타데이터만 바뀐다.
+     */
+    public void splitMaxPartition(List<MonthPartition> partitions) {
+        if (partitions.isEmpty()) return;
+        StringBuilder sql = new StringBuilder("ALTER TABLE notification_archive REORGANIZE PARTITION ")
+                .append(MAX_PARTITION).append(" INTO (");
+        for (MonthPartition p : partitions) {
+            sql.append("PARTITION ").append(p.name())
+                    .append(" VALUES LESS THAN ('").append(p.upperBound()).append("'), ");
+        }
+        sql.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(sql.toString());
+    }
+
+    /** 월 파티션을 통째로 지운다 (보존 기간 정리, 행 단위 DELETE 없이 끝남) */
+    public void dropPartition(String name) {
+        jdbcTemplate.execute("ALTER TABLE notification_archive DROP PARTITION " + name);
+    }
+
+    /* ===== 보존 기간 ===== */
+
+    /** created_at 이 cutoff 이전인 보관 알림을 최대 limit 개 지운다 (호출 측 트랜잭션). 반환: 지운 행 수 */
+    public int deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM notification_archive WHERE created_at < ? ORDER BY created_at LIMIT ?",
+                Long.class, before, limit);
+        if (ids.isEmpty()) return 0;
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.addAll(ids);
+        // created_at 조건도 함께 걸어 파티션 테이블에서는 해당 달 파티션만 본다
+        args.add(before);
+        return jdbcTemplate.update(
+                "DELETE FROM notification_archive WHERE id IN (" + in + ") AND created_at < ?", args.toArray());
+    }
+}
@@ -0,0 +1,23 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.NotificationArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    /** 수신자의 보관 알림 커서 페이지 (id 내림차순, (recipient_id, id) 인덱스) */
+    @Query("""
+        select a from NotificationArchive a
+        where a.recipientId = :recipientId
+          and (:beforeId is null or a.id < :beforeId)
+        order by a.id desc
+    """)
+    List<NotificationArchive> findPage(@Param("recipientId") Long recipientId,
+                                       @Param("beforeId") Long beforeId,
+                                       Pageable pageable);
+}
@@ -1,11 +1,19 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findTop100ByRecipient_IdOrderByCreatedAtDesc(Long recipientId);
     List<Notification> findTop100ByRecipient_IdAndIsReadOrderByCreatedAtDesc(Long recipientId, boolean isRead);
+
+    /** 읽은 지 오래된 알림 id (보관 이동 청크용, id 순) */
+    @Query("select n.id from Notification n where n.isRead = true and n.createdAt < :before order by n.id")
+    List<Long> findReadIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
 }
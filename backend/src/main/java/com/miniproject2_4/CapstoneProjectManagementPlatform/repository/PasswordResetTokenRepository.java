@@ -1,12 +1,14 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.PasswordResetToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +22,13 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
     @Query("UPDATE PasswordResetToken p SET p.used = true WHERE p.userId = :userId AND p.used = false")
     void invalidateAllTokensForUser(@Param("userId") Long userId);
 
+    /** 만료되었거나 사용된 토큰 id (청크 삭제용, id 순) */
+    @Query("SELECT p.id FROM PasswordResetToken p WHERE p.expiresAt < :now OR p.used = true ORDER BY p.id")
+    List<Long> findExpiredOrUsedIds(@Param("now") LocalDateTime now, Pageable pageable);
+
     @Modifying
-    @Query("DELETE FROM PasswordResetToken p WHERE p.expiresAt < :now OR p.used = true")
-    void deleteExpiredOrUsedTokens(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM PasswordResetToken p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT COUNT(p) FROM PasswordResetToken p WHERE p.userId = :userId AND p.createdAt > :since")
     long countRecentTokensForUser(@Param("userId") Long userId, @Param("since") LocalDateTime since);
@@ -1,10 +1,42 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.ProjectDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectDocumentRepository extends JpaRepository<ProjectDocument, Long> {
     List<ProjectDocument> findByProject_IdOrderByIdDesc(Long projectId);
-}
\ No newline at end of file
+
+    List<ProjectDocument> findByProject_IdOrderByIdAsc(Long projectId);
+
+    /** 문서가 하나 이상 있는 프로젝트 id (전체 내보내기용) */
+    @Query("select distinct d.project.id from ProjectDocument d order by d.project.id")
+    List<Long> findProjectIdsWithDocuments();
+
+    /** 주어진 key 중 문서가 참조하는 것 (idx_doc_file_key 조회) */
+    @Query("select distinct d.fileKey from ProjectDocument d where d.fileKey in :keys")
+    List<String> findReferencedFileKeys(@Param("keys") Collection<String> keys);
+
+    /** file_key 가 아직 없는 로컬 파일 문서 (컬럼 추가 전 데이터 보정용, id 커서) */
+    interface IdUrl {
+        Long getId();
+        String getUrl();
+    }
+
+    @Query("""
+        select d.id as id, d.url as url from ProjectDocument d
+        where d.fileKey is null and d.url like '%/files?key=%' and d.id > :afterId
+        order by d.id
+    """)
+    List<IdUrl> findLocalFilesWithoutKey(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update ProjectDocument d set d.fileKey = :fileKey where d.id = :id")
+    int updateFileKey(@Param("id") Long id, @Param("fileKey") String fileKey);
+}
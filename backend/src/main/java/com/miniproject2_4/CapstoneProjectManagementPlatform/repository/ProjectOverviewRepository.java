@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ProjectOverviewRepository extends JpaRepository<ProjectOverview, Long> {
@@ -24,6 +25,33 @@ public interface ProjectOverviewRepository extends JpaRepository<ProjectOverview
            """)
     Optional<ProjectOverview> findByProjectIdWithUsers(@Param("projectId") Long projectId);
 
+    /** 메타데이터만 (LONGTEXT 컬럼을 읽지 않음) – ETag 비교용 */
+    interface Meta {
+        int getVersion();
+        ProjectOverview.Status getStatus();
+        LocalDateTime getPendingAt();
+    }
+
+    @Query("""
+           select o.version as version, o.status as status, o.pendingAt as pendingAt
+           from ProjectOverview o
+           where o.project.id = :projectId
+           """)
+    Optional<Meta> findMetaByProjectId(@Param("projectId") Long projectId);
+
+    /** 게시본만 (제안본 LONGTEXT 는 읽지 않음) – HTML 렌더링용 */
+    interface Published {
+        int getVersion();
+        String getMarkdown();
+    }
+
+    @Query("""
+           select o.version as version, o.markdown as markdown
+           from ProjectOverview o
+           where o.project.id = :projectId
+           """)
+    Optional<Published> findPublishedByProjectId(@Param("projectId") Long projectId);
+
     /** 추가: 관리자 활성 과목 집계 (게시된 개요 + 활성 프로젝트) */
     long countByStatusAndProject_ArchivedFalse(ProjectOverview.Status status);
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.ProjectOverviewRevision;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProjectOverviewRevisionRepository extends JpaRepository<ProjectOverviewRevision, Long> {
+
+    /** 최신 이력의 버전/깊이 (본문 LONGTEXT 는 읽지 않음) */
+    interface Head {
+        int getVersion();
+        int getDepth();
+    }
+
+    @Query("""
+           select r.version as version, r.depth as depth
+           from ProjectOverviewRevision r
+           where r.project.id = :projectId
+           order by r.version desc
+           """)
+    List<Head> findHeads(@Param("projectId") Long projectId, Pageable pageable);
+
+    /** 목록용 요약 */
+    interface Summary {
+        int getVersion();
+        ProjectOverviewRevision.Kind getKind();
+        LocalDateTime getCreatedAt();
+        Long getEditorId();
+        String getEditorName();
+    }
+
+    @Query("""
+           select r.version as version, r.kind as kind, r.createdAt as createdAt,
+                  e.id as editorId, e.name as editorName
+           from ProjectOverviewRevision r
+           left join r.editor e
+           where r.project.id = :projectId
+           order by r.version desc
+           """)
+    List<Summary> findSummaries(@Param("projectId") Long projectId);
+
+    /** version 이하에서 가장 가까운 스냅샷 버전 */
+    @Query("""
+           select max(r.version)
+           from ProjectOverviewRevision r
+           where r.project.id = :projectId
+             and r.kind = com.miniproject2_4.CapstoneProjectManagementPlatform.entity.ProjectOverviewRevision.Kind.SNAPSHOT
+             and r.version <= :version
+           """)
+    Integer findSnapshotVersionAtOrBefore(@Param("projectId") Long projectId, @Param("version") int version);
+
+    /** 복원 체인 (스냅샷 ~ 대상 버전, 오름차순) */
+    List<ProjectOverviewRevision> findByProject_IdAndVersionBetweenOrderByVersionAsc(Long projectId, int from, int to);
+
+    boolean existsByProject_IdAndVersion(Long projectId, int version);
+}
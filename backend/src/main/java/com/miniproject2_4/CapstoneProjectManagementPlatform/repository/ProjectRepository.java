@@ -1,12 +1,16 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
@@ -36,6 +40,30 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     /** 담당교수 여부를 즉시 판정 (엔티티 로딩 없이 EXISTS) */
     boolean existsByIdAndProfessor_Id(Long projectId, Long userId);
 
+    /** (프로젝트, 사용자) 권한 판정 재료 */
+    interface AccessFlags {
+        Long getTeamId();
+        Boolean getProfessor();
+        Boolean getMember();
+        Boolean getLeader();
+        Boolean getArchived();
+    }
+
+    /** 팀 id + 담당교수/팀 멤버/팀장 여부 + 아카이브 여부를 한 번의 조회로 (프로젝트가 없으면 empty) */
+    @Query("""
+        select t.id as teamId,
+               case when prof.id = :userId then true else false end as professor,
+               case when tm.id.userId is not null then true else false end as member,
+               case when upper(tm.roleInTeam) = 'LEADER' then true else false end as leader,
+               p.archived as archived
+          from Project p
+          join p.team t
+          left join p.professor prof
+          left join TeamMember tm on tm.id.teamId = t.id and tm.id.userId = :userId
+         where p.id = :projectId
+    """)
+    Optional<AccessFlags> findAccessFlags(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
     /** 내가 속한 프로젝트 (팀 fetch join) */
     @Query("""
         select distinct p
@@ -107,4 +135,20 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     /** 프로젝트 타이틀 중복 확인 (활성 프로젝트만) */
     boolean existsByTitleAndArchivedFalse(String title);
-}
\ No newline at end of file
+
+    /** 관리자 내보내기: id 순 스트리밍 (팀/담당교수 fetch join, fetch size 단위로 읽음) */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            // 전체 행으로 2차 캐시를 채우지 않는다 (스트림 행은 실행 뒤에 읽히므로 AdminExportService 가 세션 CacheMode 도 IGNORE 로 둔다)
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("""
+        select p
+          from Project p
+          left join fetch p.team
+          left join fetch p.professor
+         order by p.id
+    """)
+    Stream<Project> streamAllForExport();
+}
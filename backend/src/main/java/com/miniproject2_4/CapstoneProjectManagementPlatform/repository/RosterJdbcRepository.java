@@ -0,0 +1,111 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 명단 가져오기용 JDBC 배치 INSERT.
+ * user_account/team 은 IDENTITY 키라 Hibernate 로는 배치가 되지 않으므로,
+ * 배치 INSERT 후 생성 키를 한 번에 회수한다 (입력 순서와 같은 순서).
+ * JPA 엔티티 리스너/감사 필드를 거치지 않으므로 created_at/updated_at 은 직접 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RosterJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewUser(String name, String email, Role role, String passwordHash) {}
+
+    public record NewMember(Long teamId, Long userId, String roleInTeam) {}
+
+    /** @return 생성된 id (users 와 같은 순서) */
+    public List<Long> insertUsers(List<NewUser> users, LocalDateTime now) {
+        if (users.isEmpty()) return List.of();
+        Timestamp ts = Timestamp.valueOf(now);
+        return insertReturningKeys(
+                "INSERT INTO user_account (name, email, role, password_hash, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                users.size(),
+                (ps, i) -> {
+                    NewUser u = users.get(i);
+                    ps.setString(1, u.name());
+                    ps.setString(2, u.email());
+                    ps.setString(3, u.role().name());
+                    ps.setString(4, u.passwordHash());
+                    ps.setTimestamp(5, ts);
+                    ps.setTimestamp(6, ts);
+                });
+    }
+
+    /** @return 생성된 id (names 와 같은 순서) */
+    public List<Long> insertTeams(List<String> names, LocalDateTime now) {
+        if (names.isEmpty()) return List.of();
+        Timestamp ts = Timestamp.valueOf(now);
+        return insertReturningKeys(
+                "INSERT INTO team (name, created_at, updated_at) VALUES (?, ?, ?)",
+                names.size(),
+                (ps, i) -> {
+                    ps.setString(1, names.get(i));
+                    ps.setTimestamp(2, ts);
+                    ps.setTimestamp(3, ts);
+                });
+    }
+
+    public void insertMembers(List<NewMember> members) {
+        if (members.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO team_member (team_id, user_id, role_in_team) VALUES (?, ?, ?)",
+                members, members.size(),
+                (ps, m) -> {
+                    ps.setLong(1, m.teamId());
+                    ps.setLong(2, m.userId());
+                    ps.setString(3, m.roleInTeam());
+                });
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    private List<Long> insertReturningKeys(String sql, int size, RowSetter setter) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.set(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                },
+                keys);
+
+        List<Map<String, Object>> rows = keys.getKeyList();
+        if (rows.size() != size) {
+            throw new IllegalStateException("Generated key count mismatch: expected " + size + ", got " + rows.size());
+        }
+        List<Long> ids = new ArrayList<>(size);
+        for (Map<String, Object> row : rows) {
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
@@ -9,13 +9,21 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TeamMemberRepository extends JpaRepository<TeamMember, TeamMemberId> {
 
     long countByTeam_Id(Long teamId);
 
-    boolean existsByTeam_IdAndUser_Id(Long teamId, Long userId);
+    /**
+     * 팀 멤버 여부. (팀, 사용자) 가 곧 기본 키이므로 키 조회로 처리해
+     * 2차 캐시(entity.team-member)에 있으면 쿼리 없이 판정한다.
+     */
+    default boolean existsByTeam_IdAndUser_Id(Long teamId, Long userId) {
+        if (teamId == null || userId == null) return false;
+        return findById(new TeamMemberId(teamId, userId)).isPresent();
+    }
 
     @Query("""
         select tm
@@ -37,6 +45,26 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, TeamMemb
             @Param("role") Role role
     );
 
+    /** 주어진 팀들 중 사용자가 속한 팀 id (권한 일괄 판정용) */
+    @Query("""
+        select tm.team.id
+          from TeamMember tm
+         where tm.user.id = :userId
+           and tm.team.id in :teamIds
+    """)
+    List<Long> findTeamIdsByUserIdAndTeamIdIn(@Param("userId") Long userId,
+                                              @Param("teamIds") Collection<Long> teamIds);
+
+    /** 주어진 팀/사용자 범위에서 이미 존재하는 멤버십 키 */
+    @Query("""
+        select tm.id
+          from TeamMember tm
+         where tm.id.teamId in :teamIds
+           and tm.id.userId in :userIds
+    """)
+    List<TeamMemberId> findIdsByTeamIdInAndUserIdIn(@Param("teamIds") Collection<Long> teamIds,
+                                                    @Param("userIds") Collection<Long> userIds);
+
     @Modifying
     @Query("DELETE FROM TeamMember tm WHERE tm.id.teamId = :teamId")
     void deleteByTeamId(@Param("teamId") Long teamId);
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,4 +35,7 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     /** 팀 이름 중복 확인 */
     boolean existsByName(String name);
+
+    /** 이름으로 일괄 조회 (명단 가져오기) */
+    List<Team> findByNameIn(Collection<String> names);
 }
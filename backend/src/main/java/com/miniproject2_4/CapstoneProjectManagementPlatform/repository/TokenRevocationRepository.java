@@ -0,0 +1,33 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TokenRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    /** 아직 유효한 폐기 기록 중 since 이후 생성분 (기동 시 재생: since = null 이면 전부) */
+    @Query("""
+        select r from TokenRevocation r
+         where r.expiresAt > :now
+           and (:since is null or r.createdAt >= :since)
+         order by r.id
+    """)
+    List<TokenRevocation> findActiveCreatedSince(@Param("now") LocalDateTime now,
+                                                 @Param("since") LocalDateTime since);
+
+    /** 만료된 기록 id (청크 삭제용, id 순) */
+    @Query("select r.id from TokenRevocation r where r.expiresAt < :now order by r.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TokenRevocation r where r.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
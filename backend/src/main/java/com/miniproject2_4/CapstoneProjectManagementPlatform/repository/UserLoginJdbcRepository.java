@@ -0,0 +1,35 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 마지막 로그인 시각 일괄 반영 (LastLoginBuffer 의 주기 flush 용 JDBC 배치 UPDATE).
+ * 더 최근 값이 이미 있으면 덮어쓰지 않는다. JPA 를 거치지 않으므로 2차 캐시는 호출 측이 비운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserLoginJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record LoginStamp(Long userId, LocalDateTime at) {}
+
+    public void updateLastLoginAt(Collection<LoginStamp> stamps) {
+        if (stamps.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "UPDATE user_account SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)",
+                stamps, stamps.size(),
+                (ps, s) -> {
+                    Timestamp ts = Timestamp.valueOf(s.at());
+                    ps.setTimestamp(1, ts);
+                    ps.setLong(2, s.userId());
+                    ps.setTimestamp(3, ts);
+                });
+    }
+}
@@ -2,21 +2,32 @@ package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<UserAccount, Long> {
     Optional<UserAccount> findByEmail(String email);
 
-    /** 이름/이메일 부분 일치 검색 */
-    List<UserAccount> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
+    /** id + email 만 (일괄 등록 시 기존 계정 판정용) */
+    interface IdEmail {
+        Long getId();
+        String getEmail();
+    }
+
+    @Query("select u.id as id, u.email as email from UserAccount u where u.email in :emails")
+    List<IdEmail> findIdEmailByEmailIn(@Param("emails") Collection<String> emails);
 
     /** 특정 권한을 가진 첫 번째 사용자 조회 */
     Optional<UserAccount> findFirstByRole(Role role);
@@ -30,6 +41,30 @@ public interface UserRepository extends JpaRepository<UserAccount, Long> {
     /** 최근 로그인 기준 활성 사용자 수 */
     long countByLastLoginAtAfter(LocalDateTime since);
 
+    /** 위와 같되 주어진 사용자 제외 (아직 반영 안 된 로그인 기록을 따로 더할 때) */
+    long countByLastLoginAtAfterAndIdNotIn(LocalDateTime since, Collection<Long> ids);
+
+    /**
+     * 팀 초대 후보: 해당 팀 멤버가 아닌 role 사용자 (id 커서 페이징, 선택 검색어)
+     */
+    @Query("""
+        select u from UserAccount u
+        where u.role = :role
+          and (:afterId is null or u.id > :afterId)
+          and (:q is null or lower(u.name) like lower(concat('%', :q, '%'))
+                         or lower(u.email) like lower(concat('%', :q, '%')))
+          and not exists (
+                select 1 from TeamMember tm
+                where tm.team.id = :teamId and tm.user.id = u.id
+          )
+        order by u.id asc
+    """)
+    List<UserAccount> findInvitable(@Param("teamId") Long teamId,
+                                    @Param("role") Role role,
+                                    @Param("q") String q,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
     /** 관리자 검색/필터(페이지네이션) */
     @Query("""
         select u from UserAccount u
@@ -41,4 +76,14 @@ public interface UserRepository extends JpaRepository<UserAccount, Long> {
     Page<UserAccount> search(@Param("q") String q,
                              @Param("role") Role role,
                              Pageable pageable);
+
+    /** 관리자 내보내기: id 순 스트리밍 */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            // 전체 행으로 2차 캐시를 채우지 않는다 (스트림 행은 실행 뒤에 읽히므로 AdminExportService 가 세션 CacheMode 도 IGNORE 로 둔다)
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select u from UserAccount u order by u.id")
+    Stream<UserAccount> streamAllForExport();
 }
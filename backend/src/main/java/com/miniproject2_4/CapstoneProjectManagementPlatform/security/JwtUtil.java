@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.HashMap;
@@ -17,6 +18,11 @@ import org.springframework.stereotype.Component;
 /** 외부 라이브러리 없이 HS256 JWT 유틸 */
 @Component
 public class JwtUtil {
+    /** access token 수명 (폐기 목록 항목의 보관 기간도 이 값을 따른다) */
+    public static final long ACCESS_TOKEN_TTL_SECONDS = 15 * 60;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final String secret;
     private final ObjectMapper om = new ObjectMapper();
 
@@ -24,16 +30,17 @@ public class JwtUtil {
         this.secret = secret;
     }
 
-    /** 15분짜리 access token 발급 */
+    /** 15분짜리 access token 발급 (jti: 토큰 단위 폐기용 64비트 난수) */
     public String generateAccessToken(Long userId, String email, String name) {
         Instant now = Instant.now();
-        Instant exp = now.plusSeconds(15 * 60);
+        Instant exp = now.plusSeconds(ACCESS_TOKEN_TTL_SECONDS);
         Map<String,Object> claims = new HashMap<>();
         claims.put("sub", String.valueOf(userId));
         claims.put("email", email);
         claims.put("name", name);
         claims.put("iat", now.getEpochSecond());
         claims.put("exp", exp.getEpochSecond());
+        claims.put("jti", String.valueOf(RANDOM.nextLong()));
         return create(claims);
     }
 
@@ -53,6 +53,10 @@ public class SecurityConfig {
 
                         /** 관리자 API 보호 */
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        /** 정리 작업 상태/즉시 실행 */
+                        .requestMatchers("/actuator/maintenance", "/actuator/maintenance/**").hasRole("ADMIN")
+                        /** 메트릭(캐시 적중률, 요청 지표 등) */
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
                         /** 관리자 전용 전체 팀 목록 보호 (학생/교수는 /teams/my 사용) */
                         .requestMatchers(HttpMethod.GET, "/teams").hasRole("ADMIN")
 
@@ -1,12 +1,13 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.security.controller;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.ProfessorReviewController;
-import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.AuthSession;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
-import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.AuthSessionRepository;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.security.JwtUtil;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.RefreshTokenService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.TokenRevocationService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.service.LastLoginBuffer;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.service.PasswordResetService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -16,7 +17,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -30,10 +30,12 @@ import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 public class AuthController {
 
     private final UserRepository userRepository;
-    private final AuthSessionRepository authSessionRepository;
+    private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final PasswordResetService passwordResetService;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final TokenRevocationService tokenRevocationService;
 
     public record RegisterReq(String name, String email, String password, String role) {}
     public record LoginReq(String email, String password) {}
@@ -86,19 +88,11 @@ public class AuthController {
             throw new ResponseStatusException(UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
-        ua.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(ua);
+        // 로그인 시각은 버퍼에만 기록 → 주기적으로 일괄 UPDATE (로그인 요청에서 user_account 쓰기 없음)
+        lastLoginBuffer.record(ua.getId(), LocalDateTime.now());
 
         String accessToken = jwtUtil.generateAccessToken(ua.getId(), ua.getEmail(), ua.getName());
-        String refreshToken = generateRefreshToken();
-
-        AuthSession session = AuthSession.builder()
-                .user(ua)
-                .refreshToken(refreshToken)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plusDays(30))
-                .build();
-        authSessionRepository.save(session);
+        String refreshToken = refreshTokenService.issue(ua);
 
         return ResponseEntity.ok(Map.of(
                 "accessToken", accessToken,
@@ -114,15 +108,28 @@ public class AuthController {
 
     @PostMapping("/refresh")
     public ResponseEntity<?> refresh(@RequestBody RefreshReq req) {
-        var session = authSessionRepository.findWithUserByRefreshToken(req.refreshToken())
-                .orElseThrow(() -> new ResponseStatusException(BAD_REQUEST, "유효하지 않은 리프레시 토큰입니다."));
-        if (session.getExpiresAt().isBefore(LocalDateTime.now())) {
-            authSessionRepository.deleteByRefreshToken(req.refreshToken());
-            throw new ResponseStatusException(UNAUTHORIZED, "리프레시 토큰이 만료되었습니다.");
-        }
-        UserAccount ua = session.getUser();
+        // 리프레시 토큰은 매번 교체: 클라이언트는 응답의 refreshToken 으로 바꿔 저장해야 함
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(req == null ? null : req.refreshToken());
+        UserAccount ua = rotation.user();
         String newAccess = jwtUtil.generateAccessToken(ua.getId(), ua.getEmail(), ua.getName());
-        return ResponseEntity.ok(Map.of("accessToken", newAccess));
+        return ResponseEntity.ok(Map.of(
+                "accessToken", newAccess,
+                "refreshToken", rotation.refreshToken()
+        ));
+    }
+
+    /**
+     * 로그아웃: 현재 access token(jti) 을 폐기 목록에 올리고, 함께 온 리프레시 토큰 세션을 지운다.
+     * 이미 만료/폐기된 토큰이어도 204 (클라이언트는 결과와 상관없이 토큰을 버리면 됨)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshReq req,
+                                       org.springframework.security.core.Authentication auth) {
+        if (auth != null && auth.isAuthenticated() && auth.getDetails() instanceof String accessToken) {
+            tokenRevocationService.revokeAccessToken(jwtUtil.getPayload(accessToken));
+        }
+        if (req != null) refreshTokenService.revoke(req.refreshToken());
+        return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/me")
@@ -226,10 +233,4 @@ public class AuthController {
 
         return request.getRemoteAddr();
     }
-
-    private String generateRefreshToken() {
-        byte[] buf = new byte[32];
-        new SecureRandom().nextBytes(buf);
-        return java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(buf);
-    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.miniproject2_4.CapstoneProjectManagementPlatform.security.jwt;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.security.JwtUtil;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -25,10 +26,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository,
+                                   TokenRevocationService tokenRevocationService) {
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -67,6 +71,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null && jwtUtil.isValid(token)) {
             final Map<String, Object> payload = jwtUtil.getPayload(token);
+            // 폐기된 토큰(로그아웃/비밀번호 재설정) → 인증 미설정. 메모리 판정이라 DB 조회 없음
+            if (tokenRevocationService.isRevoked(payload)) {
+                chain.doFilter(request, response);
+                return;
+            }
             try {
                 final Long userId = Long.valueOf(String.valueOf(payload.get("sub")));
                 userRepository.findById(userId).ifPresent(ua -> {
@@ -90,8 +99,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      *  1) 기본 ROLE_USER
      *  2) JWT payload 의 roles/role 클레임
      *  3) (없으면) DB UserAccount의 역할을 reflection으로 가져와 ROLE_ 접두어로 추가
+     * (벤치마크에서 직접 호출하도록 package-private)
      */
-    private List<GrantedAuthority> buildAuthorities(UserAccount ua, Map<String, Object> payload) {
+    List<GrantedAuthority> buildAuthorities(UserAccount ua, Map<String, Object> payload) {
         List<GrantedAuthority> list = new ArrayList<>();
         list.add(new SimpleGrantedAuthority("ROLE_USER"));
 
@@ -0,0 +1,150 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.security.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.AuthSession;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.AuthSessionRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ChunkedDelete;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ * 리프레시 토큰 세션 관리.
+ * - 토큰 원문은 클라이언트에게만 주고, DB 에는 SHA-256 다이제스트만 저장한다
+ *   (토큰 자체가 256비트 난수이므로 솔트/느린 해시 없이 조회 가능한 다이제스트로 충분).
+ * - /auth/refresh 마다 새 토큰으로 교체(rotation)하고 이전 토큰은 즉시 무효가 된다.
+ * - 사용자당 활성 세션은 max-sessions 개까지: 로그인 시 가장 오래된 세션부터 지운다.
+ * - 만료된 세션은 정리 작업(MaintenanceScheduler)이 청크 단위(짧은 트랜잭션)로 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final AuthSessionRepository authSessionRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.auth.refresh-ttl:30d}")
+    private Duration refreshTtl;
+
+    @Value("${app.auth.max-sessions:10}")
+    private int maxSessions;
+
+    @Value("${app.auth.session-purge.batch-size:1000}")
+    private int purgeBatchSize;
+
+    /** refresh 결과: 토큰 주인 + 새 리프레시 토큰 원문 */
+    public record Rotation(UserAccount user, String refreshToken) {}
+
+    /** 새 세션 발급 → 리프레시 토큰 원문 반환 */
+    @Transactional
+    public String issue(UserAccount user) {
+        String token = generateToken();
+        LocalDateTime now = LocalDateTime.now();
+        authSessionRepository.save(AuthSession.builder()
+                .user(user)
+                .tokenHash(digest(token))
+                .createdAt(now)
+                .expiresAt(now.plus(refreshTtl))
+                .build());
+        enforceSessionLimit(user.getId());
+        return token;
+    }
+
+    /** 토큰 교체. 모르는/이미 교체된 토큰은 400, 만료된 토큰은 세션을 지우고 401 */
+    @Transactional(noRollbackFor = ResponseStatusException.class)
+    public Rotation rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new ResponseStatusException(BAD_REQUEST, "유효하지 않은 리프레시 토큰입니다.");
+        }
+        String oldHash = digest(refreshToken);
+        AuthSession session = authSessionRepository.findWithUserByTokenHash(oldHash)
+                .orElseThrow(() -> new ResponseStatusException(BAD_REQUEST, "유효하지 않은 리프레시 토큰입니다."));
+        LocalDateTime now = LocalDateTime.now();
+        if (session.getExpiresAt().isBefore(now)) {
+            authSessionRepository.deleteByTokenHash(oldHash);
+            throw new ResponseStatusException(UNAUTHORIZED, "리프레시 토큰이 만료되었습니다.");
+        }
+
+        UserAccount user = session.getUser();
+        String next = generateToken();
+        int updated = authSessionRepository.rotate(session.getId(), oldHash, digest(next), now.plus(refreshTtl));
+        if (updated == 0) {
+            // 같은 토큰으로 동시에 들어온 다른 요청이 먼저 교체함
+            throw new ResponseStatusException(BAD_REQUEST, "유효하지 않은 리프레시 토큰입니다.");
+        }
+        return new Rotation(user, next);
+    }
+
+    /** 로그아웃: 해당 세션만 삭제 (모르는 토큰은 무시) */
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) return;
+        authSessionRepository.deleteByTokenHash(digest(refreshToken));
+    }
+
+    /** 사용자의 모든 세션 삭제 (비밀번호 재설정 등) */
+    @Transactional
+    public int revokeAll(Long userId) {
+        return authSessionRepository.deleteByUserId(userId);
+    }
+
+    private void enforceSessionLimit(Long userId) {
+        if (maxSessions <= 0) return;
+        List<Long> ids = authSessionRepository.findIdsByUserIdNewestFirst(userId);
+        if (ids.size() > maxSessions) {
+            authSessionRepository.deleteByIdIn(ids.subList(maxSessions, ids.size()));
+        }
+    }
+
+    /* ===== 만료 세션 정리 ===== */
+
+    /** 만료 세션을 batch-size 개씩 끊어서 삭제 (MaintenanceScheduler 의 auth-sessions 작업) */
+    public long purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int batch = Math.max(1, purgeBatchSize);
+        return ChunkedDelete.run(new TransactionTemplate(transactionManager), batch, 0, () -> {
+            List<Long> ids = authSessionRepository.findExpiredIds(now, PageRequest.of(0, batch));
+            return ids.isEmpty() ? 0 : authSessionRepository.deleteByIdIn(ids);
+        });
+    }
+
+    /* ===== 토큰 ===== */
+
+    private static String generateToken() {
+        byte[] buf = new byte[32];
+        RANDOM.nextBytes(buf);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf);
+    }
+
+    /** SHA-256 hex (MariaDB SHA2(x, 256) 과 같은 표기) */
+    static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.security.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TokenRevocation;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TokenRevocationRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.JwtUtil;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ChunkedDelete;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.LongBloomFilter;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.LongLongHashMap;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 액세스 토큰 폐기 목록 (메모리 판정, DB 는 재생/동기화용).
+ * - 사용자 단위: userId → 기준 시각(epoch 초). iat 가 기준보다 이전인 토큰은 모두 무효 (비밀번호 재설정 등).
+ *   iat 는 초 단위라 폐기와 같은 초에 발급된 토큰은 폐기 직후 재로그인한 토큰과 구분할 수 없으므로 유효로 본다.
+ * - 토큰 단위: jti → exp. 로그아웃한 토큰 하나만 무효.
+ * - 두 맵 모두 박싱 없는 LongLongHashMap 이고, 앞단의 Bloom 필터가 "확실히 없음" 을 잠금 없이 걸러낸다
+ *   → 폐기 기록이 없는 대부분의 요청은 해시 몇 번으로 끝나고 DB 를 보지 않는다.
+ * - 항목은 대상 토큰이 모두 만료되면 (액세스 토큰 수명 이후) 필요 없으므로 주기적으로 맵/필터를 다시 만든다.
+ * - 기동 시 유효한 기록을 전부 재생하고, 이후에는 최근 생성분만 주기적으로 읽어 다른 인스턴스의 폐기를 반영한다.
+ */
+@Service
+@Log4j2
+public class TokenRevocationService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final TokenRevocationRepository repository;
+    private final PlatformTransactionManager transactionManager;
+    private final long bloomBits;
+    private final int bloomHashes;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** userId → 기준 시각 (epoch 초) */
+    private LongLongHashMap userWatermarks = new LongLongHashMap();
+    /** jti → exp (epoch 초) */
+    private LongLongHashMap revokedTokens = new LongLongHashMap();
+    private volatile LongBloomFilter userFilter;
+    private volatile LongBloomFilter tokenFilter;
+
+    /** 마지막 동기화 시작 시각 (null 이면 아직 전체 재생 전) */
+    private volatile LocalDateTime lastSyncAt;
+
+    @Value("${app.auth.revocation.sync-lookback:1m}")
+    private Duration syncLookback;
+
+    @Value("${app.auth.revocation.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    public TokenRevocationService(TokenRevocationRepository repository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.auth.revocation.bloom-bits:1048576}") long bloomBits,
+                                  @Value("${app.auth.revocation.bloom-hashes:4}") int bloomHashes) {
+        this.repository = repository;
+        this.transactionManager = transactionManager;
+        this.bloomBits = bloomBits;
+        this.bloomHashes = bloomHashes;
+        this.userFilter = new LongBloomFilter(bloomBits, bloomHashes);
+        this.tokenFilter = new LongBloomFilter(bloomBits, bloomHashes);
+    }
+
+    /* ===== 판정 ===== */
+
+    /** 서명/만료 검증을 통과한 토큰의 payload 가 폐기되었는지 (DB 조회 없음) */
+    public boolean isRevoked(Map<String, Object> payload) {
+        Long userId = asLong(payload.get("sub"));
+        Long iat = asLong(payload.get("iat"));
+        if (userId != null && iat != null && userFilter.mightContain(userId)) {
+            lock.readLock().lock();
+            try {
+                if (userWatermarks.containsKey(userId) && iat < userWatermarks.get(userId, 0)) return true;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        Long jti = asLong(payload.get("jti"));
+        if (jti != null && tokenFilter.mightContain(jti)) {
+            lock.readLock().lock();
+            try {
+                return revokedTokens.containsKey(jti);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return false;
+    }
+
+    /* ===== 폐기 ===== */
+
+    /** 지금 이 초 이전에 발급된 그 사용자의 액세스 토큰 전부 무효 */
+    public void revokeUser(Long userId) {
+        if (userId == null) return;
+        long now = Instant.now().getEpochSecond();
+        persistAndApply(TokenRevocation.Kind.USER, userId, now, now + JwtUtil.ACCESS_TOKEN_TTL_SECONDS);
+    }
+
+    /** 액세스 토큰 하나 무효 (jti 가 없는 이전 형식 토큰이면 false) */
+    public boolean revokeAccessToken(Map<String, Object> payload) {
+        Long jti = asLong(payload.get("jti"));
+        Long exp = asLong(payload.get("exp"));
+        if (jti == null || exp == null) return false;
+        persistAndApply(TokenRevocation.Kind.TOKEN, jti, exp, exp);
+        return true;
+    }
+
+    private void persistAndApply(TokenRevocation.Kind kind, long subject, long value, long expiresAt) {
+        repository.save(TokenRevocation.builder()
+                .kind(kind)
+                .subject(subject)
+                .issuedBefore(kind == TokenRevocation.Kind.USER ? toDateTime(value) : null)
+                .expiresAt(toDateTime(expiresAt))
+                .createdAt(LocalDateTime.now())
+                .build());
+        // 트랜잭션 안이면 커밋 후에만 메모리에 반영 (롤백된 폐기가 남지 않도록)
+        TransactionCallbacks.afterCommit(() -> apply(kind, subject, value));
+    }
+
+    private void apply(TokenRevocation.Kind kind, long subject, long value) {
+        lock.writeLock().lock();
+        try {
+            if (kind == TokenRevocation.Kind.USER) {
+                userWatermarks.putMax(subject, value);
+                userFilter.add(subject);
+            } else {
+                revokedTokens.put(subject, value);
+                tokenFilter.add(subject);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ===== 재생 / 동기화 ===== */
+
+    @PostConstruct
+    void replayOnStartup() {
+        // 요청을 받기 전에 끝나야 하므로 동기로 적재 (실패하면 주기 동기화가 전체 재생을 다시 시도)
+        sync();
+    }
+
+    @Scheduled(initialDelayString = "${app.auth.revocation.sync-interval-ms:10000}",
+            fixedDelayString = "${app.auth.revocation.sync-interval-ms:10000}")
+    public void sync() {
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = lastSyncAt == null ? null : lastSyncAt.minus(syncLookback);
+        try {
+            List<TokenRevocation> rows = repository.findActiveCreatedSince(started, since);
+            for (TokenRevocation r : rows) {
+                long value = r.getKind() == TokenRevocation.Kind.USER
+                        ? toEpochSecond(r.getIssuedBefore())
+                        : toEpochSecond(r.getExpiresAt());
+                apply(r.getKind(), r.getSubject(), value);
+            }
+            if (since == null) log.info("Token revocation list replayed: {} entries", rows.size());
+            lastSyncAt = started;
+        } catch (Exception e) {
+            log.warn("Token revocation sync failed: {}", e.toString());
+        }
+    }
+
+    /* ===== 정리 ===== */
+
+    @Scheduled(initialDelayString = "${app.auth.revocation.prune-interval-ms:300000}",
+            fixedDelayString = "${app.auth.revocation.prune-interval-ms:300000}")
+    public void scheduledPrune() {
+        try {
+            prune();
+        } catch (Exception e) {
+            log.warn("Token revocation prune failed: {}", e.toString());
+        }
+    }
+
+    /** 대상 토큰이 모두 만료된 항목을 빼고 맵/필터를 다시 만든다 (Bloom 필터는 삭제가 안 되므로 재구성) */
+    public void prune() {
+        long now = Instant.now().getEpochSecond();
+        long ttl = JwtUtil.ACCESS_TOKEN_TTL_SECONDS;
+        lock.writeLock().lock();
+        try {
+            LongLongHashMap users = userWatermarks.retainIf((id, watermark) -> watermark + ttl >= now);
+            LongLongHashMap tokens = revokedTokens.retainIf((jti, exp) -> exp >= now);
+            LongBloomFilter uf = new LongBloomFilter(bloomBits, bloomHashes);
+            LongBloomFilter tf = new LongBloomFilter(bloomBits, bloomHashes);
+            users.forEach((id, watermark) -> uf.add(id));
+            tokens.forEach((jti, exp) -> tf.add(jti));
+            userWatermarks = users;
+            revokedTokens = tokens;
+            userFilter = uf;
+            tokenFilter = tf;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 만료된 기록을 batch-size 개씩 끊어서 삭제 (MaintenanceScheduler 의 token-revocations 작업) */
+    public long purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int batch = Math.max(1, purgeBatchSize);
+        return ChunkedDelete.run(new TransactionTemplate(transactionManager), batch, 0, () -> {
+            List<Long> ids = repository.findExpiredIds(now, PageRequest.of(0, batch));
+            return ids.isEmpty() ? 0 : repository.deleteByIdIn(ids);
+        });
+    }
+
+    /* ===== 변환 ===== */
+
+    private static Long asLong(Object v) {
+        if (v instanceof Number n) return n.longValue();
+        if (v == null) return null;
+        try {
+            return Long.parseLong(v.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZONE);
+    }
+
+    private static long toEpochSecond(LocalDateTime t) {
+        return t.atZone(ZONE).toEpochSecond();
+    }
+}
@@ -11,8 +11,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -96,6 +98,28 @@ public class AssignmentService {
         return a;
     }
 
+    /** 일괄 상태 변경 결과: 변경된 id / 프로젝트에 없는 id */
+    public record BulkStatusResult(List<Long> updatedIds, List<Long> notFoundIds) {}
+
+    /**
+     * 상태 일괄 변경. 과제별 조회/더티체킹 없이 존재 확인 1회 + UPDATE 1회.
+     * (MariaDB 는 UPDATE ... RETURNING 이 없어 변경 대상 id 는 먼저 조회한다)
+     */
+    @Transactional
+    public BulkStatusResult changeStatusBulk(Long projectId, List<Long> assignmentIds, AssignmentStatus status) {
+        List<Long> requested = assignmentIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (requested.isEmpty()) return new BulkStatusResult(List.of(), List.of());
+
+        Set<Long> existing = new HashSet<>(assignmentRepository.findIdsByProjectIdAndIdIn(projectId, requested));
+        List<Long> updated = requested.stream().filter(existing::contains).toList();
+        List<Long> notFound = requested.stream().filter(id -> !existing.contains(id)).toList();
+
+        if (!updated.isEmpty()) {
+            assignmentRepository.updateStatusByProjectIdAndIdIn(projectId, updated, status, LocalDateTime.now());
+        }
+        return new BulkStatusResult(updated, notFound);
+    }
+
     /** 삭제 */
     @Transactional
     public void delete(Long projectId, Long id) {
@@ -0,0 +1,167 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 프로젝트 문서 ZIP 내보내기.
+ * - 응답 스트림에 바로 쓰므로 메모리 사용량은 아카이브 크기와 무관하다.
+ * - 이미 압축된 형식(이미지/영상/오피스/PDF 등)은 STORED 로 넣어 재압축 비용을 피한다.
+ * - 외부 링크 문서와 저장소에서 찾을 수 없는 파일은 프로젝트별 links.txt 에 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class DocumentExportService {
+
+    private static final Set<String> STORED_EXTENSIONS = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "heic",
+            "mp4", "mov", "avi", "mkv", "webm", "mp3", "m4a", "aac", "ogg",
+            "zip", "7z", "rar", "gz", "tgz", "bz2", "xz", "jar",
+            "docx", "xlsx", "pptx", "hwpx", "odt", "ods", "odp", "pdf"
+    );
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ProjectDocumentService documentService;
+    private final LocalFileStorageService storage;
+
+    /** 단일 프로젝트 아카이브 */
+    public void writeProjectArchive(Long projectId, OutputStream out) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE), StandardCharsets.UTF_8)) {
+            writeProject(zip, documentService.loadForExport(projectId), "");
+        }
+    }
+
+    /** 전체 프로젝트 아카이브 (관리자): 프로젝트를 하나씩 읽어 순서대로 쓴다 */
+    public void writeAllProjectsArchive(OutputStream out) throws IOException {
+        List<Long> projectIds = documentService.listProjectIdsWithDocuments();
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE), StandardCharsets.UTF_8)) {
+            for (Long projectId : projectIds) {
+                ProjectDocumentService.ExportProject project;
+                try {
+                    project = documentService.loadForExport(projectId);
+                } catch (IllegalArgumentException e) {
+                    continue; // 도중에 삭제된 프로젝트
+                }
+                writeProject(zip, project, project.id() + "_" + safeName(project.title()) + "/");
+            }
+        }
+    }
+
+    private void writeProject(ZipOutputStream zip, ProjectDocumentService.ExportProject project, String folder) throws IOException {
+        Set<String> usedNames = new HashSet<>();
+        StringBuilder links = new StringBuilder();
+
+        for (ProjectDocumentService.ExportDoc doc : project.documents()) {
+            String key = storage.keyFromObjectUrl(doc.url());
+            Path file = null;
+            if (key != null) {
+                try {
+                    file = storage.resolveKeyToPath(key);
+                } catch (SecurityException ignore) {
+                    file = null;
+                }
+            }
+
+            if (file == null || !Files.isRegularFile(file)) {
+                links.append('[').append(doc.type()).append("] ")
+                        .append(doc.title()).append('\t')
+                        .append(key != null ? "(missing) " : "")
+                        .append(doc.url()).append('\n');
+                continue;
+            }
+
+            String name = uniqueName(usedNames, folder + doc.type() + "/" + entryFileName(doc.title(), file));
+            writeFile(zip, name, file);
+        }
+
+        if (!links.isEmpty()) {
+            ZipEntry entry = new ZipEntry(uniqueName(usedNames, folder + "links.txt"));
+            zip.putNextEntry(entry);
+            zip.write(links.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+    }
+
+    private void writeFile(ZipOutputStream zip, String name, Path file) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setLastModifiedTime(Files.getLastModifiedTime(file));
+
+        if (STORED_EXTENSIONS.contains(extensionOf(file.getFileName().toString()))) {
+            // STORED 는 크기/CRC 를 먼저 써야 하므로 파일을 한 번 더 읽는다 (메모리 대신 I/O 사용)
+            long size = 0;
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = Files.newInputStream(file)) {
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    crc.update(buffer, 0, n);
+                    size += n;
+                }
+            }
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(size);
+            entry.setCompressedSize(size);
+            entry.setCrc(crc.getValue());
+        } else {
+            entry.setMethod(ZipEntry.DEFLATED);
+        }
+
+        zip.putNextEntry(entry);
+        try (InputStream in = Files.newInputStream(file)) {
+            in.transferTo(zip);
+        }
+        zip.closeEntry();
+    }
+
+    /** 문서 제목을 파일명으로 쓰되, 저장 파일의 확장자를 보존 */
+    private static String entryFileName(String title, Path file) {
+        String ext = extensionOf(file.getFileName().toString());
+        String base = safeName(title);
+        if (ext.isEmpty() || base.toLowerCase(Locale.ROOT).endsWith("." + ext)) return base;
+        return base + "." + ext;
+    }
+
+    private static String uniqueName(Set<String> used, String name) {
+        if (used.add(name)) return name;
+        int dot = name.lastIndexOf('.');
+        int slash = name.lastIndexOf('/');
+        String base = dot > slash ? name.substring(0, dot) : name;
+        String ext = dot > slash ? name.substring(dot) : "";
+        for (int i = 2; ; i++) {
+            String candidate = base + " (" + i + ")" + ext;
+            if (used.add(candidate)) return candidate;
+        }
+    }
+
+    private static String safeName(String raw) {
+        if (raw == null || raw.isBlank()) return "untitled";
+        String name = raw.trim()
+                .replaceAll("[\\\\/:*?\"<>|]", "_")
+                .replaceAll("\\p{Cntrl}+", "_");
+        if (name.length() > 100) name = name.substring(0, 100);
+        return name;
+    }
+
+    private static String extensionOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
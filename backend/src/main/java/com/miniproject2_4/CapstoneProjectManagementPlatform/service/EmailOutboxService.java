@@ -0,0 +1,251 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EmailOutbox;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.EmailOutboxRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ChunkedDelete;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 메일 transactional outbox.
+ * - enqueue: 호출한 업무 트랜잭션 안에서 email_outbox 행만 쓴다 → SMTP 지연이 DB 연결/트랜잭션을 붙잡지 않고,
+ *   롤백되면 메일도 나가지 않는다.
+ * - 디스패처: 전용 스레드(mail-outbox-*)에서 주기마다 발송 시각이 된 행을 batch-size 개 가져가(claim)
+ *   트랜잭션 밖에서 MailTransport 로 보낸다 (주기당 한 묶음).
+ *   가져간 행은 임대(lease) 동안 다른 인스턴스가 다시 가져가지 않고, 도중에 죽으면 임대 만료 후 재시도된다.
+ * - 실패는 지수 백오프(+지터)로 max-attempts 까지 재시도, 영구 실패(잘못된 주소 등)는 바로 FAILED.
+ * - 중복 제거: 같은 (종류, 수신자, 제목, 본문) 은 dedup 창 안에서 한 번만 — 넣을 때와 보내기 직전 두 번 확인.
+ */
+@Service
+@Log4j2
+public class EmailOutboxService {
+
+    private static final EnumSet<EmailOutbox.Status> LIVE = EnumSet.of(EmailOutbox.Status.PENDING, EmailOutbox.Status.SENT);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository repository;
+    private final MailTransport transport;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration dedupWindow;
+
+    /** 처리가 끝난 행 보관 기간 (지나면 정리 작업이 삭제) */
+    @Value("${app.mail.outbox.retention:14d}")
+    private Duration retention;
+
+    /** 디스패처 실행 간격 (실행이 끝난 뒤부터) */
+    @Value("${app.mail.outbox.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    /** 전용 디스패처 스레드: SMTP 호출이 @Scheduled 공용 스레드(폐기 목록 동기화, 로그인 기록 flush 등)를 막지 않도록 */
+    private final ThreadPoolTaskScheduler dispatcher = new ThreadPoolTaskScheduler();
+
+    public EmailOutboxService(EmailOutboxRepository repository,
+                              MailTransport transport,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+                              @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+                              @Value("${app.mail.outbox.lease:2m}") Duration lease,
+                              @Value("${app.mail.outbox.backoff-base:30s}") Duration backoffBase,
+                              @Value("${app.mail.outbox.backoff-max:1h}") Duration backoffMax,
+                              @Value("${app.mail.outbox.dedup-window:10m}") Duration dedupWindow) {
+        this.repository = repository;
+        this.transport = transport;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.lease = lease;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.dedupWindow = dedupWindow;
+    }
+
+    /* ===== 적재 ===== */
+
+    /**
+     * 발송 예약 (현재 트랜잭션에 참여). dedup 창 안에 같은 메일이 이미 있으면 넣지 않고 false.
+     * @param kind 메일 종류 (dedup 키 접두어, 예: password-reset)
+     */
+    @Transactional
+    public boolean enqueue(String kind, String to, String subject, String body) {
+        String dedupKey = dedupKey(kind, to, subject, body);
+        LocalDateTime now = LocalDateTime.now();
+        if (repository.existsRecent(dedupKey, now.minus(dedupWindow), LIVE, null)) {
+            log.info("Email to {} ({}) skipped as duplicate", to, kind);
+            return false;
+        }
+        repository.save(EmailOutbox.builder()
+                .dedupKey(dedupKey)
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .status(EmailOutbox.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        return true;
+    }
+
+    /* ===== 디스패처 ===== */
+
+    @PostConstruct
+    void startDispatcher() {
+        dispatcher.setPoolSize(1);
+        dispatcher.setThreadNamePrefix("mail-outbox-");
+        dispatcher.setWaitForTasksToCompleteOnShutdown(false);
+        dispatcher.initialize();
+        Duration interval = Duration.ofMillis(Math.max(1, pollIntervalMs));
+        dispatcher.scheduleWithFixedDelay(this::scheduledDispatch, Instant.now().plus(interval), interval);
+    }
+
+    @PreDestroy
+    void stopDispatcher() {
+        dispatcher.shutdown();
+    }
+
+    void scheduledDispatch() {
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.warn("Email outbox dispatch failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * 발송 시각이 된 메일을 한 묶음(batch-size)만 보낸다. 반환: 발송 성공 수
+     * 밀린 메일은 다음 주기에 이어서 보낸다 → 느린 SMTP 서버가 한 번의 실행을 길게 붙잡지 않는다.
+     */
+    public int dispatch() {
+        List<EmailOutbox> batch = tx.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) return 0;
+
+        Map<Long, MailTransport.Failure> failures;
+        try {
+            failures = transport.send(batch.stream()
+                    .map(e -> new MailTransport.Message(e.getId(), e.getRecipient(), e.getSubject(), e.getBody()))
+                    .toList());
+        } catch (Exception e) {
+            // 연결 실패 등 묶음 전체 실패 → 모두 재시도 대상
+            MailTransport.Failure failure = new MailTransport.Failure(e.toString(), false);
+            failures = new HashMap<>();
+            for (EmailOutbox row : batch) failures.put(row.getId(), failure);
+        }
+
+        Map<Long, MailTransport.Failure> result = failures;
+        tx.executeWithoutResult(status -> complete(batch, result));
+        return batch.size() - result.size();
+    }
+
+    /** 대기 행을 가져가고, 창 안에 이미 보낸 같은 메일이 있는 행은 SKIPPED 로 닫는다 */
+    private List<EmailOutbox> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(lease);
+        List<Long> claimed = new ArrayList<>();
+        for (Long id : repository.findDueIds(now, PageRequest.of(0, batchSize))) {
+            if (repository.claim(id, now, leaseUntil) == 1) claimed.add(id);
+        }
+        if (claimed.isEmpty()) return List.of();
+
+        List<EmailOutbox> out = new ArrayList<>(claimed.size());
+        LocalDateTime since = now.minus(dedupWindow);
+        for (EmailOutbox row : repository.findAllById(claimed)) {
+            // 넣을 때의 확인과 경쟁한 중복 (동시 요청) 을 여기서 한 번 더 거른다
+            if (repository.existsRecent(row.getDedupKey(), since, EnumSet.of(EmailOutbox.Status.SENT), row.getId())) {
+                repository.markAttempt(row.getId(), EmailOutbox.Status.SKIPPED, row.getNextAttemptAt(), "duplicate");
+                continue;
+            }
+            out.add(row);
+        }
+        return out;
+    }
+
+    private void complete(List<EmailOutbox> batch, Map<Long, MailTransport.Failure> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        for (EmailOutbox row : batch) {
+            MailTransport.Failure failure = failures.get(row.getId());
+            if (failure == null) {
+                sentIds.add(row.getId());
+                continue;
+            }
+            // claim 에서 이미 올린 값 = 이번 시도 횟수
+            int attempt = row.getAttempts();
+            String error = truncate(failure.error());
+            if (failure.permanent() || attempt >= maxAttempts) {
+                repository.markAttempt(row.getId(), EmailOutbox.Status.FAILED, now, error);
+                log.warn("Email {} to {} failed permanently after {} attempts: {}",
+                        row.getId(), row.getRecipient(), attempt, error);
+            } else {
+                repository.markAttempt(row.getId(), EmailOutbox.Status.PENDING, now.plus(backoff(attempt)), error);
+            }
+        }
+        if (!sentIds.isEmpty()) repository.markSent(sentIds, now);
+    }
+
+    /** 보관 기간이 지난 SENT/SKIPPED/FAILED 행을 청크 단위로 삭제 (MaintenanceScheduler 의 email-outbox 작업) */
+    public long purgeFinished(int batchSize) {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int batch = Math.max(1, batchSize);
+        return ChunkedDelete.run(tx, batch, 0, () -> {
+            List<Long> ids = repository.findFinishedIdsCreatedBefore(before, PageRequest.of(0, batch));
+            return ids.isEmpty() ? 0 : repository.deleteByIdIn(ids);
+        });
+    }
+
+    /** base * 2^(attempt-1), 최대 backoff-max, ±20% 지터 (여러 행이 같은 순간에 몰리지 않도록) */
+    Duration backoff(int attempt) {
+        long base = backoffBase.toMillis();
+        long max = backoffMax.toMillis();
+        long delay = attempt >= 31 ? max : Math.min(max, base << Math.max(0, attempt - 1));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+
+    private static String truncate(String s) {
+        if (s == null) return null;
+        return s.length() <= MAX_ERROR_LENGTH ? s : s.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /** kind:SHA-256(수신자, 제목, 본문) 앞 32바이트 hex */
+    static String dedupKey(String kind, String to, String subject, String body) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(to.toLowerCase().getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(subject.getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(body.getBytes(StandardCharsets.UTF_8));
+            String prefix = kind.length() > 35 ? kind.substring(0, 35) : kind;
+            return prefix + ":" + HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * 메일 내용 구성 + 발송 예약.
+ * 실제 발송은 EmailOutboxService 디스패처가 커밋 후 비동기로 하므로, 여기서는 호출 트랜잭션에 outbox 행만 추가한다.
+ */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
-    @Value("${app.mail.from:noreply@capstone.app}")
-    private String fromEmail;
+    private final EmailOutboxService outboxService;
 
     @Value("${app.base-url:http://localhost:3000}")
     private String baseUrl;
@@ -27,10 +32,9 @@ public class EmailService {
                     resetUrl
             );
 
-            // TODO: 실제 이메일 발송 구현 (현재는 로그만 출력)
-            log.info("Password reset email would be sent to: {} with content: {}", to, content);
+            outboxService.enqueue("password-reset", to, "[캡스톤] 비밀번호 재설정 안내", content);
         } catch (Exception e) {
-            log.error("Failed to send password reset email to: {}", to, e);
+            log.error("Failed to queue password reset email to: {}", to, e);
             throw new RuntimeException("이메일 전송에 실패했습니다.");
         }
     }
@@ -46,10 +50,9 @@ public class EmailService {
                     maskedId
             );
 
-            // TODO: 실제 이메일 발송 구현 (현재는 로그만 출력)
-            log.info("Forgot ID email would be sent to: {} with content: {}", to, content);
+            outboxService.enqueue("forgot-id", to, "[캡스톤] 아이디 찾기 결과", content);
         } catch (Exception e) {
-            log.error("Failed to send forgot ID email to: {}", to, e);
+            log.error("Failed to queue forgot ID email to: {}", to, e);
             throw new RuntimeException("이메일 전송에 실패했습니다.");
         }
     }
@@ -64,10 +67,9 @@ public class EmailService {
                     userName
             );
 
-            // TODO: 실제 이메일 발송 구현 (현재는 로그만 출력)
-            log.info("Password change notification email would be sent to: {} with content: {}", to, content);
+            outboxService.enqueue("password-changed", to, "[캡스톤] 비밀번호 변경 알림", content);
         } catch (Exception e) {
-            log.error("Failed to send password change notification email to: {}", to, e);
+            log.error("Failed to queue password change notification email to: {}", to, e);
             // 알림 이메일 실패는 비밀번호 변경 프로세스를 막지 않음
         }
     }
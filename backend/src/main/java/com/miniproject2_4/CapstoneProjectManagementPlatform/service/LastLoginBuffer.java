@@ -0,0 +1,92 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserLoginJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시각 write-behind 버퍼.
+ * - 로그인 요청은 메모리 맵에 기록만 한다 (같은 사용자는 최신 값 하나로 합쳐짐).
+ * - 주기적으로 batch-size 개씩 JDBC 배치 UPDATE 로 반영한다 (로그인 요청마다 user_account 행 잠금 없음).
+ * - DB 반영이 끝난 뒤에 버퍼에서 지우므로, 조회 측은 effective()/pending() 으로 아직 안 쓴 값까지 합쳐 볼 수 있다.
+ * - 종료 시 남은 값을 한 번 더 반영한다. 비정상 종료 시에는 마지막 flush 이후의 기록만 잃는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class LastLoginBuffer {
+
+    private final UserLoginJdbcRepository userLoginJdbcRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.auth.last-login.batch-size:500}")
+    private int batchSize;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void record(Long userId, LocalDateTime at) {
+        if (userId == null || at == null) return;
+        pending.merge(userId, at, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    /** 아직 DB 에 반영되지 않은 기록 (읽기 전용 스냅샷) */
+    public Map<Long, LocalDateTime> pending() {
+        return Map.copyOf(pending);
+    }
+
+    /** DB 값과 버퍼 값 중 최신 */
+    public LocalDateTime effective(Long userId, LocalDateTime stored) {
+        LocalDateTime buffered = userId == null ? null : pending.get(userId);
+        if (buffered == null) return stored;
+        return (stored == null || buffered.isAfter(stored)) ? buffered : stored;
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.last-login.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Last-login flush failed ({} pending): {}", pending.size(), e.toString());
+        }
+    }
+
+    public synchronized int flush() {
+        if (pending.isEmpty()) return 0;
+        int batch = Math.max(1, batchSize);
+        List<UserLoginJdbcRepository.LoginStamp> stamps = new ArrayList<>();
+        pending.forEach((id, at) -> stamps.add(new UserLoginJdbcRepository.LoginStamp(id, at)));
+
+        for (int from = 0; from < stamps.size(); from += batch) {
+            List<UserLoginJdbcRepository.LoginStamp> chunk = stamps.subList(from, Math.min(from + batch, stamps.size()));
+            userLoginJdbcRepository.updateLastLoginAt(chunk);
+            var cache = entityManagerFactory.getCache();
+            for (UserLoginJdbcRepository.LoginStamp s : chunk) {
+                // 2차 캐시의 사용자 엔티티 갱신 + 그 사이 더 새 기록이 들어왔으면 남겨 둠
+                cache.evict(UserAccount.class, s.userId());
+                pending.remove(s.userId(), s.at());
+            }
+        }
+        return stamps.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Last-login flush on shutdown failed: {}", e.toString());
+        }
+    }
+}
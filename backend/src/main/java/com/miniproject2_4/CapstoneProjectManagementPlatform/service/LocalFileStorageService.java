@@ -1,35 +1,53 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.StorageKeys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.util.FileSystemUtils;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class LocalFileStorageService implements StorageService {
 
+    /** 썸네일 등 파생 파일의 key 접두사 (원본 key 와 겹치지 않음) */
+    private static final String THUMBNAIL_PREFIX = "_thumb/";
+
+    /** 고아 파일 정리기가 삭제 전 옮겨 두는 휴지통 key 접두사 */
+    private static final String TRASH_PREFIX = "_trash/";
+
+    private final ThumbnailService thumbnailService;
+
     @Value("${app.upload.root-dir:./uploads}")
     private String rootDirStr;
 
     @Value("${app.upload.ttl-seconds:600}")
     private int ttlSeconds;
 
+    /** 업로드 1건당 최대 크기 (기본 100MB) */
+    @Value("${app.upload.max-bytes:104857600}")
+    private long maxUploadBytes;
+
     // 서버 컨텍스트 경로 (기본 /api)
     @Value("${server.servlet.context-path:/api}")
     private String contextPath;
@@ -37,6 +55,7 @@ public class LocalFileStorageService implements StorageService {
     private Path rootDir;
 
     private static class Ticket {
+        final String key;
         final Path path;
         final String contentType;
         final long size;
@@ -44,7 +63,8 @@ public class LocalFileStorageService implements StorageService {
         final Long userId;
         final Long projectId;
 
-        Ticket(Path path, String contentType, long size, long expiresAtEpochSec, Long userId, Long projectId) {
+        Ticket(String key, Path path, String contentType, long size, long expiresAtEpochSec, Long userId, Long projectId) {
+            this.key = key;
             this.path = path;
             this.contentType = contentType;
             this.size = size;
@@ -87,7 +107,7 @@ public class LocalFileStorageService implements StorageService {
         String token = UUID.randomUUID().toString().replace("-", "");
         long expiresAt = Instant.now().getEpochSecond() + Math.max(1, ttlSeconds);
 
-        tickets.put(token, new Ticket(filePath, emptyTo(contentType, "application/octet-stream"), size, expiresAt,
+        tickets.put(token, new Ticket(key, filePath, emptyTo(contentType, "application/octet-stream"), size, expiresAt,
                 user != null ? user.getId() : null, projectId));
 
         String uploadUrl = joinPath(contextPath, "/uploads/put/", token);
@@ -115,27 +135,159 @@ public class LocalFileStorageService implements StorageService {
             throw new SecurityException("uploader mismatch");
         }
 
-        Path p = t.path;
-        Files.createDirectories(p.getParent());
-
-        // 임시 파일에 쓰고 원자적 이동
-        Path tmp = Files.createTempFile(p.getParent(), "upload-", ".part");
+        long written;
         try (in) {
-            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            FileSystemUtils.deleteRecursively(tmp);
+            written = writeAtomically(t.path, in);
+        }
+        if (written > 0) refreshThumbnail(t.key);
+    }
+
+    /**
+     * 스트림을 key 위치에 바로 저장한다 (멀티파트 스트리밍 업로드용).
+     * @return 저장된 바이트 수
+     */
+    public long storeStream(String key, InputStream in) throws IOException {
+        long written = writeAtomically(resolveKeyToPath(key), in);
+        if (written > 0) refreshThumbnail(key);
+        return written;
+    }
+
+    /**
+     * 원본 key 의 썸네일 생성을 백그라운드로 요청한다 (지원하지 않는 형식이면 무시).
+     */
+    public void requestThumbnail(String key) {
+        if (isDerivedKey(key)) return;
+        thumbnailService.enqueue(resolveKeyToPath(key), resolveThumbnailPath(key));
+    }
+
+    /** 원본이 새로 저장됨: 이전 생성 실패 기록을 지우고 다시 요청한다 */
+    private void refreshThumbnail(String key) {
+        if (isDerivedKey(key)) return;
+        thumbnailService.forgetFailure(resolveThumbnailPath(key));
+        requestThumbnail(key);
+    }
+
+    /** 원본 key → 썸네일 파일 경로 */
+    public Path resolveThumbnailPath(String key) {
+        return resolveKeyToPath(THUMBNAIL_PREFIX + stripLeadingSlash(key) + ".jpg");
+    }
+
+    public boolean isThumbnailSupported(String key) {
+        return !isInternalKey(key) && thumbnailService.supports(key);
+    }
+
+    public boolean isDerivedKey(String key) {
+        return rootRelative(key).startsWith(THUMBNAIL_PREFIX);
+    }
+
+    /**
+     * 썸네일/휴지통 등 내부 관리용 key 여부 (원본 파일 아님).
+     * "x/../_trash/..." 처럼 돌아 들어오는 key 도 잡도록 정규화한 루트 기준 경로로 판정한다.
+     */
+    public boolean isInternalKey(String key) {
+        String k = rootRelative(key);
+        return k.startsWith(THUMBNAIL_PREFIX) || k.startsWith(TRASH_PREFIX);
+    }
+
+    /** key 를 정규화한 루트 기준 상대 경로 (디렉터리 자체도 접두사와 비교되도록 끝에 '/') */
+    private String rootRelative(String key) {
+        return keyOf(resolveKeyToPath(key)) + "/";
+    }
+
+    /** 원본 key → 휴지통 경로 */
+    public Path resolveTrashPath(String key) {
+        return resolveKeyToPath(TRASH_PREFIX + stripLeadingSlash(key));
+    }
+
+    public Path getTrashDir() {
+        return rootDir.resolve(TRASH_PREFIX);
+    }
+
+    public Path getRootDir() {
+        return rootDir;
+    }
+
+    /** 업로드 루트 기준 상대 경로 → key ('/' 구분) */
+    public String keyOf(Path path) {
+        return rootDir.relativize(path.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+
+    /* ===== 정리 (MaintenanceScheduler) ===== */
+
+    /** 쓰이지 않고 만료된 업로드 토큰 제거. 반환: 제거 수 */
+    public int purgeExpiredTickets() {
+        int before = tickets.size();
+        tickets.values().removeIf(Ticket::isExpired);
+        return Math.max(0, before - tickets.size());
+    }
+
+    /**
+     * 쓰기 도중 프로세스가 죽어 남은 임시(.part) 파일 삭제.
+     * 진행 중인 업로드를 건드리지 않도록 maxAge 보다 오래된 것만, 한 번에 limit 개까지.
+     */
+    public int purgeStalePartFiles(Duration maxAge, int limit) throws IOException {
+        Instant cutoff = Instant.now().minus(maxAge);
+        List<Path> stale;
+        try (Stream<Path> s = Files.walk(rootDir)) {
+            stale = s.filter(p -> p.getFileName().toString().endsWith(".part"))
+                    .filter(Files::isRegularFile)
+                    .filter(p -> {
+                        try {
+                            return Files.getLastModifiedTime(p).toInstant().isBefore(cutoff);
+                        } catch (IOException e) {
+                            return false;
+                        }
+                    })
+                    .limit(Math.max(1, limit))
+                    .toList();
+        }
+        int deleted = 0;
+        for (Path p : stale) {
+            try {
+                if (Files.deleteIfExists(p)) deleted++;
+            } catch (IOException e) {
+                log.warn("Failed to delete stale part file {} ({})", p, e.toString());
+            }
+        }
+        return deleted;
+    }
+
+    public long getMaxUploadBytes() {
+        return maxUploadBytes;
+    }
+
+    /**
+     * 같은 디렉터리의 임시(.part) 파일에 쓰고 원자적으로 이동한다.
+     * - 쓰는 도중 maxUploadBytes 를 넘으면 즉시 중단하고 임시 파일을 지운다 (413)
+     */
+    private long writeAtomically(Path target, InputStream in) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), "upload-", ".part");
+        long written = 0;
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            byte[] buffer = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                written += n;
+                if (written > maxUploadBytes) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "FILE_TOO_LARGE");
+                }
+                out.write(buffer, 0, n);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
             throw e;
         }
 
-        Files.move(tmp, p, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
     }
 
     /**
      * 다운로드용 경로 해석 (루트 외부 접근 방지)
      */
     public Path resolveKeyToPath(String key) {
-        String normalized = key.replace("\\", "/");
-        while (normalized.startsWith("/")) normalized = normalized.substring(1);
+        String normalized = stripLeadingSlash(key);
         Path p = this.rootDir.resolve(normalized).normalize();
         if (!p.startsWith(this.rootDir)) {
             throw new SecurityException("invalid key");
@@ -143,6 +295,19 @@ public class LocalFileStorageService implements StorageService {
         return p;
     }
 
+    /**
+     * 문서 URL("/api/files?key=...")에서 로컬 저장소 key 추출 (외부 링크면 null)
+     */
+    public String keyFromObjectUrl(String url) {
+        return StorageKeys.fromObjectUrl(url);
+    }
+
+    private static String stripLeadingSlash(String key) {
+        String normalized = key.replace("\\", "/");
+        while (normalized.startsWith("/")) normalized = normalized.substring(1);
+        return normalized;
+    }
+
     private static String sanitizeFilename(String raw) {
         if (raw == null) return "file";
         String name = raw.trim()
@@ -0,0 +1,23 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/** 기본 발송 수단: 실제로 보내지 않고 로그만 남긴다 (개발/테스트) */
+@Component
+@ConditionalOnProperty(name = "app.mail.transport", havingValue = "log", matchIfMissing = true)
+@Log4j2
+public class LoggingMailTransport implements MailTransport {
+
+    @Override
+    public Map<Long, Failure> send(List<Message> batch) {
+        for (Message m : batch) {
+            log.info("Email would be sent to: {} subject: {} content: {}", m.to(), m.subject(), m.body());
+        }
+        return Map.of();
+    }
+}
@@ -0,0 +1,23 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 발송 수단. app.mail.transport 로 구현을 고른다 (log: 로그만, smtp: JavaMailSender).
+ * EmailOutboxService 디스패처만 호출하며, 한 번에 여러 통을 넘겨 연결을 재사용할 수 있게 한다.
+ */
+public interface MailTransport {
+
+    /** 보낼 메일. id 는 outbox 행 id (중복 확인용 헤더로 실어 보낸다) */
+    record Message(Long id, String to, String subject, String body) {}
+
+    /** 실패 사유. permanent 이면 재시도하지 않는다 (잘못된 주소 등) */
+    record Failure(String error, boolean permanent) {}
+
+    /**
+     * 일괄 발송.
+     * @return 실패한 메시지 id → 사유 (비어 있으면 전부 성공). 연결 실패처럼 전체가 실패하면 예외를 던져도 된다.
+     */
+    Map<Long, Failure> send(List<Message> batch);
+}
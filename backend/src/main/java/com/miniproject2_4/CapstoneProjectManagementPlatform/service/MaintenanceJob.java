@@ -0,0 +1,41 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * MaintenanceScheduler 가 주기적으로 실행하는 정리 작업.
+ * 빈으로 등록하면 자동으로 일정에 올라가며, 간격/사용 여부는 app.maintenance.jobs.{name}.* 로 바꾼다.
+ * 작업 본문은 청크 단위(짧은 트랜잭션)로 지우고 처리한 행/파일 수를 돌려준다.
+ */
+public interface MaintenanceJob {
+
+    /** 설정 키/지표 태그에 쓰는 이름 (kebab-case) */
+    String name();
+
+    /** 설정이 없을 때의 실행 간격 */
+    Duration defaultInterval();
+
+    /** 한 번 실행. 반환: 처리한 행/파일 수 */
+    long run() throws Exception;
+
+    static MaintenanceJob of(String name, Duration defaultInterval, Callable<? extends Number> task) {
+        return new MaintenanceJob() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Duration defaultInterval() {
+                return defaultInterval;
+            }
+
+            @Override
+            public long run() throws Exception {
+                Number n = task.call();
+                return n == null ? 0 : n.longValue();
+            }
+        };
+    }
+}
@@ -0,0 +1,196 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 정리 작업 실행기.
+ * - MaintenanceJob 빈을 모아 전용 스레드(maintenance-*)에서 고정 지연으로 실행한다
+ *   → 오래 걸리는 정리가 @Scheduled 공용 스레드(메일 발송, 로그인 기록 flush 등)를 막지 않는다.
+ * - 작업별 설정: app.maintenance.jobs.{name}.enabled / interval, 전체: app.maintenance.enabled / initial-delay / pool-size.
+ * - 실행마다 소요 시간과 처리 건수를 기록해 maintenance.job.duration / maintenance.job.rows 지표와
+ *   actuator maintenance 엔드포인트(상태 조회, 즉시 실행)로 내보낸다.
+ * - 즉시 실행도 같은 스레드 풀과 작업별 running 점유를 거치므로 일정 실행과 겹치지 않고 HTTP 스레드를 잡지 않는다.
+ */
+@Service
+@Log4j2
+public class MaintenanceScheduler {
+
+    /** 작업 상태 (actuator 응답) */
+    public record JobStatus(String name,
+                            boolean enabled,
+                            Duration interval,
+                            boolean running,
+                            long runs,
+                            long failures,
+                            LocalDateTime lastStartedAt,
+                            Long lastDurationMs,
+                            Long lastRows,
+                            String lastError,
+                            long totalRows) {}
+
+    /** 작업별 실행 기록 */
+    private static final class Entry {
+        final MaintenanceJob job;
+        final boolean enabled;
+        final Duration interval;
+        final Timer timer;
+        final Counter rows;
+        final Counter failed;
+        final AtomicBoolean running = new AtomicBoolean();
+        volatile long runs;
+        volatile long failures;
+        volatile LocalDateTime lastStartedAt;
+        volatile Long lastDurationMs;
+        volatile Long lastRows;
+        volatile String lastError;
+        volatile long totalRows;
+
+        Entry(MaintenanceJob job, boolean enabled, Duration interval, MeterRegistry registry) {
+            this.job = job;
+            this.enabled = enabled;
+            this.interval = interval;
+            this.timer = Timer.builder("maintenance.job.duration")
+                    .description("정리 작업 1회 실행 시간")
+                    .tag("job", job.name())
+                    .register(registry);
+            this.rows = Counter.builder("maintenance.job.rows")
+                    .description("정리 작업이 처리한 행/파일 수")
+                    .tag("job", job.name())
+                    .register(registry);
+            this.failed = Counter.builder("maintenance.job.failures")
+                    .description("정리 작업 실패 횟수")
+                    .tag("job", job.name())
+                    .register(registry);
+        }
+
+        JobStatus status() {
+            return new JobStatus(job.name(), enabled, interval, running.get(), runs, failures,
+                    lastStartedAt, lastDurationMs, lastRows, lastError, totalRows);
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Environment env;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    public MaintenanceScheduler(List<MaintenanceJob> jobs, Environment env, MeterRegistry registry) {
+        this.env = env;
+        for (MaintenanceJob job : jobs) {
+            String prefix = "app.maintenance.jobs." + job.name();
+            boolean enabled = env.getProperty(prefix + ".enabled", Boolean.class, true);
+            Duration interval = env.getProperty(prefix + ".interval", Duration.class, job.defaultInterval());
+            if (entries.putIfAbsent(job.name(), new Entry(job, enabled, interval, registry)) != null) {
+                throw new IllegalStateException("Duplicate maintenance job: " + job.name());
+            }
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        // 일정 실행을 끈 경우에도 즉시 실행(runNow)은 같은 스레드에서 돌도록 실행기는 항상 띄운다
+        scheduler.setPoolSize(Math.max(1, env.getProperty("app.maintenance.pool-size", Integer.class, 1)));
+        scheduler.setThreadNamePrefix("maintenance-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+
+        if (!env.getProperty("app.maintenance.enabled", Boolean.class, true)) {
+            log.info("Maintenance scheduler disabled");
+            return;
+        }
+        Duration initialDelay = env.getProperty("app.maintenance.initial-delay", Duration.class, Duration.ofMinutes(2));
+        for (Entry e : entries.values()) {
+            if (!e.enabled) continue;
+            scheduler.scheduleWithFixedDelay(() -> execute(e), Instant.now().plus(initialDelay), e.interval);
+            log.info("Maintenance job {} scheduled every {}", e.job.name(), e.interval);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+    }
+
+    /** 전체 상태 (등록 순) */
+    public List<JobStatus> statuses() {
+        List<JobStatus> out = new ArrayList<>(entries.size());
+        for (Entry e : entries.values()) out.add(e.status());
+        return out;
+    }
+
+    public JobStatus status(String name) {
+        Entry e = entries.get(name);
+        return e == null ? null : e.status();
+    }
+
+    /**
+     * 즉시 실행 요청. 작업은 maintenance-* 스레드로 넘기고 기다리지 않고 상태를 바로 반환한다(running=true).
+     * 이미 돌고 있거나 대기 중이면 새로 넣지 않는다. 모르는 작업이면 null
+     */
+    public JobStatus runNow(String name) {
+        Entry e = entries.get(name);
+        if (e == null) return null;
+        // 호출 스레드에서 먼저 점유해야 연속 요청이 두 번 들어가지 않는다
+        if (e.running.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> runClaimed(e));
+            } catch (RuntimeException ex) { // 종료 중이거나 실행기가 아직 없을 때
+                e.running.set(false);
+                throw ex;
+            }
+        }
+        return e.status();
+    }
+
+    private void execute(Entry e) {
+        // 일정 실행과 수동 실행이 겹치지 않도록
+        if (!e.running.compareAndSet(false, true)) return;
+        runClaimed(e);
+    }
+
+    /** running 을 점유한 쪽에서만 호출 */
+    private void runClaimed(Entry e) {
+        e.lastStartedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        try {
+            long n = e.job.run();
+            e.lastRows = n;
+            e.totalRows += n;
+            e.lastError = null;
+            e.rows.increment(n);
+            if (n > 0) log.info("Maintenance job {}: {} rows in {} ms", e.job.name(), n, elapsedMs(started));
+        } catch (Exception ex) {
+            e.failures++;
+            e.lastRows = null;
+            e.lastError = ex.toString();
+            e.failed.increment();
+            log.warn("Maintenance job {} failed: {}", e.job.name(), ex.toString());
+        } finally {
+            long nanos = System.nanoTime() - started;
+            e.timer.record(Duration.ofNanos(nanos));
+            e.lastDurationMs = nanos / 1_000_000;
+            e.runs++;
+            e.running.set(false);
+        }
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,175 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.CursorPage;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.NotificationArchive;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.NotificationArchiveJdbcRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.NotificationArchiveRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.NotificationRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ChunkedDelete;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알림 보관 계층.
+ * - 읽은 지 archive.after 가 지난 알림을 청크 단위로 notification_archive 로 옮긴다 (청크마다 복사+삭제 한 트랜잭션)
+ *   → notification 에는 최근/안 읽은 알림만 남아 목록 조회(findTop100...)가 사용자 이력 길이에 덜 영향받는다.
+ * - 보관 알림은 별도 커서 페이지 API 로 조회한다.
+ * - MariaDB 에서 monthly-partitions 를 켜면 보관 테이블의 월 파티션을 months-ahead 개월 앞까지 미리 만든다.
+ * - retention 을 두면 그보다 오래된 보관 알림을 지운다 (월 파티션이면 파티션 단위로 버림).
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class NotificationArchiveService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository archiveRepository;
+    private final NotificationArchiveJdbcRepository archiveJdbcRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 읽은 알림을 notification 에 남겨 두는 기간 */
+    @Value("${app.notification.archive.after:30d}")
+    private Duration archiveAfter;
+
+    @Value("${app.notification.archive.monthly-partitions:false}")
+    private boolean monthlyPartitions;
+
+    @Value("${app.notification.archive.months-ahead:3}")
+    private int monthsAhead;
+
+    /** 보관 알림 보존 기간 (0 이면 지우지 않음) */
+    @Value("${app.notification.archive.retention:0d}")
+    private Duration retention;
+
+    /** 보관 대상 알림을 옮긴다 (MaintenanceScheduler 의 notification-archive 작업). 반환: 옮긴 수 */
+    public long archiveRead(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minus(archiveAfter);
+        int batch = Math.max(1, batchSize);
+        return ChunkedDelete.run(new TransactionTemplate(transactionManager), batch, 0, () -> {
+            List<Long> ids = notificationRepository.findReadIdsCreatedBefore(before, PageRequest.of(0, batch));
+            return ids.isEmpty() ? 0 : archiveJdbcRepository.moveToArchive(ids, now);
+        });
+    }
+
+    /**
+     * 월 파티션(pYYYYMM)을 months-ahead 개월 뒤까지 만든다 (notification-archive-partitions 작업).
+     * 아직 pmax 하나뿐이면 이미 쌓인 가장 오래된 달부터 나눠 이력이 한 파티션에 몰리지 않게 한다.
+     * 꺼져 있거나 파티션 테이블이 아니면(H2 등) 아무것도 하지 않는다. 반환: 새로 만든 파티션 수
+     */
+    public int ensureMonthlyPartitions() {
+        if (!monthlyPartitions) return 0;
+        List<String> existing = partitionNames();
+        if (existing.isEmpty()) return 0;
+
+        Set<String> names = new HashSet<>(existing);
+        YearMonth last = latestMonth(existing);
+        YearMonth target = YearMonth.now().plusMonths(Math.max(0, monthsAhead));
+        // 이미 만든 마지막 달 다음부터 순서대로 (범위 파티션은 경계가 오름차순이어야 함)
+        YearMonth month = last == null ? firstMonth() : last.plusMonths(1);
+        List<NotificationArchiveJdbcRepository.MonthPartition> missing = new ArrayList<>();
+        for (; !month.isAfter(target); month = month.plusMonths(1)) {
+            String name = partitionName(month);
+            if (names.contains(name)) continue;
+            missing.add(new NotificationArchiveJdbcRepository.MonthPartition(name, month.plusMonths(1).atDay(1)));
+        }
+        if (missing.isEmpty()) return 0;
+        // 한 번의 REORGANIZE 로: pmax 에 쌓인 행을 달마다 따로 옮겨 쓰면 달 수만큼 다시 쓰게 된다
+        archiveJdbcRepository.splitMaxPartition(missing);
+        log.info("Notification archive partitions {}..{} created",
+                missing.get(0).name(), missing.get(missing.size() - 1).name());
+        return missing.size();
+    }
+
+    /**
+     * 보존 기간(retention)이 지난 보관 알림을 지운다 (notification-archive-retention 작업). 0 이면 지우지 않는다.
+     * 월 파티션을 쓰면 한 달 전체가 지난 파티션은 DROP PARTITION 으로 통째로 버리고(건수에 포함하지 않음),
+     * 남은 행(파티션이 없거나 경계 달에 걸친 행)은 청크 단위로 지운다. 반환: 행 단위로 지운 수
+     */
+    public long purgeExpired(int batchSize) {
+        if (retention.isZero() || retention.isNegative()) return 0;
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        if (monthlyPartitions) dropExpiredPartitions(cutoff);
+        int batch = Math.max(1, batchSize);
+        return ChunkedDelete.run(new TransactionTemplate(transactionManager), batch, 0,
+                () -> archiveJdbcRepository.deleteCreatedBefore(cutoff, batch));
+    }
+
+    private void dropExpiredPartitions(LocalDateTime cutoff) {
+        for (String name : partitionNames()) {
+            YearMonth month = monthOf(name);
+            // 다음 달 1일(파티션 상한)이 cutoff 이하이면 그 달의 행은 모두 보존 기간이 지났다
+            if (month == null || month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) continue;
+            archiveJdbcRepository.dropPartition(name);
+            log.info("Notification archive partition {} dropped (retention {})", name, retention);
+        }
+    }
+
+    /** 파티션 이름 (정보 스키마가 없거나 실패하면 빈 목록) */
+    private List<String> partitionNames() {
+        try {
+            return archiveJdbcRepository.partitionNames();
+        } catch (Exception e) {
+            log.warn("Notification archive partitions unavailable: {}", e.toString());
+            return List.of();
+        }
+    }
+
+    /** 첫 분할 시작 달: 보관 행이 있으면 가장 오래된 달, 없으면 이번 달 */
+    private YearMonth firstMonth() {
+        YearMonth now = YearMonth.now();
+        LocalDateTime oldest = archiveJdbcRepository.minCreatedAt();
+        if (oldest == null) return now;
+        YearMonth m = YearMonth.from(oldest);
+        return m.isBefore(now) ? m : now;
+    }
+
+    /** 본인 보관 알림 커서 페이지 (id 내림차순) */
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationArchive> page(Long userId, Long beforeId, int limit) {
+        int safeLimit = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        List<NotificationArchive> rows = archiveRepository.findPage(userId, beforeId, PageRequest.of(0, safeLimit));
+        Long nextCursor = rows.size() == safeLimit ? rows.get(rows.size() - 1).getId() : null;
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /** pYYYYMM 파티션 중 가장 늦은 달 (없으면 null) */
+    private static YearMonth latestMonth(List<String> names) {
+        YearMonth latest = null;
+        for (String n : names) {
+            YearMonth m = monthOf(n);
+            if (m != null && (latest == null || m.isAfter(latest))) latest = m;
+        }
+        return latest;
+    }
+
+    /** pYYYYMM → 달 (다른 이름 규칙의 파티션, pmax 등은 null) */
+    private static YearMonth monthOf(String name) {
+        if (name.length() != 7 || name.charAt(0) != 'p') return null;
+        try {
+            return YearMonth.of(Integer.parseInt(name.substring(1, 5)), Integer.parseInt(name.substring(5)));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트 개요 Markdown → HTML 렌더링 결과 캐시.
+ * - 키는 (projectId, version): 프로젝트당 최신 버전 하나만 두고, 버전이 다르면 미스로 처리한다.
+ * - saveDirect/approve 로 버전이 오르면 evict 로 즉시 비운다.
+ * - 원문 HTML 은 이스케이프하고 URL 은 정화해 렌더링한다 (사용자 입력이므로).
+ */
+@Component
+public class OverviewHtmlCache {
+
+    private record Rendered(int version, String html) {}
+
+    private final Parser parser;
+    private final HtmlRenderer renderer;
+    private final Map<Long, Rendered> cache;
+
+    public OverviewHtmlCache(@Value("${app.overview.html-cache-size:500}") int maxEntries) {
+        List<Extension> extensions = List.of(TablesExtension.create());
+        this.parser = Parser.builder().extensions(extensions).build();
+        this.renderer = HtmlRenderer.builder()
+                .extensions(extensions)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .build();
+        int max = Math.max(1, maxEntries);
+        // 접근 순서 LRU
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Rendered> eldest) {
+                return size() > max;
+            }
+        };
+    }
+
+    /** 캐시된 HTML (없거나 버전이 다르면 null) */
+    public synchronized String get(Long projectId, int version) {
+        Rendered r = cache.get(projectId);
+        return (r != null && r.version() == version) ? r.html() : null;
+    }
+
+    /** 렌더링 후 캐시에 넣고 결과 반환 */
+    public String render(Long projectId, int version, String markdown) {
+        String html = renderer.render(parser.parse(markdown == null ? "" : markdown));
+        synchronized (this) {
+            Rendered current = cache.get(projectId);
+            // 동시에 더 새로운 버전이 들어왔으면 덮어쓰지 않음
+            if (current == null || current.version() <= version) {
+                cache.put(projectId, new Rendered(version, html));
+            }
+        }
+        return html;
+    }
+
+    public synchronized void evict(Long projectId) {
+        cache.remove(projectId);
+    }
+}
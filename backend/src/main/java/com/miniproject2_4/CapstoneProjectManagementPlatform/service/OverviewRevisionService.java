@@ -0,0 +1,118 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Project;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.ProjectOverviewRevision;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectOverviewRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectOverviewRevisionRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.LineDiff;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * 프로젝트 개요 게시본 이력 (스냅샷 + 델타).
+ * - 버전이 오를 때마다 직전 버전 대비 줄 단위 델타를 저장하고, snapshot-interval 번째마다 전체 스냅샷을 저장한다.
+ * - 델타가 본문보다 크거나 체인이 끊긴 경우에도 스냅샷으로 저장한다.
+ * - 임의 버전 복원은 가장 가까운 이전 스냅샷에서 최대 (interval - 1)개의 델타만 적용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OverviewRevisionService {
+
+    private final ProjectOverviewRevisionRepository revisionRepository;
+    private final ProjectOverviewRepository overviewRepository;
+
+    @Value("${app.overview.snapshot-interval:10}")
+    private int snapshotInterval;
+
+    /**
+     * 게시본 버전 변경 기록. 호출 측 트랜잭션(saveDirect/approve) 안에서 실행된다.
+     * @param prevVersion  변경 전 게시 버전
+     * @param prevMarkdown 변경 전 게시 본문
+     */
+    @Transactional
+    public void record(Project project, int prevVersion, String prevMarkdown,
+                       int version, String markdown, UserAccount editor) {
+        Long projectId = project.getId();
+        String prev = prevMarkdown == null ? "" : prevMarkdown;
+        String next = markdown == null ? "" : markdown;
+
+        List<ProjectOverviewRevisionRepository.Head> heads =
+                revisionRepository.findHeads(projectId, PageRequest.of(0, 1));
+        int headVersion;
+        int headDepth;
+        if (heads.isEmpty()) {
+            // 이력 도입 전 게시본은 기록이 없으므로 직전 버전을 기준 스냅샷으로 남긴다
+            save(project, prevVersion, ProjectOverviewRevision.Kind.SNAPSHOT, 0, prev, null);
+            headVersion = prevVersion;
+            headDepth = 0;
+        } else {
+            headVersion = heads.get(0).getVersion();
+            headDepth = heads.get(0).getDepth();
+        }
+
+        boolean chained = headVersion == version - 1;
+        if (chained && headDepth + 1 < Math.max(1, snapshotInterval)) {
+            String delta = LineDiff.delta(prev, next);
+            if (delta.length() < next.length()) {
+                save(project, version, ProjectOverviewRevision.Kind.DELTA, headDepth + 1, delta, editor);
+                return;
+            }
+        }
+        save(project, version, ProjectOverviewRevision.Kind.SNAPSHOT, 0, next, editor);
+    }
+
+    private void save(Project project, int version, ProjectOverviewRevision.Kind kind, int depth,
+                      String content, UserAccount editor) {
+        revisionRepository.save(ProjectOverviewRevision.builder()
+                .project(project)
+                .version(version)
+                .kind(kind)
+                .depth(depth)
+                .content(content)
+                .editor(editor)
+                .build());
+    }
+
+    public List<ProjectOverviewRevisionRepository.Summary> list(Long projectId) {
+        return revisionRepository.findSummaries(projectId);
+    }
+
+    /** 특정 버전의 게시 본문 복원 */
+    public String markdownAt(Long projectId, int version) {
+        Integer snapshot = revisionRepository.findSnapshotVersionAtOrBefore(projectId, version);
+        if (snapshot == null) {
+            // 이력이 아직 없는 현재 게시본
+            return overviewRepository.findPublishedByProjectId(projectId)
+                    .filter(p -> p.getVersion() == version)
+                    .map(p -> p.getMarkdown() == null ? "" : p.getMarkdown())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "REVISION_NOT_FOUND"));
+        }
+
+        List<ProjectOverviewRevision> chain =
+                revisionRepository.findByProject_IdAndVersionBetweenOrderByVersionAsc(projectId, snapshot, version);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getVersion() != version
+                || chain.size() != version - snapshot + 1) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "REVISION_NOT_FOUND");
+        }
+
+        String text = chain.get(0).getContent();
+        for (int i = 1; i < chain.size(); i++) {
+            text = LineDiff.apply(text, chain.get(i).getContent());
+        }
+        return text;
+    }
+
+    /** 두 버전 간 줄 단위 diff */
+    public List<LineDiff.Op> diff(Long projectId, int fromVersion, int toVersion) {
+        return LineDiff.diff(markdownAt(projectId, fromVersion), markdownAt(projectId, toVersion));
+    }
+}
@@ -4,15 +4,22 @@ import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.PasswordReset
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.PasswordResetTokenRepository;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.RefreshTokenService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.TokenRevocationService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ChunkedDelete;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -24,6 +31,9 @@ public class PasswordResetService {
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final PlatformTransactionManager transactionManager;
 
     private static final int TOKEN_EXPIRY_HOURS = 1;
     private static final int MAX_ATTEMPTS = 5;
@@ -150,7 +160,9 @@ public class PasswordResetService {
         // 해당 사용자의 모든 토큰 무효화
         tokenRepository.invalidateAllTokensForUser(user.getId());
 
-        // TODO: 모든 세션 무효화 (현재는 JWT 방식이므로 별도 구현 필요)
+        // 모든 세션 무효화: 리프레시 세션 삭제 + 지금까지 발급된 access token 폐기 (커밋 후 반영)
+        refreshTokenService.revokeAll(user.getId());
+        tokenRevocationService.revokeUser(user.getId());
 
         // 보안 알림 이메일 전송
         emailService.sendPasswordChangeNotificationEmail(user.getEmail(), user.getName());
@@ -158,10 +170,14 @@ public class PasswordResetService {
         log.info("Password reset completed for user: {}", user.getId());
     }
 
-    @Transactional
-    public void cleanupExpiredTokens() {
-        tokenRepository.deleteExpiredOrUsedTokens(LocalDateTime.now());
-        log.info("Expired tokens cleanup completed");
+    /** 만료/사용된 재설정 토큰을 청크 단위로 삭제 (MaintenanceScheduler 의 password-reset-tokens 작업) */
+    public long cleanupExpiredTokens(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        int batch = Math.max(1, batchSize);
+        return ChunkedDelete.run(new TransactionTemplate(transactionManager), batch, 0, () -> {
+            List<Long> ids = tokenRepository.findExpiredOrUsedIds(now, PageRequest.of(0, batch));
+            return ids.isEmpty() ? 0 : tokenRepository.deleteByIdIn(ids);
+        });
     }
 
     private String generateSecureToken() {
@@ -4,9 +4,10 @@ import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.Profe
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.*;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.AssignmentRepository;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.AssignmentReviewRepository;
-import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TeamMemberRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,33 +22,30 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProfessorReviewService {
 
-    private final ProjectRepository projectRepository;
     private final AssignmentRepository assignmentRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final AssignmentReviewRepository assignmentReviewRepository;
+    private final UserRepository userRepository;
 
     private static final DateTimeFormatter ISO_OFS = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
-    /** 목록 조회: 검토 대기(PENDING)만 노출 */
+    /** 검토 대기함 최대 크기 */
+    private static final int MAX_PENDING_LIMIT = 500;
+
+    /**
+     * 목록 조회: 검토 대기(PENDING)만 노출.
+     * 마감이 days 일 이내(지난 것 포함, 미지정 포함)인 과제를 임박순으로 DB 에서 limit 건만 가져온다.
+     * days <= 0 이면 기간 제한 없음.
+     */
     @Transactional(readOnly = true)
     public List<ProfessorReviewDto.ReviewItem> listPendingReviews(Long userId, int days, int limit) {
-        // 교수/참여자 기준 프로젝트
-        List<Project> myProjects = projectRepository.findAllByProfessorUserId(userId);
-        if (myProjects.isEmpty()) return List.of();
-
-        List<Long> projectIds = myProjects.stream().map(Project::getId).toList();
-        List<Assignment> all = assignmentRepository.findByProject_IdIn(projectIds);
+        if (limit <= 0) return List.of();
 
         ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime until = days > 0 ? LocalDateTime.now(zone).plusDays(days) : null;
 
-        // PENDING만 노출
-        List<Assignment> targets = all.stream()
-                .filter(a -> a.getStatus() == AssignmentStatus.PENDING)
-                .sorted(Comparator.comparing(
-                        a -> Optional.ofNullable(a.getDueDate()).orElse(LocalDateTime.MAX)
-                ))
-                .limit(Math.max(0, limit))
-                .toList();
+        List<Assignment> targets = assignmentRepository.findPendingForProfessor(
+                userId, until, PageRequest.of(0, Math.min(limit, MAX_PENDING_LIMIT)));
 
         return targets.stream()
                 .map(a -> new ProfessorReviewDto.ReviewItem(
@@ -63,65 +61,85 @@ public class ProfessorReviewService {
                 .collect(Collectors.toList());
     }
 
-    /** 일괄 처리 (APPROVE → COMPLETED, REJECT → ONGOING) + 코멘트 로그 저장 */
+    /**
+     * 일괄 처리 (APPROVE → COMPLETED, REJECT → ONGOING) + 코멘트 로그 저장.
+     * - 과제/프로젝트는 IN 쿼리 한 번, 팀 멤버십도 한 번에 조회해 프로젝트별로 권한을 한 번만 판정한다.
+     * - 상태는 UPDATE 한 문장, 검토 로그는 saveAll (시퀀스 id 라 JDBC 배치로 묶인다).
+     */
     @Transactional
     public ProfessorReviewDto.BulkResult bulkReview(Long userId, ProfessorReviewDto.BulkRequest req) {
         ProfessorReviewDto.Action action = req.action();
-        List<ProfessorReviewDto.BulkItem> items = req.items();
+        List<ProfessorReviewDto.BulkItem> items = req.items() == null ? List.of() : req.items();
 
-        int ok = 0;
         List<Long> failed = new ArrayList<>();
 
+        // 요청 순서 유지, 같은 과제가 여러 번 오면 첫 항목만 처리
+        Map<Long, ProfessorReviewDto.BulkItem> requested = new LinkedHashMap<>();
         for (ProfessorReviewDto.BulkItem it : items) {
-            try {
-                Optional<Assignment> opt = assignmentRepository.findById(it.assignmentId());
-                if (opt.isEmpty()) {
-                    failed.add(it.assignmentId());
-                    continue;
-                }
-                Assignment a = opt.get();
-
-                // projectId 바인딩 검증
-                if (a.getProject() == null || !Objects.equals(a.getProject().getId(), it.projectId())) {
-                    failed.add(it.assignmentId());
-                    continue;
-                }
-
-                // 권한검사: 담당교수 || 팀멤버
-                Project p = a.getProject();
-                boolean isProfessor = (p.getProfessor() != null && Objects.equals(p.getProfessor().getId(), userId));
-                boolean isMember = (p.getTeam() != null) &&
-                        teamMemberRepository.existsByTeam_IdAndUser_Id(p.getTeam().getId(), userId);
-
-                if (!(isProfessor || isMember)) {
-                    failed.add(it.assignmentId());
-                    continue;
-                }
-
-                // 상태 변경
-                if (action == ProfessorReviewDto.Action.APPROVE) {
-                    a.setStatus(AssignmentStatus.COMPLETED);
-                } else { // REJECT
-                    a.setStatus(AssignmentStatus.ONGOING); // 목록에서 빠지도록
-                }
-
-                // 검토 로그 저장 (코멘트 포함)
-                AssignmentReview r = new AssignmentReview();
-                r.setAssignment(a);
-                r.setDecision(action == ProfessorReviewDto.Action.APPROVE
-                        ? AssignmentReview.Decision.APPROVE
-                        : AssignmentReview.Decision.REJECT);
-                r.setComment(nullIfBlank(it.comment()));     // ★ 여기서 comment 정확히 반영
-                r.setReviewerId(userId);
-                assignmentReviewRepository.save(r);
-
-                ok++;
-            } catch (Exception ex) {
+            if (it == null || it.assignmentId() == null) {
+                failed.add(it == null ? null : it.assignmentId());
+                continue;
+            }
+            requested.putIfAbsent(it.assignmentId(), it);
+        }
+        if (requested.isEmpty()) return new ProfessorReviewDto.BulkResult(0, failed.size(), failed);
+
+        Map<Long, Assignment> found = assignmentRepository.findAllWithProjectByIdIn(requested.keySet()).stream()
+                .collect(Collectors.toMap(Assignment::getId, a -> a));
+
+        Set<Long> teamIds = found.values().stream()
+                .map(a -> a.getProject().getTeam())
+                .filter(Objects::nonNull)
+                .map(Team::getId)
+                .collect(Collectors.toSet());
+        Set<Long> memberTeamIds = teamIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(teamMemberRepository.findTeamIdsByUserIdAndTeamIdIn(userId, teamIds));
+
+        // 권한검사: 담당교수 || 팀멤버 (프로젝트당 1회)
+        Map<Long, Boolean> allowedByProject = new HashMap<>();
+        List<Long> targetIds = new ArrayList<>();
+        List<AssignmentReview> reviews = new ArrayList<>();
+        String reviewerName = reviewerName(userId);
+        AssignmentReview.Decision decision = action == ProfessorReviewDto.Action.APPROVE
+                ? AssignmentReview.Decision.APPROVE
+                : AssignmentReview.Decision.REJECT;
+
+        for (ProfessorReviewDto.BulkItem it : requested.values()) {
+            Assignment a = found.get(it.assignmentId());
+            // projectId 바인딩 검증
+            if (a == null || !Objects.equals(a.getProject().getId(), it.projectId())) {
                 failed.add(it.assignmentId());
+                continue;
             }
+            Project p = a.getProject();
+            boolean allowed = allowedByProject.computeIfAbsent(p.getId(), pid ->
+                    (p.getProfessor() != null && Objects.equals(p.getProfessor().getId(), userId))
+                            || (p.getTeam() != null && memberTeamIds.contains(p.getTeam().getId())));
+            if (!allowed) {
+                failed.add(it.assignmentId());
+                continue;
+            }
+            targetIds.add(a.getId());
+            AssignmentReview r = new AssignmentReview();
+            r.setAssignment(a);
+            r.setDecision(decision);
+            r.setComment(nullIfBlank(it.comment()));
+            r.setReviewerId(userId);
+            r.setReviewerName(reviewerName);
+            reviews.add(r);
+        }
+
+        if (!targetIds.isEmpty()) {
+            AssignmentStatus next = action == ProfessorReviewDto.Action.APPROVE
+                    ? AssignmentStatus.COMPLETED
+                    : AssignmentStatus.ONGOING; // REJECT → 목록에서 빠지도록
+            // 로그 INSERT 가 먼저 flush 된 뒤 UPDATE 가 실행된다 (flushAutomatically)
+            assignmentReviewRepository.saveAll(reviews);
+            assignmentRepository.updateStatusByIdIn(targetIds, next, LocalDateTime.now());
         }
 
-        return new ProfessorReviewDto.BulkResult(ok, failed.size(), failed);
+        return new ProfessorReviewDto.BulkResult(targetIds.size(), failed.size(), failed);
     }
 
     /** 메모 단독 저장 (NOTE) */
@@ -147,6 +165,7 @@ public class ProfessorReviewService {
         r.setDecision(AssignmentReview.Decision.NOTE);
         r.setComment(nullIfBlank(req.comment())); // ★ 프런트의 comment 필드를 그대로 저장
         r.setReviewerId(userId);
+        r.setReviewerName(reviewerName(userId));
         assignmentReviewRepository.save(r);
     }
 
@@ -174,6 +193,11 @@ public class ProfessorReviewService {
                 .toList();
     }
 
+    /** 검토 이력에 남길 작성자 이름 (요청당 한 번 조회) */
+    private String reviewerName(Long userId) {
+        return userRepository.findById(userId).map(UserAccount::getName).orElse(null);
+    }
+
     private static String toIso(LocalDateTime ts, ZoneId zone) {
         if (ts == null) return null;
         return ts.atZone(zone).toOffsetDateTime().format(ISO_OFS);
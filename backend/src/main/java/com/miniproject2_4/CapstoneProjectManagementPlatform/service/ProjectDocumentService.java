@@ -24,6 +24,24 @@ public class ProjectDocumentService {
         return documentRepository.findByProject_IdOrderByIdDesc(projectId);
     }
 
+    /** 내보내기용 스냅샷 (트랜잭션 밖 스트리밍에서 쓰도록 엔티티 대신 값만 담는다) */
+    public record ExportDoc(String title, String url, ProjectDocument.Type type) {}
+
+    public record ExportProject(Long id, String title, List<ExportDoc> documents) {}
+
+    public ExportProject loadForExport(Long projectId) {
+        Project p = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+        List<ExportDoc> docs = documentRepository.findByProject_IdOrderByIdAsc(projectId).stream()
+                .map(d -> new ExportDoc(d.getTitle(), d.getUrl(), d.getType()))
+                .toList();
+        return new ExportProject(p.getId(), p.getTitle(), docs);
+    }
+
+    public List<Long> listProjectIdsWithDocuments() {
+        return documentRepository.findProjectIdsWithDocuments();
+    }
+
     @Transactional
     public ProjectDocument create(Long projectId, String title, String url, ProjectDocument.Type type, UserAccount author) {
         Project p = projectRepository.findById(projectId)
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +19,44 @@ public class ProjectOverviewService {
 
     private final ProjectRepository projectRepository;
     private final ProjectOverviewRepository overviewRepository;
+    private final OverviewHtmlCache htmlCache;
+    private final OverviewRevisionService revisionService;
+
+    /** 응답 ETag: 게시 버전 + 제안 상태 (제안 제출/반려는 버전을 올리지 않으므로 함께 반영) */
+    public static String etagOf(int version, ProjectOverview.Status status, LocalDateTime pendingAt) {
+        long pending = pendingAt == null ? 0 : pendingAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "W/\"ov-" + version + "-" + (status == null ? "PUBLISHED" : status.name()) + "-" + pending + "\"";
+    }
+
+    /** 게시본 HTML ETag */
+    public static String htmlEtagOf(Long projectId, int version) {
+        return "\"ov-html-" + projectId + "-" + version + "\"";
+    }
+
+    /** LOB 없이 현재 ETag 계산 (개요가 아직 없으면 null) */
+    public String currentEtag(Long projectId) {
+        return overviewRepository.findMetaByProjectId(projectId)
+                .map(m -> etagOf(m.getVersion(), m.getStatus(), m.getPendingAt()))
+                .orElse(null);
+    }
+
+    /** 현재 게시 버전 (개요가 아직 없으면 null) */
+    public Integer currentVersion(Long projectId) {
+        return overviewRepository.findMetaByProjectId(projectId)
+                .map(ProjectOverviewRepository.Meta::getVersion)
+                .orElse(null);
+    }
+
+    /**
+     * 게시본 HTML. (projectId, version) 캐시에 있으면 LOB 를 읽지 않는다.
+     */
+    public String renderedHtml(Long projectId, int version) {
+        String cached = htmlCache.get(projectId, version);
+        if (cached != null) return cached;
+        ProjectOverviewRepository.Published pub = overviewRepository.findPublishedByProjectId(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Overview not found: " + projectId));
+        return htmlCache.render(projectId, pub.getVersion(), pub.getMarkdown());
+    }
 
     public ProjectOverview getOrInit(Long projectId) {
         return overviewRepository.findByProject_Id(projectId)
@@ -38,14 +77,18 @@ public class ProjectOverviewService {
     @Transactional
     public ProjectOverview saveDirect(Long projectId, String markdown, UserAccount editor) {
         ProjectOverview ov = getOrInit(projectId);
+        int prevVersion = ov.getVersion();
+        String prevMarkdown = ov.getMarkdown();
         ov.setMarkdown(markdown == null ? "" : markdown);
         ov.setStatus(ProjectOverview.Status.PUBLISHED);
-        ov.setVersion(ov.getVersion() + 1);
+        ov.setVersion(prevVersion + 1);
+        revisionService.record(ov.getProject(), prevVersion, prevMarkdown, ov.getVersion(), ov.getMarkdown(), editor);
         ov.setUpdatedBy(editor);
         ov.setUpdatedAt(LocalDateTime.now());
         ov.setPendingMarkdown(null);
         ov.setPendingAuthor(null);
         ov.setPendingAt(null);
+        htmlCache.evict(projectId);
         // 명시 저장으로 즉시 일관성 보장
         return overviewRepository.save(ov);
     }
@@ -68,8 +111,12 @@ public class ProjectOverviewService {
             ov.setStatus(ProjectOverview.Status.PUBLISHED);
             return overviewRepository.save(ov);
         }
+        int prevVersion = ov.getVersion();
+        String prevMarkdown = ov.getMarkdown();
         ov.setMarkdown(ov.getPendingMarkdown());
-        ov.setVersion(ov.getVersion() + 1);
+        ov.setVersion(prevVersion + 1);
+        revisionService.record(ov.getProject(), prevVersion, prevMarkdown, ov.getVersion(), ov.getMarkdown(), approver);
+        htmlCache.evict(projectId);
         ov.setUpdatedBy(approver);
         ov.setUpdatedAt(LocalDateTime.now());
         ov.setPendingMarkdown(null);
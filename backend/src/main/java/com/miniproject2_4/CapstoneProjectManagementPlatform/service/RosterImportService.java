@@ -0,0 +1,373 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.RosterImportDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Team;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TeamMemberId;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TeamRole;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.RosterJdbcRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TeamMemberRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TeamRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.CsvReader;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ProjectAccessCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 학기 초 명단 CSV 일괄 등록 (사용자 + 팀 + 멤버십).
+ *
+ * 헤더: email,name[,role][,password][,team][,team_role]  (순서 무관, 대소문자 무관)
+ * - 한 행 = 사용자 1명 (+ 선택적으로 팀 소속). 같은 email 이 여러 행에 나오면 첫 행으로 계정을 만들고 이후 행은 팀 소속만 추가.
+ * - 이미 있는 계정은 수정하지 않고 팀 소속만 추가한다. 없는 팀은 이름으로 생성한다.
+ * - 스트리밍으로 읽으며 CHUNK_SIZE 행마다 검증 → 비밀번호 해시(제한된 병렬 풀) → 배치 INSERT 를 한 트랜잭션으로 처리한다.
+ *   DB 오류가 나면 해당 청크를 롤백하고 행 단위로 다시 시도해, 실패한 행만 오류로 보고한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class RosterImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final RosterJdbcRepository rosterJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PlatformTransactionManager transactionManager;
+    private final UserAutocompleteIndex userIndex;
+    private final ProjectAccessCache accessCache;
+
+    /** BCrypt 해시 병렬도 (요청 스레드와 별개로 CPU 를 과점하지 않도록 제한) */
+    @Value("${app.import.hash-threads:4}")
+    private int hashThreads;
+
+    private ExecutorService hashPool;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        int n = Math.max(1, Math.min(hashThreads, Runtime.getRuntime().availableProcessors()));
+        this.hashPool = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new Thread(r, "roster-hash-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    private record Row(long line, String email, String name, Role role, String password,
+                       String team, TeamRole teamRole) {}
+
+    /** 진행 중 집계 */
+    private static final class Progress {
+        long totalRows;
+        long importedRows;
+        int createdUsers;
+        int existingUsers;
+        int createdTeams;
+        int addedMemberships;
+        long errorCount;
+        final List<RosterImportDto.RowError> errors = new ArrayList<>();
+
+        void error(long line, String email, String code, String message) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RosterImportDto.RowError(line, email, code, message));
+            }
+        }
+    }
+
+    /**
+     * @param defaultPassword password 열이 비어 있는 신규 계정에 쓸 초기 비밀번호 (없으면 해당 행 오류)
+     */
+    public RosterImportDto.Report importRoster(Reader source, String defaultPassword) throws IOException {
+        long started = System.currentTimeMillis();
+        Progress progress = new Progress();
+
+        try (CsvReader csv = new CsvReader(source)) {
+            List<String> header = csv.next();
+            if (header == null) throw new CsvReader.MalformedCsvException("Empty file");
+            Map<String, Integer> col = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                col.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!col.containsKey("email") || !col.containsKey("name")) {
+                throw new CsvReader.MalformedCsvException("Header must contain 'email' and 'name'");
+            }
+
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> fields;
+            while ((fields = csv.next()) != null) {
+                progress.totalRows++;
+                Row row = parseRow(csv.recordLine(), fields, col, defaultPassword, progress);
+                if (row == null) continue;
+                chunk.add(row);
+                if (chunk.size() >= CHUNK_SIZE) {
+                    flush(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) flush(chunk, progress);
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("Roster import: {} rows, {} imported, {} users / {} teams created, {} errors in {} ms",
+                progress.totalRows, progress.importedRows, progress.createdUsers, progress.createdTeams,
+                progress.errorCount, elapsed);
+        return new RosterImportDto.Report(
+                progress.totalRows, progress.importedRows,
+                progress.createdUsers, progress.existingUsers, progress.createdTeams, progress.addedMemberships,
+                progress.errorCount, progress.errorCount > progress.errors.size(), progress.errors, elapsed);
+    }
+
+    /* ===== 행 검증 ===== */
+
+    private Row parseRow(long line, List<String> f, Map<String, Integer> col, String defaultPassword, Progress p) {
+        String email = lower(field(f, col, "email"));
+        String name = field(f, col, "name");
+        if (email == null) {
+            p.error(line, null, "EMAIL_REQUIRED", "email 이 비어 있습니다.");
+            return null;
+        }
+        if (email.length() > 120 || !EMAIL.matcher(email).matches()) {
+            p.error(line, email, "INVALID_EMAIL", "email 형식이 올바르지 않습니다.");
+            return null;
+        }
+        if (name == null || name.length() > 50) {
+            p.error(line, email, "INVALID_NAME", "name 은 1~50자여야 합니다.");
+            return null;
+        }
+
+        Role role = Role.STUDENT;
+        String rawRole = field(f, col, "role");
+        if (rawRole != null) {
+            try {
+                role = Role.valueOf(rawRole.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                p.error(line, email, "INVALID_ROLE", "role 은 STUDENT/TA/PROFESSOR 중 하나여야 합니다.");
+                return null;
+            }
+            if (role == Role.ADMIN) {
+                p.error(line, email, "INVALID_ROLE", "ADMIN 계정은 명단으로 만들 수 없습니다.");
+                return null;
+            }
+        }
+
+        String team = field(f, col, "team");
+        if (team != null && team.length() > 80) {
+            p.error(line, email, "INVALID_TEAM", "team 이름은 80자 이하여야 합니다.");
+            return null;
+        }
+        TeamRole teamRole = TeamRole.MEMBER;
+        String rawTeamRole = field(f, col, "team_role");
+        if (rawTeamRole != null) {
+            try {
+                teamRole = TeamRole.valueOf(rawTeamRole.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                p.error(line, email, "INVALID_TEAM_ROLE", "team_role 은 LEADER/MEMBER 중 하나여야 합니다.");
+                return null;
+            }
+        }
+
+        String password = field(f, col, "password");
+        if (password == null && defaultPassword != null && !defaultPassword.isBlank()) password = defaultPassword;
+        return new Row(line, email, name, role, password, team, teamRole);
+    }
+
+    private static String field(List<String> f, Map<String, Integer> col, String key) {
+        Integer i = col.get(key);
+        if (i == null || i >= f.size()) return null;
+        String v = f.get(i).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    private static String lower(String s) {
+        return s == null ? null : s.toLowerCase(Locale.ROOT);
+    }
+
+    /* ===== 청크 반영 ===== */
+
+    /** 한 트랜잭션에서 새로 만든 팀 수와 추가한 멤버십 */
+    private record Written(int createdTeams, List<TeamMemberId> members) {}
+
+    /** 청크 단위 공유 상태: email → user id (기존 + 커밋된 신규), 신규 대상 email, 기존 계정 집계용 */
+    private record Chunk(Map<String, Long> userIds, Set<String> createdEmails, Set<String> counted, Progress progress) {}
+
+    private void flush(List<Row> rows, Progress p) {
+        // 1) 기존 계정 판정
+        Set<String> emails = new LinkedHashSet<>();
+        rows.forEach(r -> emails.add(r.email()));
+        Map<String, Long> userIds = new HashMap<>();
+        userRepository.findIdEmailByEmailIn(emails).forEach(u -> userIds.put(u.getEmail().toLowerCase(Locale.ROOT), u.getId()));
+
+        // 2) 신규 계정 (email 별 첫 행) – 비밀번호 없는 행은 오류
+        Map<String, Row> toCreate = new LinkedHashMap<>();
+        List<Row> accepted = new ArrayList<>(rows.size());
+        for (Row r : rows) {
+            if (!userIds.containsKey(r.email()) && !toCreate.containsKey(r.email())) {
+                if (r.password() == null) {
+                    p.error(r.line(), r.email(), "PASSWORD_REQUIRED", "신규 계정에는 password 또는 기본 비밀번호가 필요합니다.");
+                    continue;
+                }
+                toCreate.put(r.email(), r);
+            }
+            accepted.add(r);
+        }
+        if (accepted.isEmpty()) return;
+
+        // 3) BCrypt 해시: 트랜잭션 밖에서 제한된 풀로 병렬 계산
+        List<Row> creating = new ArrayList<>(toCreate.values());
+        List<CompletableFuture<String>> hashes = creating.stream()
+                .map(r -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(r.password()), hashPool))
+                .toList();
+        List<RosterJdbcRepository.NewUser> newUsers = new ArrayList<>(creating.size());
+        for (int i = 0; i < creating.size(); i++) {
+            Row r = creating.get(i);
+            newUsers.add(new RosterJdbcRepository.NewUser(r.name(), r.email(), r.role(), hashes.get(i).join()));
+        }
+
+        // 4) 배치 INSERT (청크 단위 트랜잭션), 실패하면 행 단위로 다시 시도해 문제 행만 골라낸다
+        Chunk chunk = new Chunk(userIds, toCreate.keySet(), new HashSet<>(), p);
+        try {
+            committed(accepted, newUsers, write(accepted, newUsers, userIds), chunk);
+        } catch (DataAccessException e) {
+            newUsers.forEach(u -> userIds.remove(u.email()));
+            log.warn("Roster import chunk failed (lines {}-{}), retrying row by row: {}",
+                    rows.get(0).line(), rows.get(rows.size() - 1).line(), e.getMostSpecificCause().toString());
+            retryRowByRow(accepted, newUsers, chunk);
+        }
+    }
+
+    /**
+     * 청크가 실패했을 때 행마다 별도 트랜잭션으로 다시 반영.
+     * - 계정 생성 행(email 별 첫 행)이 실패하면 같은 email 의 이후 행은 팀 소속을 붙일 계정이 없으므로 오류
+     * - 제약 위반이 아닌 오류(연결 끊김 등)는 행과 무관하므로 남은 행을 더 시도하지 않는다
+     * - DB 벤더 메시지는 로그에만 남기고 보고서에는 일반화한 메시지를 쓴다
+     */
+    private void retryRowByRow(List<Row> accepted, List<RosterJdbcRepository.NewUser> newUsers, Chunk chunk) {
+        Map<String, RosterJdbcRepository.NewUser> pending = new HashMap<>();
+        newUsers.forEach(u -> pending.put(u.email(), u));
+        DataAccessException fatal = null;
+        for (Row r : accepted) {
+            if (fatal != null) {
+                chunk.progress().error(r.line(), r.email(), "DB_ERROR", errorMessage(fatal));
+                continue;
+            }
+            List<RosterJdbcRepository.NewUser> create = new ArrayList<>(1);
+            if (!chunk.userIds().containsKey(r.email())) {
+                RosterJdbcRepository.NewUser u = pending.remove(r.email());
+                if (u == null) {
+                    chunk.progress().error(r.line(), r.email(), "USER_NOT_CREATED",
+                            "같은 email 의 앞 행에서 계정을 만들지 못했습니다.");
+                    continue;
+                }
+                create.add(u);
+            }
+            List<Row> one = List.of(r);
+            try {
+                committed(one, create, write(one, create, chunk.userIds()), chunk);
+            } catch (DataAccessException e) {
+                create.forEach(u -> chunk.userIds().remove(u.email()));
+                log.debug("Roster import row {} failed: {}", r.line(), e.getMostSpecificCause().toString());
+                chunk.progress().error(r.line(), r.email(), errorCode(e), errorMessage(e));
+                if (!(e instanceof DataIntegrityViolationException)) fatal = e;
+            }
+        }
+    }
+
+    private static String errorCode(DataAccessException e) {
+        return e instanceof DataIntegrityViolationException ? "CONSTRAINT_VIOLATION" : "DB_ERROR";
+    }
+
+    private static String errorMessage(DataAccessException e) {
+        return e instanceof DataIntegrityViolationException
+                ? "이미 있는 값과 충돌하거나 길이/형식 제약에 맞지 않습니다."
+                : "저장 중 오류가 발생했습니다.";
+    }
+
+    /** rows 의 계정/팀/멤버십을 한 트랜잭션으로 INSERT. 새 계정 id 는 userIds 에 넣는다 (실패 시 호출 측이 되돌림) */
+    private Written write(List<Row> rows, List<RosterJdbcRepository.NewUser> newUsers, Map<String, Long> userIds) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (!newUsers.isEmpty()) {
+                List<Long> ids = rosterJdbcRepository.insertUsers(newUsers, now);
+                for (int i = 0; i < ids.size(); i++) userIds.put(newUsers.get(i).email(), ids.get(i));
+            }
+
+            // 팀 이름은 대소문자 무시로 매칭 (DB 콜레이션과 동일), 새로 만들 때는 처음 나온 표기 사용
+            Map<String, String> teamNames = new LinkedHashMap<>();
+            rows.forEach(r -> { if (r.team() != null) teamNames.putIfAbsent(lower(r.team()), r.team()); });
+            Map<String, Long> teamIds = new HashMap<>();
+            int createdTeams = 0;
+            if (!teamNames.isEmpty()) {
+                for (Team t : teamRepository.findByNameIn(teamNames.values())) teamIds.put(lower(t.getName()), t.getId());
+                List<String> missing = teamNames.keySet().stream().filter(k -> !teamIds.containsKey(k)).toList();
+                if (!missing.isEmpty()) {
+                    List<Long> newTeamIds = rosterJdbcRepository.insertTeams(
+                            missing.stream().map(teamNames::get).toList(), now);
+                    for (int i = 0; i < missing.size(); i++) teamIds.put(missing.get(i), newTeamIds.get(i));
+                }
+                createdTeams = missing.size();
+            }
+
+            Map<TeamMemberId, RosterJdbcRepository.NewMember> members = new LinkedHashMap<>();
+            for (Row r : rows) {
+                if (r.team() == null) continue;
+                Long teamId = teamIds.get(lower(r.team()));
+                Long userId = userIds.get(r.email());
+                members.putIfAbsent(new TeamMemberId(teamId, userId),
+                        new RosterJdbcRepository.NewMember(teamId, userId, r.teamRole().name()));
+            }
+            if (!members.isEmpty()) {
+                Set<Long> tIds = new HashSet<>(), uIds = new HashSet<>();
+                members.keySet().forEach(k -> { tIds.add(k.getTeamId()); uIds.add(k.getUserId()); });
+                teamMemberRepository.findIdsByTeamIdInAndUserIdIn(tIds, uIds).forEach(members::remove);
+                if (!members.isEmpty()) rosterJdbcRepository.insertMembers(new ArrayList<>(members.values()));
+            }
+            return new Written(createdTeams, new ArrayList<>(members.keySet()));
+        });
+    }
+
+    /** 5) 커밋 후 집계 + 자동완성 색인/권한 캐시 반영 (JDBC INSERT 는 엔티티 리스너를 거치지 않음) */
+    private void committed(List<Row> rows, List<RosterJdbcRepository.NewUser> newUsers, Written w, Chunk chunk) {
+        for (RosterJdbcRepository.NewUser u : newUsers) {
+            userIndex.upsert(chunk.userIds().get(u.email()), u.name(), u.email(), u.role());
+        }
+        w.members().forEach(k -> accessCache.evictMembership(k.getTeamId(), k.getUserId()));
+        Progress p = chunk.progress();
+        for (Row r : rows) {
+            if (!chunk.createdEmails().contains(r.email()) && chunk.counted().add(r.email())) p.existingUsers++;
+        }
+        p.importedRows += rows.size();
+        p.createdUsers += newUsers.size();
+        p.createdTeams += w.createdTeams();
+        p.addedMemberships += w.members().size();
+    }
+}
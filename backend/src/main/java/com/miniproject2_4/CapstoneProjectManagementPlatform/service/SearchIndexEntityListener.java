@@ -0,0 +1,54 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Project;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.TransactionCallbacks;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 색인 대상 엔티티의 변경을 검색 색인에 반영하는 JPA 리스너.
+ * - 값은 flush 시점에 스냅샷으로 떠 두고, 트랜잭션이 커밋된 뒤에만 색인에 적용한다 (롤백 시 반영 안 됨).
+ * - 색인 서비스는 리포지토리(EntityManagerFactory)에 의존하므로 지연 조회한다.
+ */
+@Component
+public class SearchIndexEntityListener {
+
+    private final ObjectProvider<SearchIndexService> searchIndex;
+
+    public SearchIndexEntityListener(ObjectProvider<SearchIndexService> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Object entity) {
+        SearchIndexService.IndexDoc doc = SearchIndexService.toIndexDoc(entity);
+        if (doc == null) return;
+        afterCommit(index -> index.upsert(doc));
+    }
+
+    @PostRemove
+    void onRemove(Object entity) {
+        if (entity instanceof Project p) {
+            Long projectId = p.getId();
+            afterCommit(index -> index.removeProject(projectId));
+            return;
+        }
+        SearchIndexService.DocType type = SearchIndexService.typeOf(entity);
+        if (type == null) return;
+        SearchIndexService.IndexDoc doc = SearchIndexService.toIndexDoc(entity);
+        Long id = doc != null ? doc.id() : null;
+        afterCommit(index -> index.remove(type, id));
+    }
+
+    private void afterCommit(Consumer<SearchIndexService> action) {
+        SearchIndexService index = searchIndex.getIfAvailable();
+        if (index == null) return;
+        TransactionCallbacks.afterCommit(() -> action.accept(index));
+    }
+}
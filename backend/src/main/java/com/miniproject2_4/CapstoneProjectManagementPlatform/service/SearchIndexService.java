@@ -0,0 +1,355 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.SearchDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.*;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.*;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.SearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 콘텐츠 전문 검색용 메모리 역색인.
+ * - 대상: 개요(게시본), 피드백, 의사결정, 리스크, 과제, 일정
+ * - 기동 시 한 번 전체 색인하고, 이후에는 SearchIndexEntityListener 가 커밋된 변경만 반영한다.
+ * - 전체 색인 도중 들어온 변경은 즉시 적용하는 동시에 기록해 두었다가, 색인이 끝난 뒤 순서대로 다시 적용한다
+ *   (색인 스레드가 변경 전에 읽은 행으로 더 새로운 항목을 덮어써도 최종 상태는 최신 변경이 된다).
+ * - 순위는 BM25, 질의어 중 일부만 맞아도 결과에 포함하되 많이 맞을수록 가중한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class SearchIndexService {
+
+    public enum DocType { OVERVIEW, FEEDBACK, DECISION, RISK, ASSIGNMENT, EVENT }
+
+    /** 색인 단위 스냅샷 (엔티티에서 추출한 값만 담음) */
+    public record IndexDoc(DocType type, Long id, Long projectId, String title, String text) {}
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int PREVIEW_LENGTH = 2000;
+    private static final int SNIPPET_LENGTH = 120;
+    private static final int MAX_QUERY_TERMS = 32;
+
+    private final ProjectOverviewRepository overviewRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final DecisionRepository decisionRepository;
+    private final RiskRepository riskRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final EventRepository eventRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final class Entry {
+        final DocType type;
+        final Long id;
+        final Long projectId;
+        final String title;
+        final String preview;
+        final Map<String, Integer> termFreqs;
+        final int length;
+
+        Entry(IndexDoc doc, Map<String, Integer> termFreqs, int length) {
+            this.type = doc.type();
+            this.id = doc.id();
+            this.projectId = doc.projectId();
+            this.title = doc.title();
+            String text = doc.text() == null ? "" : doc.text();
+            this.preview = text.length() > PREVIEW_LENGTH ? text.substring(0, PREVIEW_LENGTH) : text;
+            this.termFreqs = termFreqs;
+            this.length = length;
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** term → (doc ordinal → tf) */
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Entry> docs = new HashMap<>();
+    private final Map<String, Integer> ordinalByKey = new HashMap<>();
+    private final Map<Long, Set<Integer>> ordinalsByProject = new HashMap<>();
+    private long totalLength;
+    private int nextOrdinal;
+    /** 전체 색인 중 들어온 변경 (색인 종료 후 재적용). null 이면 전체 색인 중이 아님 */
+    private List<Runnable> replayLog;
+
+    /* ===== 색인 갱신 (커밋된 변경) ===== */
+
+    public void upsert(IndexDoc doc) {
+        index(doc, true);
+    }
+
+    public void remove(DocType type, Long id) {
+        if (id == null) return;
+        write(() -> removeLocked(key(type, id)), true);
+    }
+
+    /** 프로젝트 영구 삭제 시 (하위 데이터는 DB cascade 로 지워져 개별 이벤트가 오지 않음) */
+    public void removeProject(Long projectId) {
+        if (projectId == null) return;
+        write(() -> {
+            Set<Integer> ords = ordinalsByProject.get(projectId);
+            if (ords == null) return;
+            for (Integer ord : new ArrayList<>(ords)) {
+                Entry e = docs.get(ord);
+                if (e != null) removeLocked(key(e.type, e.id));
+            }
+            ordinalsByProject.remove(projectId);
+        }, true);
+    }
+
+    /** @param live 커밋된 변경이면 true (전체 색인 중이면 기록), 전체 색인 스레드의 적재면 false */
+    private void index(IndexDoc doc, boolean live) {
+        if (doc == null || doc.id() == null) return;
+        String key = key(doc.type(), doc.id());
+        if (doc.projectId() == null) {
+            write(() -> removeLocked(key), live);
+            return;
+        }
+
+        // 토큰화는 락 밖에서
+        List<String> tokens = new ArrayList<>(SearchTokenizer.tokenize(doc.title()));
+        tokens.addAll(SearchTokenizer.tokenize(doc.text()));
+        Map<String, Integer> tf = new HashMap<>();
+        for (String t : tokens) tf.merge(t, 1, Integer::sum);
+        int length = tokens.size();
+
+        write(() -> {
+            removeLocked(key);
+            if (tf.isEmpty()) return;
+
+            int ord = nextOrdinal++;
+            Entry e = new Entry(doc, tf, length);
+            docs.put(ord, e);
+            ordinalByKey.put(key, ord);
+            ordinalsByProject.computeIfAbsent(doc.projectId(), k -> new HashSet<>()).add(ord);
+            for (Map.Entry<String, Integer> t : tf.entrySet()) {
+                postings.computeIfAbsent(t.getKey(), k -> new HashMap<>()).put(ord, t.getValue());
+            }
+            totalLength += e.length;
+        }, live);
+    }
+
+    private void write(Runnable op, boolean live) {
+        lock.writeLock().lock();
+        try {
+            if (live && replayLog != null) replayLog.add(op);
+            op.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(String key) {
+        Integer ord = ordinalByKey.remove(key);
+        if (ord == null) return;
+        Entry e = docs.remove(ord);
+        if (e == null) return;
+        for (String term : e.termFreqs.keySet()) {
+            Map<Integer, Integer> plist = postings.get(term);
+            if (plist == null) continue;
+            plist.remove(ord);
+            if (plist.isEmpty()) postings.remove(term);
+        }
+        Set<Integer> ords = ordinalsByProject.get(e.projectId);
+        if (ords != null) {
+            ords.remove(ord);
+            if (ords.isEmpty()) ordinalsByProject.remove(e.projectId);
+        }
+        totalLength -= e.length;
+    }
+
+    /* ===== 검색 ===== */
+
+    /**
+     * @param canViewProject 프로젝트 조회 권한 판정 (상위 점수부터 필요한 만큼만 호출됨)
+     */
+    public List<SearchDto.Hit> search(String query, int limit, Predicate<Long> canViewProject) {
+        List<String> terms = SearchTokenizer.tokenize(query).stream()
+                .distinct()
+                .limit(MAX_QUERY_TERMS)
+                .toList();
+        if (terms.isEmpty() || limit <= 0) return List.of();
+
+        List<Map.Entry<Integer, Double>> ranked;
+        Map<Integer, Entry> candidates = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int n = docs.size();
+            if (n == 0) return List.of();
+            double avgLength = Math.max(1.0, (double) totalLength / n);
+
+            Map<Integer, Double> scores = new HashMap<>();
+            Map<Integer, Integer> matched = new HashMap<>();
+            for (String term : terms) {
+                Map<Integer, Integer> plist = postings.get(term);
+                if (plist == null) continue;
+                double idf = Math.log(1 + (n - plist.size() + 0.5) / (plist.size() + 0.5));
+                for (Map.Entry<Integer, Integer> p : plist.entrySet()) {
+                    Entry e = docs.get(p.getKey());
+                    double tf = p.getValue();
+                    double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * e.length / avgLength));
+                    scores.merge(p.getKey(), idf * norm, Double::sum);
+                    matched.merge(p.getKey(), 1, Integer::sum);
+                }
+            }
+            // 질의어를 많이 포함할수록 가중 (부분 일치 허용)
+            for (Map.Entry<Integer, Double> s : scores.entrySet()) {
+                double coverage = (double) matched.get(s.getKey()) / terms.size();
+                s.setValue(s.getValue() * coverage * coverage);
+            }
+
+            ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Integer, Double>comparingByValue().reversed());
+            for (Map.Entry<Integer, Double> r : ranked) candidates.put(r.getKey(), docs.get(r.getKey()));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 권한 필터는 락 밖에서 (DB 조회가 있을 수 있음)
+        List<SearchDto.Hit> hits = new ArrayList<>();
+        for (Map.Entry<Integer, Double> r : ranked) {
+            Entry e = candidates.get(r.getKey());
+            if (e == null || !canViewProject.test(e.projectId)) continue;
+            hits.add(new SearchDto.Hit(e.type.name(), e.id, e.projectId, e.title,
+                    snippet(e.preview, query), Math.round(r.getValue() * 1000) / 1000.0));
+            if (hits.size() >= limit) break;
+        }
+        return hits;
+    }
+
+    /** 질의어가 처음 등장하는 위치 주변을 잘라 보여준다 */
+    private static String snippet(String text, String query) {
+        if (text == null || text.isBlank()) return "";
+        String flat = text.replaceAll("\\s+", " ").trim();
+        String lower = flat.toLowerCase(Locale.ROOT);
+        int at = -1;
+        for (String word : query.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (word.isEmpty()) continue;
+            at = lower.indexOf(word);
+            if (at >= 0) break;
+        }
+        int start = Math.max(0, at < 0 ? 0 : at - SNIPPET_LENGTH / 3);
+        int end = Math.min(flat.length(), start + SNIPPET_LENGTH);
+        return (start > 0 ? "…" : "") + flat.substring(start, end) + (end < flat.length() ? "…" : "");
+    }
+
+    /* ===== 전체 색인 ===== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread t = new Thread(this::rebuild, "search-index-rebuild");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        write(() -> replayLog = new ArrayList<>(), false);
+        try {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            tx.executeWithoutResult(status -> {
+                overviewRepository.findAll().forEach(o -> index(toIndexDoc(o), false));
+                feedbackRepository.findAll().forEach(f -> index(toIndexDoc(f), false));
+                decisionRepository.findAll().forEach(d -> index(toIndexDoc(d), false));
+                riskRepository.findAll().forEach(r -> index(toIndexDoc(r), false));
+                assignmentRepository.findAll().forEach(a -> index(toIndexDoc(a), false));
+                eventRepository.findAll().forEach(e -> index(toIndexDoc(e), false));
+            });
+            int replayed = replayLiveChanges();
+            int size;
+            lock.readLock().lock();
+            try {
+                size = docs.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+            log.info("Search index built: {} docs in {} ms ({} live changes replayed)",
+                    size, System.currentTimeMillis() - started, replayed);
+        } catch (Exception e) {
+            replayLiveChanges();
+            log.warn("Search index rebuild failed: {}", e.toString());
+        }
+    }
+
+    /** 전체 색인 중 기록한 변경을 순서대로 다시 적용하고 기록을 끝낸다 */
+    private int replayLiveChanges() {
+        lock.writeLock().lock();
+        try {
+            List<Runnable> ops = replayLog;
+            replayLog = null;
+            if (ops == null) return 0;
+            ops.forEach(Runnable::run);
+            return ops.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ===== 엔티티 → 색인 문서 ===== */
+
+    /** 색인 대상이 아니면 null */
+    public static IndexDoc toIndexDoc(Object entity) {
+        if (entity instanceof ProjectOverview o) {
+            return new IndexDoc(DocType.OVERVIEW, o.getId(), projectIdOf(o.getProject()), "프로젝트 개요", o.getMarkdown());
+        }
+        if (entity instanceof Feedback f) {
+            return new IndexDoc(DocType.FEEDBACK, f.getId(), projectIdOf(f.getProject()), firstLine(f.getContent()), f.getContent());
+        }
+        if (entity instanceof Decision d) {
+            String body = joinNonBlank(d.getContext(), d.getOptions(), d.getDecision(), d.getConsequences());
+            return new IndexDoc(DocType.DECISION, d.getId(), projectIdOf(d.getProject()), d.getTitle(), body);
+        }
+        if (entity instanceof Risk r) {
+            return new IndexDoc(DocType.RISK, r.getId(), projectIdOf(r.getProject()), r.getTitle(),
+                    joinNonBlank(r.getMitigation(), r.getOwner()));
+        }
+        if (entity instanceof Assignment a) {
+            return new IndexDoc(DocType.ASSIGNMENT, a.getId(), projectIdOf(a.getProject()), a.getTitle(), null);
+        }
+        if (entity instanceof Event e) {
+            return new IndexDoc(DocType.EVENT, e.getId(), projectIdOf(e.getProject()), e.getTitle(), e.getLocation());
+        }
+        return null;
+    }
+
+    public static DocType typeOf(Object entity) {
+        if (entity instanceof ProjectOverview) return DocType.OVERVIEW;
+        if (entity instanceof Feedback) return DocType.FEEDBACK;
+        if (entity instanceof Decision) return DocType.DECISION;
+        if (entity instanceof Risk) return DocType.RISK;
+        if (entity instanceof Assignment) return DocType.ASSIGNMENT;
+        if (entity instanceof Event) return DocType.EVENT;
+        return null;
+    }
+
+    private static Long projectIdOf(Project p) {
+        return p == null ? null : p.getId();
+    }
+
+    private static String firstLine(String s) {
+        if (s == null) return "";
+        String line = s.strip().lines().findFirst().orElse("");
+        return line.length() > 60 ? line.substring(0, 60) + "…" : line;
+    }
+
+    private static String joinNonBlank(String... parts) {
+        return Arrays.stream(parts)
+                .filter(p -> p != null && !p.isBlank())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String key(DocType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
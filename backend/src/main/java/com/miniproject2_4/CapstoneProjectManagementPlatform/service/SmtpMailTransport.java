@@ -0,0 +1,85 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMTP 발송 (spring.mail.* 설정의 JavaMailSender).
+ * - 한 묶음을 JavaMailSender.send(MimeMessage...) 한 번으로 보내 SMTP 연결을 재사용한다.
+ * - 개발 시에는 로컬 SMTP 대역(MailHog/Mailpit 등, 예: localhost:1025)을 가리키면 된다.
+ * - 수신 측에서 재발송을 걸러낼 수 있게 X-Outbox-Id 헤더에 outbox id 를 싣는다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mail.transport", havingValue = "smtp")
+public class SmtpMailTransport implements MailTransport {
+
+    private final JavaMailSender mailSender;
+    private final String fromEmail;
+
+    public SmtpMailTransport(JavaMailSender mailSender,
+                             @Value("${app.mail.from:noreply@capstone.app}") String fromEmail) {
+        this.mailSender = mailSender;
+        this.fromEmail = fromEmail;
+    }
+
+    @Override
+    public Map<Long, Failure> send(List<Message> batch) {
+        Map<Long, Failure> failures = new HashMap<>();
+        Map<MimeMessage, Long> ids = new IdentityHashMap<>();
+        List<MimeMessage> prepared = new ArrayList<>(batch.size());
+        for (Message m : batch) {
+            try {
+                MimeMessage mime = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(mime, StandardCharsets.UTF_8.name());
+                helper.setFrom(fromEmail);
+                helper.setTo(m.to());
+                helper.setSubject(m.subject());
+                helper.setText(m.body());
+                mime.setHeader("X-Outbox-Id", String.valueOf(m.id()));
+                ids.put(mime, m.id());
+                prepared.add(mime);
+            } catch (MessagingException | RuntimeException e) {
+                // 주소 형식 오류 등은 다시 보내도 실패한다
+                failures.put(m.id(), new Failure(e.toString(), true));
+            }
+        }
+        if (prepared.isEmpty()) return failures;
+
+        try {
+            mailSender.send(prepared.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) throw e; // 연결/인증 실패 → 묶음 전체 재시도
+            failed.forEach((msg, ex) -> {
+                Long id = ids.get(msg);
+                if (id != null) failures.put(id, new Failure(ex.toString(), isPermanent(ex)));
+            });
+        }
+        return failures;
+    }
+
+    /** 서버가 수신자 주소를 거부한 경우(5xx)만 영구 실패로 본다 */
+    private static boolean isPermanent(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof SendFailedException sfe
+                    && sfe.getInvalidAddresses() != null && sfe.getInvalidAddresses().length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,17 +1,19 @@
 package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
 
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.CursorPage;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.TeamListDto;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.UserDto;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.*;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.*;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ProjectAccessCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +27,10 @@ public class TeamService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventService eventService;
+    private final ProjectAccessCache projectAccessCache;
+
+    /** 초대 후보 목록/커서 페이지 한 번에 최대 조회 수 */
+    private static final int INVITABLE_LIST_LIMIT = 200;
 
     /** (관리자) 전체 팀 */
     public List<TeamListDto.Response> listTeams() {
@@ -41,17 +47,37 @@ public class TeamService {
         return teamRepository.findAllByProfessorUserId(professorUserId).stream().map(this::convertToDto).toList();
     }
 
-    /** 초대 가능 목록(교수/TA 제외) */
-    public List<UserDto> findInvitableUsers(Long teamId) {
-        Set<Long> memberIds = teamMemberRepository.findWithUserByTeamId(teamId).stream()
-                .map(tm -> tm.getUser().getId())
-                .collect(Collectors.toSet());
+    /**
+     * 초대 가능 목록 (학생만, 팀 멤버 제외, id 순 최대 INVITABLE_LIST_LIMIT 명).
+     * 사용자 수와 무관하게 한 번의 LIMIT 쿼리로 끝난다. 그 뒤는 커서 페이지로 이어 받는다.
+     */
+    public List<UserDto> findInvitableUsers(Long teamId, String q) {
+        return userRepository.findInvitable(teamId, Role.STUDENT, normalizeQuery(q), null,
+                        PageRequest.of(0, INVITABLE_LIST_LIMIT))
+                .stream()
+                .map(u -> new UserDto(u.getId(), u.getName(), u.getEmail()))
+                .toList();
+    }
 
-        return userRepository.findAll().stream()
-                .filter(u -> !memberIds.contains(u.getId()))
-                .filter(u -> u.getRole() != Role.PROFESSOR && u.getRole() != Role.TA)
+    /**
+     * 초대 가능한 학생 (팀 멤버 제외) 커서 페이지.
+     * - DB 에서 NOT EXISTS 로 거르고 LIMIT 만큼만 읽는다.
+     * - nextCursor 는 마지막 사용자 id (다음 요청의 afterId)
+     */
+    public CursorPage<UserDto> findInvitableUsers(Long teamId, String q, Long afterId, int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, INVITABLE_LIST_LIMIT));
+        List<UserAccount> rows = userRepository.findInvitable(
+                teamId, Role.STUDENT, normalizeQuery(q), afterId, PageRequest.of(0, safeLimit));
+
+        List<UserDto> items = rows.stream()
                 .map(u -> new UserDto(u.getId(), u.getName(), u.getEmail()))
                 .toList();
+        Long nextCursor = (rows.size() == safeLimit) ? rows.get(rows.size() - 1).getId() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private static String normalizeQuery(String q) {
+        return (q != null && !q.isBlank()) ? q.trim() : null;
     }
 
     /** 팀 역할별 사용자 */
@@ -212,6 +238,8 @@ public class TeamService {
 
         teamMemberRepository.deleteByTeamId(teamId);
         teamRepository.deleteById(teamId);
+        // 벌크 삭제는 엔티티 리스너를 거치지 않음
+        projectAccessCache.evictTeam(teamId);
     }
 
     /** ───── 권한/유틸 ───── */
@@ -0,0 +1,238 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 파일의 썸네일(JPEG) 생성기.
+ * - 이미지는 축소본, PDF 는 첫 페이지 렌더링
+ * - 고정 크기 워커 풀 + 유한 큐에서 비동기로 처리 (큐가 가득 차면 건너뛰고, 조회 시 다시 요청됨)
+ * - 이미지 형식은 실제로 ImageIO 디코더가 있는 확장자만 지원한다 (기본 JDK 에는 webp 디코더가 없음)
+ * - 생성에 실패한(디코딩 불가/손상/너무 큰) 결과 경로는 failure-ttl 동안 기억해 다시 큐에 넣지 않는다
+ * - 경로 계산은 LocalFileStorageService 가 담당하고, 여기서는 원본 → 결과 파일 변환만 한다.
+ */
+@Service
+@Log4j2
+public class ThumbnailService {
+
+    /** 후보 중 ImageIO 디코더가 등록된 확장자 (webp 등은 플러그인이 있을 때만) */
+    private static final Set<String> IMAGE_EXTENSIONS = Stream.of("jpg", "jpeg", "png", "gif", "bmp", "webp")
+            .filter(ext -> ImageIO.getImageReadersBySuffix(ext).hasNext())
+            .collect(Collectors.toUnmodifiableSet());
+
+    /** 디코딩을 거부할 원본 이미지 최대 픽셀 수 (압축 폭탄 방지) */
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+    @Value("${app.thumbnail.max-edge:320}")
+    private int maxEdge;
+
+    @Value("${app.thumbnail.threads:2}")
+    private int threads;
+
+    @Value("${app.thumbnail.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${app.thumbnail.failure-ttl:1h}")
+    private Duration failureTtl;
+
+    @Value("${app.thumbnail.failure-max-size:10000}")
+    private long failureMaxSize;
+
+    private ThreadPoolExecutor executor;
+
+    /** 생성에 실패한 결과 경로 (부정 캐시) */
+    private Cache<Path, Boolean> failed;
+
+    /** 생성 중인 결과 경로 (중복 요청 방지) */
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                Math.max(1, threads), Math.max(1, threads),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.failed = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, failureMaxSize))
+                .expireAfterWrite(failureTtl)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** 썸네일을 만들 수 있는 파일인지 (확장자 기준) */
+    public boolean supports(String filename) {
+        String ext = extensionOf(filename);
+        return ext.equals("pdf") || IMAGE_EXTENSIONS.contains(ext);
+    }
+
+    /**
+     * 썸네일 생성 예약. 지원하지 않는 형식, 최근 실패한 결과, 이미 처리 중/큐 포화면 아무것도 하지 않는다.
+     */
+    public void enqueue(Path source, Path target) {
+        if (!supports(source.getFileName().toString())) return;
+        if (hasFailed(target)) return;
+        if (!inFlight.add(target)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    if (!generate(source, target)) failed.put(target, Boolean.TRUE);
+                } catch (Exception e) {
+                    failed.put(target, Boolean.TRUE);
+                    log.warn("Thumbnail generation failed: {} ({})", source.getFileName(), e.toString());
+                } finally {
+                    inFlight.remove(target);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(target);
+            log.debug("Thumbnail queue full, skipped: {}", source.getFileName());
+        }
+    }
+
+    /** 같은 결과 경로의 실패 기록을 지운다 (원본이 새로 저장된 경우) */
+    public void forgetFailure(Path target) {
+        failed.invalidate(target);
+    }
+
+    boolean hasFailed(Path target) {
+        return failed.getIfPresent(target) != null;
+    }
+
+    /** @return 썸네일을 썼으면 true, 원본을 읽을 수 없어 만들지 못했으면 false */
+    boolean generate(Path source, Path target) throws IOException {
+        if (!Files.exists(source)) return false;
+
+        BufferedImage rendered = extensionOf(source.getFileName().toString()).equals("pdf")
+                ? renderPdfFirstPage(source)
+                : readImageDownsampled(source);
+        if (rendered == null) return false;
+
+        BufferedImage thumb = scaleToFit(rendered, maxEdge);
+
+        // 원본과 같은 방식으로 임시 파일에 쓰고 원자적으로 교체
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), "thumb-", ".part");
+        try {
+            if (!ImageIO.write(thumb, "jpg", tmp.toFile())) {
+                throw new IOException("no JPEG writer");
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return true;
+    }
+
+    /** 큰 이미지는 디코딩 단계에서 서브샘플링해 메모리 사용량을 줄인다 */
+    private BufferedImage readImageDownsampled(Path source) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(source.toFile())) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int w = reader.getWidth(0);
+                int h = reader.getHeight(0);
+                if ((long) w * h > MAX_SOURCE_PIXELS) {
+                    log.debug("Thumbnail skipped, image too large: {}x{}", w, h);
+                    return null;
+                }
+                // 목표 크기의 2배 이상은 남겨 두고 축소 시 품질을 확보
+                int step = Math.max(1, Math.max(w, h) / (maxEdge * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage renderPdfFirstPage(Path source) throws IOException {
+        try (PDDocument doc = Loader.loadPDF(source.toFile())) {
+            if (doc.getNumberOfPages() == 0) return null;
+            PDRectangle box = doc.getPage(0).getCropBox();
+            float longest = Math.max(box.getWidth(), box.getHeight());
+            // 긴 변이 대략 maxEdge 픽셀이 되도록 DPI 결정 (1pt = 1/72 inch)
+            float dpi = longest > 0 ? 72f * maxEdge / longest : 72f;
+            return new PDFRenderer(doc).renderImageWithDPI(0, Math.max(8f, dpi), ImageType.RGB);
+        }
+    }
+
+    private static BufferedImage scaleToFit(BufferedImage src, int maxEdge) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(w, h));
+        int tw = Math.max(1, (int) Math.round(w * ratio));
+        int th = Math.max(1, (int) Math.round(h * ratio));
+
+        // JPEG 은 알파가 없으므로 흰 배경 RGB 로 그린다
+        BufferedImage out = new BufferedImage(tw, th, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, tw, th);
+            g.drawImage(src, 0, 0, tw, th, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null) return "";
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
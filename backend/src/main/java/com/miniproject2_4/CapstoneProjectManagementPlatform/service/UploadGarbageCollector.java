@@ -0,0 +1,290 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectDocumentRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.StorageKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 루트의 고아 파일 정리기.
+ * - 어떤 ProjectDocument 도 가리키지 않는 파일을 유예 기간이 지난 뒤 휴지통(_trash/)으로 옮기고,
+ *   휴지통 보관 기간이 지나면 실제로 삭제한다.
+ * - 한 번 실행에 batchSize 개만 검사하고 다음 실행은 이어서 진행한다 (정렬된 깊이 우선 순회 + 커서).
+ * - 참조 여부는 유예 기간이 지난 후보 key 들만 project_document.file_key 인덱스로 조회한다.
+ * - 삭제로 회수한 바이트는 uploads.gc.reclaimed 지표로 노출한다.
+ * - 파일 시스템 순회가 길어질 수 있어 @Scheduled 공용 스레드가 아닌 MaintenanceScheduler(upload-gc 작업)에서 돈다.
+ */
+@Service
+@Log4j2
+public class UploadGarbageCollector {
+
+    private final LocalFileStorageService storage;
+    private final ProjectDocumentRepository documentRepository;
+    private final TransactionTemplate tx;
+    private final Counter reclaimedBytes;
+    private final Counter trashedFiles;
+
+    @Value("${app.upload.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.upload.gc.batch-size:500}")
+    private int batchSize;
+
+    /** 업로드 후 문서가 연결되기 전까지의 유예 기간 */
+    @Value("${app.upload.gc.grace-period:24h}")
+    private Duration gracePeriod;
+
+    /** 휴지통 보관 기간 (이 기간 안에는 수동 복구 가능) */
+    @Value("${app.upload.gc.trash-retention:7d}")
+    private Duration trashRetention;
+
+    /** 다음 실행에서 이어 갈 위치 (마지막으로 검사한 파일의 상대 경로 세그먼트) */
+    private List<String> cursor;
+
+    /** 기존 문서의 file_key 보정이 끝났는지 (프로세스당 한 번) */
+    private boolean fileKeysBackfilled;
+
+    public UploadGarbageCollector(LocalFileStorageService storage,
+                                  ProjectDocumentRepository documentRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.storage = storage;
+        this.documentRepository = documentRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.reclaimedBytes = Counter.builder("uploads.gc.reclaimed")
+                .description("고아 업로드 정리로 회수한 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.trashedFiles = Counter.builder("uploads.gc.trashed")
+                .description("휴지통으로 옮긴 고아 업로드 파일 수")
+                .register(meterRegistry);
+    }
+
+    /** MaintenanceScheduler 의 upload-gc 작업 (꺼져 있으면 아무것도 하지 않음). 반환: 휴지통으로 옮기거나 지운 파일 수 */
+    public long run() throws IOException {
+        return enabled ? sweep() : 0;
+    }
+
+    /** 한 배치 처리. 실행 간 커서를 공유하므로 동시에 한 번만 돈다. 반환: 휴지통으로 옮기거나 지운 파일 수 */
+    public synchronized long sweep() throws IOException {
+        Purged purged = purgeTrash();
+
+        List<Path> batch = new ArrayList<>();
+        boolean completed = collect(storage.getRootDir(), new ArrayList<>(), batch);
+
+        if (!fileKeysBackfilled) {
+            backfillFileKeys();
+            fileKeysBackfilled = true;
+        }
+
+        // 유예 기간이 지난 파일만 후보 → 그 key 들만 인덱스로 참조 여부 확인
+        Instant graceLimit = Instant.now().minus(gracePeriod);
+        Map<String, Path> candidates = new LinkedHashMap<>();
+        for (Path file : batch) {
+            if (Files.getLastModifiedTime(file).toInstant().isAfter(graceLimit)) continue;
+            candidates.put(StorageKeys.normalize(storage.keyOf(file)), file);
+        }
+        Set<String> referenced = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(documentRepository.findReferencedFileKeys(candidates.keySet()));
+
+        int moved = 0;
+        for (Map.Entry<String, Path> e : candidates.entrySet()) {
+            if (referenced.contains(e.getKey())) continue;
+            if (moveToTrash(e.getKey(), e.getValue())) moved++;
+        }
+
+        cursor = completed || batch.isEmpty() ? null : segments(storage.keyOf(batch.get(batch.size() - 1)));
+        if (moved > 0 || purged.files() > 0) {
+            log.info("Upload GC: scanned={}, trashed={}, purgedBytes={}, wrapped={}",
+                    batch.size(), moved, purged.bytes(), completed);
+        }
+        return moved + purged.files();
+    }
+
+    /* ===== 휴지통 ===== */
+
+    private boolean moveToTrash(String key, Path file) {
+        try {
+            Path trash = storage.resolveTrashPath(key);
+            Files.createDirectories(trash.getParent());
+            Files.move(file, trash, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // 보관 기간은 휴지통으로 옮긴 시각 기준
+            Files.setLastModifiedTime(trash, FileTime.from(Instant.now()));
+            trashedFiles.increment();
+
+            // 파생 파일(썸네일)은 복구 시 다시 만들 수 있으므로 바로 삭제
+            Path thumb = storage.resolveThumbnailPath(key);
+            if (Files.exists(thumb)) {
+                long size = Files.size(thumb);
+                if (Files.deleteIfExists(thumb)) reclaimedBytes.increment(size);
+                deleteEmptyParents(thumb.getParent());
+            }
+            deleteEmptyParents(file.getParent());
+            return true;
+        } catch (IOException | SecurityException e) {
+            log.warn("Upload GC: failed to trash {} ({})", key, e.toString());
+            return false;
+        }
+    }
+
+    /** 휴지통 삭제 결과 */
+    private record Purged(int files, long bytes) {}
+
+    /** 보관 기간이 지난 휴지통 파일 삭제 (배치 크기만큼) */
+    private Purged purgeTrash() throws IOException {
+        Path trashDir = storage.getTrashDir();
+        if (!Files.isDirectory(trashDir)) return new Purged(0, 0);
+
+        Instant limit = Instant.now().minus(trashRetention);
+        List<Path> expired;
+        try (Stream<Path> s = Files.walk(trashDir)) {
+            expired = s.filter(Files::isRegularFile)
+                    .filter(p -> isOlderThan(p, limit))
+                    .limit(Math.max(1, batchSize))
+                    .toList();
+        }
+
+        int files = 0;
+        long total = 0;
+        for (Path p : expired) {
+            try {
+                long size = Files.size(p);
+                if (Files.deleteIfExists(p)) {
+                    files++;
+                    total += size;
+                    deleteEmptyParents(p.getParent());
+                }
+            } catch (IOException e) {
+                log.warn("Upload GC: failed to delete {} ({})", p, e.toString());
+            }
+        }
+        reclaimedBytes.increment(total);
+        return new Purged(files, total);
+    }
+
+    /* ===== 순회 ===== */
+
+    /**
+     * 커서 이후의 파일을 이름순 깊이 우선으로 out 에 모은다.
+     * @return 트리 끝까지 순회했으면 true
+     */
+    private boolean collect(Path dir, List<String> prefix, List<Path> out) throws IOException {
+        List<Path> children = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+            for (Path p : ds) children.add(p);
+        }
+        children.sort((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+
+        for (Path child : children) {
+            String name = child.getFileName().toString();
+            List<String> segs = new ArrayList<>(prefix);
+            segs.add(name);
+
+            if (Files.isDirectory(child)) {
+                // 내부 관리 영역(썸네일/휴지통)은 검사 대상 아님
+                if (prefix.isEmpty() && storage.isInternalKey(name + "/")) continue;
+                // 커서보다 앞선 하위 트리는 이미 처리됨
+                if (cursor != null && compare(segs, cursor) < 0 && !isPrefix(segs, cursor)) continue;
+                if (!collect(child, segs, out)) return false;
+            } else if (Files.isRegularFile(child)) {
+                if (cursor != null && compare(segs, cursor) <= 0) continue;
+                if (name.endsWith(".part")) continue; // 업로드 진행 중
+                out.add(child);
+                if (out.size() >= Math.max(1, batchSize)) return false;
+            }
+        }
+        return true;
+    }
+
+    /** file_key 컬럼 추가 전에 저장된 문서의 key 를 채운다 (id 커서, 청크마다 짧은 트랜잭션) */
+    private void backfillFileKeys() {
+        int batch = Math.max(1, batchSize);
+        long afterId = 0;
+        long filled = 0;
+        while (true) {
+            List<ProjectDocumentRepository.IdUrl> rows =
+                    documentRepository.findLocalFilesWithoutKey(afterId, PageRequest.of(0, batch));
+            if (rows.isEmpty()) break;
+            filled += tx.execute(status -> {
+                int n = 0;
+                for (ProjectDocumentRepository.IdUrl row : rows) {
+                    String key = StorageKeys.normalizedFromObjectUrl(row.getUrl());
+                    if (key != null) n += documentRepository.updateFileKey(row.getId(), key);
+                }
+                return n;
+            });
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+        if (filled > 0) log.info("Upload GC: backfilled file_key for {} documents", filled);
+    }
+
+    private void deleteEmptyParents(Path dir) {
+        Path root = storage.getRootDir();
+        Path trashRoot = storage.getTrashDir().normalize();
+        while (dir != null && dir.startsWith(root) && !dir.equals(root) && !dir.equals(trashRoot)) {
+            try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+                if (ds.iterator().hasNext()) return;
+            } catch (IOException e) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(dir);
+            } catch (IOException e) {
+                return;
+            }
+            dir = dir.getParent();
+        }
+    }
+
+    private static boolean isOlderThan(Path p, Instant limit) {
+        try {
+            return Files.getLastModifiedTime(p).toInstant().isBefore(limit);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static List<String> segments(String key) {
+        List<String> out = new ArrayList<>();
+        for (String s : key.replace('\\', '/').split("/")) {
+            if (!s.isEmpty()) out.add(s);
+        }
+        return out;
+    }
+
+    private static int compare(List<String> a, List<String> b) {
+        int n = Math.min(a.size(), b.size());
+        for (int i = 0; i < n; i++) {
+            int c = a.get(i).compareTo(b.get(i));
+            if (c != 0) return c;
+        }
+        return Integer.compare(a.size(), b.size());
+    }
+
+    private static boolean isPrefix(List<String> prefix, List<String> full) {
+        return prefix.size() <= full.size() && full.subList(0, prefix.size()).equals(prefix);
+    }
+}
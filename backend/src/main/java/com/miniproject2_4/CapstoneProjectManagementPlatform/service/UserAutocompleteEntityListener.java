@@ -0,0 +1,45 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.TransactionCallbacks;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계정 생성/수정/삭제를 자동완성 색인에 반영하는 JPA 리스너 (커밋 후 적용).
+ */
+@Component
+public class UserAutocompleteEntityListener {
+
+    private final ObjectProvider<UserAutocompleteIndex> index;
+
+    public UserAutocompleteEntityListener(ObjectProvider<UserAutocompleteIndex> index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSave(UserAccount u) {
+        Long id = u.getId();
+        String name = u.getName();
+        String email = u.getEmail();
+        Role role = u.getRole();
+        TransactionCallbacks.afterCommit(() -> {
+            UserAutocompleteIndex idx = index.getIfAvailable();
+            if (idx != null) idx.upsert(id, name, email, role);
+        });
+    }
+
+    @PostRemove
+    void onRemove(UserAccount u) {
+        Long id = u.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            UserAutocompleteIndex idx = index.getIfAvailable();
+            if (idx != null) idx.remove(id);
+        });
+    }
+}
@@ -0,0 +1,228 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.UserDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 자동완성용 메모리 n-gram 색인 (이름/이메일 부분 일치).
+ * - 1-gram/2-gram 포스팅을 교집합해 후보를 좁히고, 실제 부분 문자열 포함 여부로 확정한다.
+ * - 정렬: 이름 접두 일치 → 이메일 접두 일치 → 부분 일치, 같은 등급은 이름순.
+ * - 기동 직후 적재가 끝나기 전에는 ready() 가 false 이므로 호출 측이 DB 검색으로 대체한다.
+ * - 적재 중 들어온 변경은 적재 후 다시 적용한다 (SearchIndexService 와 같은 방식).
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class UserAutocompleteIndex {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+
+    private record Entry(Long id, String name, String email, Role role, String nameKey, String emailKey) {}
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    /** gram → 사용자 id 집합 */
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private volatile boolean ready;
+    /** 적재 중 들어온 변경 (적재 후 재적용). null 이면 적재 중이 아님 */
+    private List<Runnable> replayLog;
+
+    public boolean ready() {
+        return ready;
+    }
+
+    /* ===== 갱신 (커밋된 변경) ===== */
+
+    public void upsert(Long id, String name, String email, Role role) {
+        upsert(id, name, email, role, true);
+    }
+
+    public void remove(Long id) {
+        if (id == null) return;
+        write(() -> removeLocked(id), true);
+    }
+
+    /** @param live 커밋된 변경이면 true (적재 중이면 기록), 적재 스레드가 읽은 행이면 false */
+    private void upsert(Long id, String name, String email, Role role, boolean live) {
+        if (id == null) return;
+        Entry e = new Entry(id, name, email, role, normalize(name), normalize(email));
+        write(() -> {
+            removeLocked(id);
+            entries.put(id, e);
+            for (String g : grams(e)) postings.computeIfAbsent(g, k -> new HashSet<>()).add(id);
+        }, live);
+    }
+
+    private void write(Runnable op, boolean live) {
+        lock.writeLock().lock();
+        try {
+            if (live && replayLog != null) replayLog.add(op);
+            op.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long id) {
+        Entry old = entries.remove(id);
+        if (old == null) return;
+        for (String g : grams(old)) {
+            Set<Long> ids = postings.get(g);
+            if (ids == null) continue;
+            ids.remove(id);
+            if (ids.isEmpty()) postings.remove(g);
+        }
+    }
+
+    /* ===== 조회 ===== */
+
+    /**
+     * 이름/이메일에 q 를 포함하는 사용자 상위 limit 명.
+     * @param role null 이면 전체 역할
+     */
+    public List<UserDto> search(String q, Role role, int limit) {
+        String key = normalize(q);
+        if (key.isEmpty() || limit <= 0) return List.of();
+
+        Comparator<Entry> order = Comparator
+                .comparingInt((Entry e) -> rank(e, key))
+                .thenComparing(Entry::nameKey)
+                .thenComparing(Entry::id);
+
+        // 상위 limit 개만 유지하는 힙 (가장 나쁜 항목이 head)
+        PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, order.reversed());
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(key)) {
+                Entry e = entries.get(id);
+                if (e == null) continue;
+                if (role != null && e.role() != role) continue;
+                if (!e.nameKey().contains(key) && !e.emailKey().contains(key)) continue;
+                top.offer(e);
+                if (top.size() > limit) top.poll();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return top.stream()
+                .sorted(order)
+                .map(e -> new UserDto(e.id(), e.name(), e.email()))
+                .toList();
+    }
+
+    /** 질의 gram 들의 포스팅 교집합 (작은 집합부터) */
+    private Collection<Long> candidates(String key) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String g : queryGrams(key)) {
+            Set<Long> ids = postings.get(g);
+            if (ids == null) return List.of();
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> acc = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !acc.isEmpty(); i++) {
+            acc.retainAll(lists.get(i));
+        }
+        return acc;
+    }
+
+    private static int rank(Entry e, String key) {
+        if (e.nameKey().startsWith(key)) return 0;
+        if (e.emailKey().startsWith(key)) return 1;
+        return 2;
+    }
+
+    /* ===== 적재 ===== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread t = new Thread(this::reload, "user-index-load");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /**
+     * 전체 적재. 적재 스레드가 페이지를 읽는 사이에 리스너가 커밋된 변경(이름 변경, 삭제)을 반영할 수 있으므로
+     * 그동안의 변경을 기록해 두었다가 적재가 끝나면 순서대로 다시 적용한다 → 먼저 읽은 낡은 행이 최신 변경을 덮지 않는다.
+     */
+    public synchronized void reload() {
+        long started = System.currentTimeMillis();
+        write(() -> replayLog = new ArrayList<>(), false);
+        try {
+            int page = 0;
+            Page<UserAccount> rows;
+            do {
+                rows = userRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                for (UserAccount u : rows) upsert(u.getId(), u.getName(), u.getEmail(), u.getRole(), false);
+            } while (rows.hasNext());
+            int replayed = replayLiveChanges();
+            ready = true;
+            log.info("User autocomplete index loaded: {} users in {} ms ({} live changes replayed)",
+                    rows.getTotalElements(), System.currentTimeMillis() - started, replayed);
+        } catch (Exception e) {
+            replayLiveChanges();
+            log.warn("User autocomplete index load failed: {}", e.toString());
+        }
+    }
+
+    /** 적재 중 기록한 변경을 순서대로 다시 적용하고 기록을 끝낸다 */
+    private int replayLiveChanges() {
+        lock.writeLock().lock();
+        try {
+            List<Runnable> ops = replayLog;
+            replayLog = null;
+            if (ops == null) return 0;
+            ops.forEach(Runnable::run);
+            return ops.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ===== gram ===== */
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** 색인 gram: 이름/이메일의 모든 1-gram, 2-gram */
+    private static Set<String> grams(Entry e) {
+        Set<String> out = new HashSet<>();
+        addGrams(e.nameKey(), out);
+        addGrams(e.emailKey(), out);
+        return out;
+    }
+
+    private static void addGrams(String s, Set<String> out) {
+        int[] cps = s.codePoints().toArray();
+        for (int i = 0; i < cps.length; i++) {
+            out.add(new String(cps, i, 1));
+            if (i + 1 < cps.length) out.add(new String(cps, i, 2));
+        }
+    }
+
+    /** 질의 gram: 1글자면 1-gram, 그 이상이면 모든 2-gram */
+    private static List<String> queryGrams(String key) {
+        int[] cps = key.codePoints().toArray();
+        if (cps.length == 1) return List.of(key);
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i + 1 < cps.length; i++) out.add(new String(cps, i, 2));
+        return out;
+    }
+}
@@ -2,6 +2,7 @@ package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.AdminUserDto;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.AdminUserSummaryDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.UserDto;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +26,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final ProjectRepository projectRepository;
+    private final UserAutocompleteIndex autocompleteIndex;
+    private final LastLoginBuffer lastLoginBuffer;
 
     public List<UserAccount> findAll() { return userRepository.findAll(); }
 
@@ -38,16 +42,36 @@ public class UserService {
         return userRepository.findAll(PageRequest.of(0, limit)).getContent();
     }
 
-    /** 이름/이메일 검색 (기본 100, 최대 500) */
-    public List<UserAccount> searchTop(String q, Integer size) {
+    /** 역할 필터가 있는 상위 N명 목록 */
+    public List<UserDto> findTop(Role role, Integer size) {
         int limit = clamp(size);
-        return userRepository
-                .findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(q, q)
-                .stream()
-                .limit(limit)
+        if (role == null) {
+            return findTop(limit).stream().map(UserService::toDto).toList();
+        }
+        return userRepository.search(null, role, PageRequest.of(0, limit)).stream()
+                .map(UserService::toDto)
                 .toList();
     }
 
+    /**
+     * 이름/이메일 검색 (기본 100, 최대 500).
+     * - 메모리 자동완성 색인으로 응답하고, 기동 직후 적재 전에는 DB 검색(LIMIT 적용)으로 대체
+     * @param role null 이면 전체 역할
+     */
+    public List<UserDto> searchTop(String q, Role role, Integer size) {
+        int limit = clamp(size);
+        if (autocompleteIndex.ready()) {
+            return autocompleteIndex.search(q, role, limit);
+        }
+        return userRepository.search(q.trim(), role, PageRequest.of(0, limit)).stream()
+                .map(UserService::toDto)
+                .toList();
+    }
+
+    private static UserDto toDto(UserAccount u) {
+        return new UserDto(u.getId(), u.getName(), u.getEmail());
+    }
+
     private int clamp(Integer size) {
         int s = (size == null) ? 100 : size;
         if (s < 1) s = 1;
@@ -77,7 +101,12 @@ public class UserService {
         long students = userRepository.countByRole(Role.STUDENT);
         long professors = userRepository.countByRole(Role.PROFESSOR);
         LocalDateTime since = LocalDateTime.now().minusDays(Math.max(1, activeDays));
-        long active = userRepository.countByLastLoginAtAfter(since);
+        // 버퍼에 있는(아직 DB 에 안 쓴) 로그인은 DB 값 대신 버퍼 값으로 센다
+        Map<Long, LocalDateTime> pending = lastLoginBuffer.pending();
+        long active = pending.isEmpty()
+                ? userRepository.countByLastLoginAtAfter(since)
+                : userRepository.countByLastLoginAtAfterAndIdNotIn(since, pending.keySet())
+                        + pending.values().stream().filter(t -> t.isAfter(since)).count();
         return new AdminUserSummaryDto(total, students, professors, active);
     }
 
@@ -91,7 +120,8 @@ public class UserService {
         LocalDateTime activeSince = LocalDateTime.now().minusDays(Math.max(1, activeDays));
 
         return rows.stream().map(u -> {
-            boolean active = u.getLastLoginAt() != null && u.getLastLoginAt().isAfter(activeSince);
+            LocalDateTime lastLoginAt = lastLoginBuffer.effective(u.getId(), u.getLastLoginAt());
+            boolean active = lastLoginAt != null && lastLoginAt.isAfter(activeSince);
             String recentProject = null;
             Integer taughtCount = null;
 
@@ -109,7 +139,7 @@ public class UserService {
                     u.getRole(),
                     u.getAvatarUrl(),
                     u.getCreatedAt(),
-                    u.getLastLoginAt(),
+                    lastLoginAt,
                     active,
                     recentProject,
                     taughtCount
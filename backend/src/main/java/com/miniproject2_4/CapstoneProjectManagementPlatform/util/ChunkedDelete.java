@@ -0,0 +1,32 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntSupplier;
+
+/**
+ * 정리 작업용 청크 삭제 루프.
+ * 청크(보통 "id 를 batch 개 조회 → id in 삭제")마다 별도 트랜잭션으로 실행해 잠금/언두 로그를 짧게 유지하고,
+ * 한 청크가 batch 개보다 적게 지우면 끝낸다. maxChunks 로 한 번 실행의 총량도 제한한다.
+ */
+public final class ChunkedDelete {
+
+    private ChunkedDelete() {}
+
+    /**
+     * @param chunk     한 청크 삭제 (삭제한 행 수 반환)
+     * @param maxChunks 한 번에 돌 최대 청크 수 (0 이하면 제한 없음)
+     * @return 삭제한 총 행 수
+     */
+    public static long run(TransactionTemplate tx, int batchSize, int maxChunks, IntSupplier chunk) {
+        int batch = Math.max(1, batchSize);
+        long total = 0;
+        for (int i = 0; maxChunks <= 0 || i < maxChunks; i++) {
+            Integer deleted = tx.execute(status -> chunk.getAsInt());
+            int n = deleted == null ? 0 : deleted;
+            total += n;
+            if (n < batch) break;
+        }
+        return total;
+    }
+}
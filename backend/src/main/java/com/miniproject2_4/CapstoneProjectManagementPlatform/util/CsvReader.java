@@ -0,0 +1,140 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 리더 (RFC 4180).
+ * - 한 번에 한 레코드만 메모리에 둔다.
+ * - 따옴표 필드 안의 구분자/줄바꿈, "" 이스케이프, CRLF/LF 를 처리한다.
+ * - 선두 UTF-8 BOM 은 무시한다 (엑셀 저장 파일).
+ */
+public final class CsvReader implements Closeable {
+
+    /** 한 필드 최대 길이 (비정상 입력으로 메모리가 늘어나는 것 방지) */
+    private static final int MAX_FIELD_CHARS = 64 * 1024;
+
+    private final Reader in;
+    private final char[] buf = new char[8192];
+    private int pos;
+    private int len;
+    private boolean eof;
+    private boolean started;
+    private long line = 1;
+    private long recordLine;
+
+    public static class MalformedCsvException extends IOException {
+        public MalformedCsvException(String message) { super(message); }
+    }
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /** 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터) */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    /** 다음 레코드 (끝이면 null). 빈 줄은 건너뛴다. */
+    public List<String> next() throws IOException {
+        if (!started) {
+            started = true;
+            if (peek() == '\uFEFF') read();
+        }
+        while (true) {
+            int c = peek();
+            if (c == -1) return null;
+            if (c == '\r' || c == '\n') {
+                consumeNewline();
+                continue;
+            }
+            break;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == '"' && field.isEmpty()) {
+                readQuoted(field);
+                c = read();
+                if (c != ',' && c != '\r' && c != '\n' && c != -1) {
+                    throw new MalformedCsvException("Unexpected character after quoted field at line " + line);
+                }
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c == '\r' && peek() == '\n') read();
+                if (c != -1) line++;
+                return fields;
+            } else {
+                append(field, (char) c);
+            }
+        }
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) throw new MalformedCsvException("Unterminated quoted field starting at line " + recordLine);
+            if (c == '"') {
+                if (peek() == '"') {
+                    read();
+                    append(field, '"');
+                    continue;
+                }
+                return;
+            }
+            if (c == '\n') line++;
+            append(field, (char) c);
+        }
+    }
+
+    private void append(StringBuilder field, char c) throws MalformedCsvException {
+        if (field.length() >= MAX_FIELD_CHARS) {
+            throw new MalformedCsvException("Field too long at line " + recordLine);
+        }
+        field.append(c);
+    }
+
+    private void consumeNewline() throws IOException {
+        int c = read();
+        if (c == '\r' && peek() == '\n') read();
+        line++;
+    }
+
+    private int peek() throws IOException {
+        if (pos >= len && !fill()) return -1;
+        return buf[pos];
+    }
+
+    private int read() throws IOException {
+        if (pos >= len && !fill()) return -1;
+        return buf[pos++];
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) return false;
+        int n = in.read(buf, 0, buf.length);
+        if (n <= 0) {
+            eof = true;
+            return false;
+        }
+        pos = 0;
+        len = n;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,53 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * CSV 한 행씩 쓰기 (RFC 4180). 구분자/따옴표/줄바꿈이 든 값만 따옴표로 감싼다.
+ * null 은 빈 칸으로 쓴다.
+ * 문자열 값이 수식 시작 문자(= + - @ 탭 CR)로 시작하면 앞에 ' 를 붙여 스프레드시트가 수식으로 실행하지 않게 한다.
+ * 숫자 값은 음수도 그대로 쓴다.
+ */
+public final class CsvWriter {
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) out.write(',');
+            Object v = values.get(i);
+            if (v instanceof CharSequence cs) writeField(neutralizeFormula(cs.toString()));
+            else if (v != null) writeField(v.toString());
+        }
+        out.write("\r\n");
+    }
+
+    private static String neutralizeFormula(String s) {
+        if (s.isEmpty()) return s;
+        return switch (s.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + s;
+            default -> s;
+        };
+    }
+
+    private void writeField(String s) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < s.length() && !quote; i++) {
+            char c = s.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(s);
+            return;
+        }
+        out.write('"');
+        out.write(s.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,192 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 줄 단위 텍스트 diff (Myers O(ND)) 와 압축 델타 인코딩.
+ * - 공통 접두/접미는 먼저 잘라내고 가운데만 비교한다.
+ * - 편집 거리가 MAX_EDITS 를 넘으면 가운데 전체를 삭제+삽입으로 처리한다 (메모리 상한).
+ * - 델타 형식 (줄마다 하나의 명령): "=n" n줄 복사, "-n" n줄 건너뜀, "+텍스트" 한 줄 삽입.
+ */
+public final class LineDiff {
+
+    private static final int MAX_EDITS = 1000;
+
+    private LineDiff() {}
+
+    public enum Type { EQUAL, DELETE, INSERT }
+
+    /** 같은 종류가 연속된 줄 묶음 */
+    public record Op(Type type, List<String> lines) {}
+
+    /** "\n" 기준 분할 (마지막 빈 줄 유지 → join 으로 원문 복원 가능) */
+    public static List<String> lines(String text) {
+        return Arrays.asList((text == null ? "" : text).split("\n", -1));
+    }
+
+    public static List<Op> diff(String from, String to) {
+        return diff(lines(from), lines(to));
+    }
+
+    public static List<Op> diff(List<String> a, List<String> b) {
+        int n = a.size(), m = b.size();
+        int pre = 0;
+        while (pre < n && pre < m && a.get(pre).equals(b.get(pre))) pre++;
+        int suf = 0;
+        while (suf < n - pre && suf < m - pre && a.get(n - 1 - suf).equals(b.get(m - 1 - suf))) suf++;
+
+        OpBuilder out = new OpBuilder();
+        for (int i = 0; i < pre; i++) out.add(Type.EQUAL, a.get(i));
+        middle(a.subList(pre, n - suf), b.subList(pre, m - suf), out);
+        for (int i = n - suf; i < n; i++) out.add(Type.EQUAL, a.get(i));
+        return out.build();
+    }
+
+    /** ops 를 델타 문자열로 인코딩 (EQUAL/DELETE 는 줄 수만 기록) */
+    public static String encode(List<Op> ops) {
+        StringBuilder sb = new StringBuilder();
+        for (Op op : ops) {
+            switch (op.type()) {
+                case EQUAL -> appendLine(sb, "=" + op.lines().size());
+                case DELETE -> appendLine(sb, "-" + op.lines().size());
+                case INSERT -> op.lines().forEach(l -> appendLine(sb, "+" + l));
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String delta(String from, String to) {
+        return encode(diff(from, to));
+    }
+
+    /** base 에 델타를 적용한 결과 */
+    public static String apply(String base, String delta) {
+        List<String> src = lines(base);
+        List<String> out = new ArrayList<>(src.size());
+        int pos = 0;
+        if (delta != null && !delta.isEmpty()) {
+            for (String cmd : delta.split("\n", -1)) {
+                if (cmd.isEmpty()) throw new IllegalStateException("Corrupt delta: empty command");
+                char c = cmd.charAt(0);
+                if (c == '+') {
+                    out.add(cmd.substring(1));
+                    continue;
+                }
+                int count;
+                try {
+                    count = Integer.parseInt(cmd.substring(1));
+                } catch (NumberFormatException e) {
+                    throw new IllegalStateException("Corrupt delta: " + cmd);
+                }
+                if (count < 0 || pos + count > src.size()) {
+                    throw new IllegalStateException("Corrupt delta: out of range " + cmd);
+                }
+                if (c == '=') out.addAll(src.subList(pos, pos + count));
+                else if (c != '-') throw new IllegalStateException("Corrupt delta: " + cmd);
+                pos += count;
+            }
+        }
+        if (pos != src.size()) throw new IllegalStateException("Corrupt delta: base length mismatch");
+        return String.join("\n", out);
+    }
+
+    /* ===== Myers ===== */
+
+    private static void middle(List<String> a, List<String> b, OpBuilder out) {
+        int n = a.size(), m = b.size();
+        if (n == 0 || m == 0) {
+            a.forEach(l -> out.add(Type.DELETE, l));
+            b.forEach(l -> out.add(Type.INSERT, l));
+            return;
+        }
+        int max = n + m;
+        int off = max + 1;
+        int[] v = new int[2 * max + 3];
+        // d 라운드 시작 시점의 v[-d-1 .. d+1] 구간만 보관 → O(D^2) 메모리
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            if (d > MAX_EDITS) {
+                a.forEach(l -> out.add(Type.DELETE, l));
+                b.forEach(l -> out.add(Type.INSERT, l));
+                return;
+            }
+            trace.add(Arrays.copyOfRange(v, off - d - 1, off + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[off + k - 1] < v[off + k + 1]))
+                        ? v[off + k + 1]
+                        : v[off + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) { x++; y++; }
+                v[off + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(a, b, trace, d, out);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void backtrack(List<String> a, List<String> b, List<int[]> trace, int dEnd, OpBuilder out) {
+        List<Type> types = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        int x = a.size(), y = b.size();
+        for (int d = dEnd; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int base = d + 1; // v[k] == slice[k + base]
+            int k = x - y;
+            int prevK = (k == -d || (k != d && v[k - 1 + base] < v[k + 1 + base])) ? k + 1 : k - 1;
+            int prevX = d == 0 ? 0 : v[prevK + base];
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                types.add(Type.EQUAL); texts.add(a.get(x - 1));
+                x--; y--;
+            }
+            if (d == 0) break;
+            if (x == prevX) {
+                types.add(Type.INSERT); texts.add(b.get(y - 1));
+                y--;
+            } else {
+                types.add(Type.DELETE); texts.add(a.get(x - 1));
+                x--;
+            }
+        }
+        Collections.reverse(types);
+        Collections.reverse(texts);
+        for (int i = 0; i < types.size(); i++) out.add(types.get(i), texts.get(i));
+    }
+
+    private static void appendLine(StringBuilder sb, String line) {
+        if (!sb.isEmpty()) sb.append('\n');
+        sb.append(line);
+    }
+
+    /** 연속된 같은 종류를 하나의 Op 로 묶는다 */
+    private static final class OpBuilder {
+        private final List<Op> ops = new ArrayList<>();
+        private Type type;
+        private List<String> lines;
+
+        void add(Type t, String line) {
+            if (t != type) {
+                flush();
+                type = t;
+                lines = new ArrayList<>();
+            }
+            lines.add(line);
+        }
+
+        private void flush() {
+            if (type != null && !lines.isEmpty()) ops.add(new Op(type, List.copyOf(lines)));
+        }
+
+        List<Op> build() {
+            flush();
+            type = null;
+            return ops;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 키 Bloom 필터. mightContain 이 false 면 확실히 없음, true 면 있을 수도 있음.
+ * - 비트 배열은 AtomicLongArray 라 잠금 없이 동시에 add/mightContain 할 수 있다.
+ * - 삭제는 불가: 항목이 줄면 새 필터를 만들어 다시 채운다.
+ */
+public final class LongBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashes;
+
+    /**
+     * @param bitCount 비트 수 (64 의 배수로 올림)
+     * @param hashes   해시 함수 개수
+     */
+    public LongBloomFilter(long bitCount, int hashes) {
+        int words = (int) Math.max(1, (bitCount + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashes = Math.max(1, hashes);
+    }
+
+    public void add(long key) {
+        long h1 = LongLongHashMap.mix(key);
+        long h2 = LongLongHashMap.mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long cur;
+            while (((cur = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, cur, cur | mask)) break;
+            }
+        }
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = LongLongHashMap.mix(key);
+        long h2 = LongLongHashMap.mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+}
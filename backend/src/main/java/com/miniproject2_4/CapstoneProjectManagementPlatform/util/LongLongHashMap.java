@@ -0,0 +1,124 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import java.util.Arrays;
+
+/**
+ * long → long 오픈 어드레싱 해시 맵 (선형 탐사, 박싱 없음).
+ * - 키/값을 long[] 두 개에 담아 항목당 16바이트 남짓만 쓴다.
+ * - 삭제는 지원하지 않는다: 정리가 필요하면 남길 항목만 새 맵에 다시 넣는다 (retainIf 참고).
+ * - 스레드 안전하지 않음. 호출 측이 잠금을 건다.
+ */
+public final class LongLongHashMap {
+
+    /** 빈 슬롯 표시. 이 값 자체를 키로 쓰면 별도 필드에 둔다. */
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    @FunctionalInterface
+    public interface EntryPredicate {
+        boolean test(long key, long value);
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private boolean hasEmptyKey;
+    private long emptyKeyValue;
+
+    public LongLongHashMap() {
+        this(16);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        int cap = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[cap];
+        values = new long[cap];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public int size() {
+        return size + (hasEmptyKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY) return hasEmptyKey;
+        return keys[slot(key)] == key;
+    }
+
+    /** 값 (없으면 defaultValue) */
+    public long get(long key, long defaultValue) {
+        if (key == EMPTY) return hasEmptyKey ? emptyKeyValue : defaultValue;
+        int i = slot(key);
+        return keys[i] == key ? values[i] : defaultValue;
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY) {
+            hasEmptyKey = true;
+            emptyKeyValue = value;
+            return;
+        }
+        int i = slot(key);
+        if (keys[i] == key) {
+            values[i] = value;
+            return;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > keys.length * LOAD_FACTOR) resize(keys.length << 1);
+    }
+
+    /** 기존 값과 value 중 큰 값을 저장 */
+    public void putMax(long key, long value) {
+        if (!containsKey(key) || get(key, value) < value) put(key, value);
+    }
+
+    public void forEach(EntryConsumer action) {
+        if (hasEmptyKey) action.accept(EMPTY, emptyKeyValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) action.accept(keys[i], values[i]);
+        }
+    }
+
+    /** 조건을 만족하는 항목만 담은 새 맵 */
+    public LongLongHashMap retainIf(EntryPredicate keep) {
+        LongLongHashMap out = new LongLongHashMap(Math.max(16, size()));
+        forEach((k, v) -> { if (keep.test(k, v)) out.put(k, v); });
+        return out;
+    }
+
+    /** 키가 있는 슬롯 또는 넣을 빈 슬롯 */
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int i = (int) mix(key) & mask;
+        while (keys[i] != EMPTY && keys[i] != key) i = (i + 1) & mask;
+        return i;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys, oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) put(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    /** SplitMix64 마무리 단계 (연속된 id 도 고르게 흩어지도록) */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,263 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/form-data 스트리밍 파서.
+ * - 서블릿 컨테이너의 임시 파일 스풀링 없이 요청 본문에서 파트를 순서대로 읽는다.
+ * - 각 파트 본문은 {@link Part#body()} 로 읽으며, 다 읽지 않고 next()를 호출하면 나머지는 건너뛴다.
+ * - 메모리 사용량은 내부 버퍼 크기로 고정된다.
+ */
+public final class MultipartStreamReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADER_BYTES = 16 * 1024;
+
+    /** 파트 메타데이터 + 본문 스트림 (filename 이 null 이면 일반 폼 필드) */
+    public record Part(String name, String filename, String contentType, InputStream body) {}
+
+    /** 형식이 잘못된 multipart 본문 */
+    public static class MalformedMultipartException extends IOException {
+        public MalformedMultipartException(String message) { super(message); }
+    }
+
+    private final InputStream in;
+    private final byte[] delimiter;   // CRLF + "--" + boundary
+    private final byte[] buf;
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private boolean finished;
+    private PartInputStream current;
+
+    public MultipartStreamReader(InputStream in, String boundary) {
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new IllegalArgumentException("invalid multipart boundary");
+        }
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buf = new byte[BUFFER_SIZE];
+        // 첫 경계("--boundary")도 같은 규칙으로 찾을 수 있도록 가상의 CRLF를 앞에 둔다
+        this.buf[0] = '\r';
+        this.buf[1] = '\n';
+        this.limit = 2;
+        // preamble 을 하나의 파트로 취급해 첫 next() 에서 건너뛴다
+        this.current = new PartInputStream();
+    }
+
+    /** Content-Type 헤더에서 boundary 추출 (multipart 가 아니면 null) */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) return null;
+        for (String param : contentType.split(";")) {
+            String p = param.trim();
+            if (p.regionMatches(true, 0, "boundary=", 0, 9)) {
+                String v = p.substring(9).trim();
+                if (v.length() >= 2 && v.startsWith("\"") && v.endsWith("\"")) {
+                    v = v.substring(1, v.length() - 1);
+                }
+                return v.isEmpty() ? null : v;
+            }
+        }
+        return null;
+    }
+
+    /** 다음 파트 (더 없으면 null) */
+    public Part next() throws IOException {
+        if (finished) return null;
+        if (current != null) {
+            current.skipRemaining();
+            current = null;
+        }
+
+        // 경계 직후: "--" 이면 종료 경계, 아니면 CRLF 뒤에 파트 헤더
+        if (!ensure(2)) throw new MalformedMultipartException("unexpected end of multipart stream");
+        if (buf[pos] == '-' && buf[pos + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        if (!readLine().isBlank()) {
+            throw new MalformedMultipartException("malformed multipart boundary line");
+        }
+
+        Map<String, String> headers = readHeaders();
+        Map<String, String> disposition = parseParams(headers.getOrDefault("content-disposition", ""));
+
+        String filename = disposition.get("filename");
+        String extended = disposition.get("filename*");
+        if (extended != null) {
+            int quote = extended.indexOf("''");
+            String encoded = quote >= 0 ? extended.substring(quote + 2) : extended;
+            try {
+                filename = URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException ignore) {
+                // 잘못된 인코딩이면 일반 filename 유지
+            }
+        }
+
+        current = new PartInputStream();
+        return new Part(disposition.get("name"), filename, headers.get("content-type"), current);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /* ===== 내부 구현 ===== */
+
+    /** 버퍼에 최소 n 바이트 확보 (EOF 로 불가능하면 false) */
+    private boolean ensure(int n) throws IOException {
+        while (limit - pos < n && !eof) fill();
+        return limit - pos >= n;
+    }
+
+    private void fill() throws IOException {
+        if (pos > 0) {
+            System.arraycopy(buf, pos, buf, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        int r = in.read(buf, limit, buf.length - limit);
+        if (r < 0) eof = true;
+        else limit += r;
+    }
+
+    private int indexOfDelimiter() {
+        int last = limit - delimiter.length;
+        outer:
+        for (int i = pos; i <= last; i++) {
+            if (buf[i] != delimiter[0]) continue;
+            for (int j = 1; j < delimiter.length; j++) {
+                if (buf[i + j] != delimiter[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /** 현재 파트 본문을 경계 직전까지 읽는다. 경계에 도달하면 경계를 소비하고 -1 */
+    private int readBody(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        while (true) {
+            int idx = indexOfDelimiter();
+            if (idx >= 0) {
+                int avail = idx - pos;
+                if (avail == 0) {
+                    pos = idx + delimiter.length;
+                    return -1;
+                }
+                int n = Math.min(len, avail);
+                System.arraycopy(buf, pos, b, off, n);
+                pos += n;
+                return n;
+            }
+            // 경계의 앞부분일 수 있는 꼬리(delimiter.length - 1)는 남겨 둔다
+            int safe = (limit - pos) - (delimiter.length - 1);
+            if (safe > 0) {
+                int n = Math.min(len, safe);
+                System.arraycopy(buf, pos, b, off, n);
+                pos += n;
+                return n;
+            }
+            if (eof) throw new MalformedMultipartException("unexpected end of multipart stream");
+            fill();
+        }
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        while (true) {
+            if (!ensure(1)) throw new MalformedMultipartException("unexpected end of multipart headers");
+            byte b = buf[pos++];
+            if (b == '\r') {
+                if (!ensure(1)) throw new MalformedMultipartException("unexpected end of multipart headers");
+                if (buf[pos] == '\n') {
+                    pos++;
+                    return line.toString(StandardCharsets.UTF_8);
+                }
+            }
+            line.write(b);
+            if (line.size() > MAX_HEADER_BYTES) throw new MalformedMultipartException("multipart header too large");
+        }
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        int total = 0;
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            total += line.length();
+            if (total > MAX_HEADER_BYTES) throw new MalformedMultipartException("multipart header too large");
+            int colon = line.indexOf(':');
+            if (colon <= 0) continue;
+            headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+        }
+        return headers;
+    }
+
+    /** form-data; name="file"; filename="a.png" → {name=file, filename=a.png} */
+    static Map<String, String> parseParams(String header) {
+        Map<String, String> out = new HashMap<>();
+        int start = header.indexOf(';');
+        if (start < 0) return out;
+        String s = header.substring(start + 1);
+        int p = 0;
+        int n = s.length();
+        while (p < n) {
+            while (p < n && (s.charAt(p) == ';' || Character.isWhitespace(s.charAt(p)))) p++;
+            int eq = s.indexOf('=', p);
+            if (eq < 0) break;
+            String key = s.substring(p, eq).trim().toLowerCase(Locale.ROOT);
+            p = eq + 1;
+            String value;
+            if (p < n && s.charAt(p) == '"') {
+                int close = s.indexOf('"', p + 1);
+                if (close < 0) close = n;
+                value = s.substring(p + 1, close);
+                p = close + 1;
+            } else {
+                int semi = s.indexOf(';', p);
+                if (semi < 0) semi = n;
+                value = s.substring(p, semi).trim();
+                p = semi;
+            }
+            out.put(key, value);
+        }
+        return out;
+    }
+
+    /** 현재 파트의 본문 스트림 (닫아도 하위 스트림은 유지) */
+    private final class PartInputStream extends InputStream {
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return n == -1 ? -1 : (one[0] & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) return -1;
+            int n = readBody(b, off, len);
+            if (n == -1) done = true;
+            return n;
+        }
+
+        void skipRemaining() throws IOException {
+            byte[] scratch = new byte[8192];
+            while (read(scratch, 0, scratch.length) != -1) {
+                // 버린다
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (userId, projectId) → 권한 판정 재료(담당교수/팀 멤버/팀장 여부) 캐시.
+ * - 미스일 때만 ProjectRepository.findAccessFlags 한 번으로 채운다.
+ * - 무효화는 변경 지점에서 정확히 해당 항목만: 팀 멤버 추가/삭제/역할 변경 → (팀, 사용자), 프로젝트 변경 → 프로젝트 전체.
+ *   트랜잭션 안에서 호출되면 즉시 한 번, 트랜잭션 종료(커밋/롤백) 후 한 번 더 비우고, 그 사이에는 새로 캐시하지 않는다.
+ * - 무효화와 동시에 진행 중이던 DB 조회 결과는 캐시에 넣지 않는다 (세대 번호 비교) → 오래된 판정이 되살아나지 않음.
+ * - 만료 시간은 놓친 변경(직접 SQL 등)에 대한 안전망이다.
+ */
+@Component
+public class ProjectAccessCache {
+
+    /** 판정 재료. 존재하지 않는 프로젝트는 NONE (팀 없음, 모두 false) */
+    public record Decision(Long teamId, boolean professor, boolean member, boolean leader, boolean archived) {
+        public static final Decision NONE = new Decision(null, false, false, false, false);
+    }
+
+    private record Key(Long userId, Long projectId) {}
+
+    private final ProjectRepository projectRepository;
+    private final Cache<Key, Decision> cache;
+    private final AtomicLong generation = new AtomicLong();
+    /** 무효화를 예약해 둔 채 아직 끝나지 않은 트랜잭션 수 (그동안은 새로 캐시하지 않음) */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public ProjectAccessCache(ProjectRepository projectRepository,
+                              @Value("${app.access-cache.max-size:100000}") long maxSize,
+                              @Value("${app.access-cache.ttl:10m}") Duration ttl) {
+        this.projectRepository = projectRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxSize))
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Decision decision(Long projectId, Long userId) {
+        if (projectId == null || userId == null) return Decision.NONE;
+        Key key = new Key(userId, projectId);
+        Decision d = cache.getIfPresent(key);
+        if (d != null) return d;
+
+        long gen = generation.get();
+        d = projectRepository.findAccessFlags(projectId, userId)
+                .map(f -> new Decision(f.getTeamId(),
+                        Boolean.TRUE.equals(f.getProfessor()),
+                        Boolean.TRUE.equals(f.getMember()),
+                        Boolean.TRUE.equals(f.getLeader()),
+                        Boolean.TRUE.equals(f.getArchived())))
+                .orElse(Decision.NONE);
+        // 조회 도중 무효화가 있었거나 미커밋 변경이 남아 있으면 이번 결과는 버린다 (다음 요청이 다시 조회)
+        if (generation.get() == gen && pending.get() == 0) cache.put(key, d);
+        return d;
+    }
+
+    /* ===== 무효화 ===== */
+
+    /** 팀 멤버 추가/삭제/역할 변경: 그 사용자의 해당 팀 프로젝트 판정만 */
+    public void evictMembership(Long teamId, Long userId) {
+        if (teamId == null || userId == null) return;
+        evict(() -> cache.asMap().entrySet().removeIf(e ->
+                userId.equals(e.getKey().userId()) && teamId.equals(e.getValue().teamId())));
+    }
+
+    /** 팀 전체 (팀 삭제, 멤버 일괄 변경) */
+    public void evictTeam(Long teamId) {
+        if (teamId == null) return;
+        evict(() -> cache.asMap().values().removeIf(d -> teamId.equals(d.teamId())));
+    }
+
+    /** 프로젝트 변경 (담당교수 지정, 아카이브, 팀 변경, 삭제) */
+    public void evictProject(Long projectId) {
+        if (projectId == null) return;
+        evict(() -> cache.asMap().keySet().removeIf(k -> projectId.equals(k.projectId())));
+    }
+
+    public void evictAll() {
+        evict(cache::invalidateAll);
+    }
+
+    private void evict(Runnable eviction) {
+        Runnable action = () -> {
+            generation.incrementAndGet();
+            eviction.run();
+        };
+        // 즉시 한 번: 같은 트랜잭션 안의 이후 판정이 변경 전 값을 쓰지 않도록
+        action.run();
+        // 종료 후 한 번 더: 트랜잭션 도중 캐시된 미커밋 값(롤백 포함)을 버린다 (트랜잭션 밖이면 바로 한 번 더)
+        pending.incrementAndGet();
+        TransactionCallbacks.afterCompletion(() -> {
+            action.run();
+            pending.decrementAndGet();
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Project;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TeamMember;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 권한 판정에 영향을 주는 엔티티 변경을 ProjectAccessCache 에 알리는 JPA 리스너.
+ * - TeamMember 추가/삭제/역할 변경(팀장 변경 포함) → 해당 (팀, 사용자) 판정만 무효화
+ * - Project 변경(담당교수 지정, 아카이브, 팀 변경, 삭제) → 해당 프로젝트 판정 무효화
+ * 벌크 JPQL / JDBC 변경은 리스너를 거치지 않으므로 호출 측에서 직접 무효화한다.
+ */
+@Component
+public class ProjectAccessEntityListener {
+
+    private final ObjectProvider<ProjectAccessCache> accessCache;
+
+    public ProjectAccessEntityListener(ObjectProvider<ProjectAccessCache> accessCache) {
+        this.accessCache = accessCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        ProjectAccessCache cache = accessCache.getIfAvailable();
+        if (cache == null) return;
+        if (entity instanceof TeamMember tm && tm.getId() != null) {
+            cache.evictMembership(tm.getId().getTeamId(), tm.getId().getUserId());
+        } else if (entity instanceof Project p) {
+            cache.evictProject(p.getId());
+        }
+    }
+}
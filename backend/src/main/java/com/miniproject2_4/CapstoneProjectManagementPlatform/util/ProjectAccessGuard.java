@@ -2,26 +2,27 @@ package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
 
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
-import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.MembershipRepository;
-import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
+/**
+ * 프로젝트 단위 권한 판정. 멤버/담당교수 여부는 ProjectAccessCache 에서 읽으므로
+ * 캐시 적중 시 DB 조회가 없다 (ADMIN 은 역할만으로 판정).
+ */
 @Component
 @RequiredArgsConstructor
 public class ProjectAccessGuard {
 
-    private final MembershipRepository membershipRepository;
-    private final ProjectRepository projectRepository;
+    private final ProjectAccessCache accessCache;
 
     /** (레거시) 프로젝트 멤버인지 단순 체크 */
     public void assertMember(Long projectId, Long userId) {
         if (projectId == null || userId == null) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "NOT_ALLOWED_TO_VIEW");
         }
-        if (!membershipRepository.existsMembership(projectId, userId)) {
+        if (!accessCache.decision(projectId, userId).member()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "NOT_PROJECT_MEMBER");
         }
     }
@@ -29,14 +30,20 @@ public class ProjectAccessGuard {
     /** 조회 권한: ADMIN || (PROFESSOR && 담당교수) || (팀 멤버) */
     public void assertCanViewProject(Long projectId, UserAccount user) {
         if (user == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED");
+        if (canViewProject(projectId, user)) return;
+
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "NOT_ALLOWED_TO_VIEW");
+    }
+
+    /** 조회 권한 여부 (예외 없이 판정; 검색 결과 필터링 등) */
+    public boolean canViewProject(Long projectId, UserAccount user) {
+        if (user == null) return false;
         Long userId = user.getId();
         Role role = user.getRole();
 
-        if (role == Role.ADMIN) return;
-        if (role == Role.PROFESSOR && isProfessorOfProject(projectId, userId)) return;
-        if (isMember(projectId, userId)) return;
-
-        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "NOT_ALLOWED_TO_VIEW");
+        if (role == Role.ADMIN) return true;
+        if (role == Role.PROFESSOR && isProfessorOfProject(projectId, userId)) return true;
+        return isMember(projectId, userId);
     }
 
     /** 이벤트 생성/수정/삭제 권한: ADMIN || (PROFESSOR && 담당교수) || (STUDENT && 팀 멤버) */
@@ -74,12 +81,10 @@ public class ProjectAccessGuard {
     }
 
     private boolean isMember(Long projectId, Long userId) {
-        if (projectId == null || userId == null) return false;
-        return membershipRepository.existsMembership(projectId, userId);
+        return accessCache.decision(projectId, userId).member();
     }
 
     private boolean isProfessorOfProject(Long projectId, Long userId) {
-        if (projectId == null || userId == null) return false;
-        return projectRepository.existsByIdAndProfessor_Id(projectId, userId);
+        return accessCache.decision(projectId, userId).professor();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인/질의 공용 토크나이저 (한글/영문 혼용 텍스트).
+ * - 영문/숫자: 단어 단위, 소문자화 (한 글자 영문은 버림)
+ * - 한글/한자/가나: 형태소 분석 없이 2-gram (조사가 붙어도 어간 2-gram 이 겹쳐서 검색됨)
+ * - 그 외 문자(공백, 구두점, 마크다운 기호 등)는 구분자
+ */
+public final class SearchTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    private SearchTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) return out;
+
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        StringBuilder cjk = new StringBuilder();
+
+        int i = 0;
+        while (i < s.length()) {
+            int cp = s.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (isCjk(cp)) {
+                flushWord(word, out);
+                cjk.appendCodePoint(cp);
+            } else if (Character.isLetterOrDigit(cp)) {
+                flushCjk(cjk, out);
+                word.appendCodePoint(cp);
+            } else {
+                flushWord(word, out);
+                flushCjk(cjk, out);
+            }
+        }
+        flushWord(word, out);
+        flushCjk(cjk, out);
+        return out;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> out) {
+        if (word.isEmpty()) return;
+        boolean keep = word.length() >= 2 || Character.isDigit(word.charAt(0));
+        if (keep) {
+            out.add(word.length() > MAX_TOKEN_LENGTH ? word.substring(0, MAX_TOKEN_LENGTH) : word.toString());
+        }
+        word.setLength(0);
+    }
+
+    private static void flushCjk(StringBuilder run, List<String> out) {
+        if (run.isEmpty()) return;
+        int[] cps = run.codePoints().toArray();
+        if (cps.length == 1) {
+            out.add(new String(cps, 0, 1));
+        } else {
+            for (int k = 0; k + 1 < cps.length; k++) {
+                out.add(new String(cps, k, 2));
+            }
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,45 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/** 로컬 저장소 key 표기 (문서 URL ↔ key). 엔티티 콜백에서도 쓰므로 상태 없는 정적 유틸 */
+public final class StorageKeys {
+
+    private static final String MARKER = "/files?key=";
+
+    private StorageKeys() {}
+
+    /** 문서 URL("/api/files?key=...")에서 key 추출 (외부 링크/해석 불가면 null) */
+    public static String fromObjectUrl(String url) {
+        if (url == null) return null;
+        int idx = url.indexOf(MARKER);
+        if (idx < 0) return null;
+        String encoded = url.substring(idx + MARKER.length());
+        int amp = encoded.indexOf('&');
+        if (amp >= 0) encoded = encoded.substring(0, amp);
+        try {
+            String key = URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+            return key.isBlank() ? null : key;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /** 비교용 표기: '/' 구분, 빈 세그먼트(앞뒤/중복 구분자) 제거 */
+    public static String normalize(String key) {
+        if (key == null) return null;
+        StringJoiner out = new StringJoiner("/");
+        for (String s : key.replace('\\', '/').split("/")) {
+            if (!s.isEmpty()) out.add(s);
+        }
+        return out.toString();
+    }
+
+    /** 문서 URL → 비교용 key (로컬 파일이 아니면 null) */
+    public static String normalizedFromObjectUrl(String url) {
+        String key = fromObjectUrl(url);
+        return key == null ? null : normalize(key);
+    }
+}
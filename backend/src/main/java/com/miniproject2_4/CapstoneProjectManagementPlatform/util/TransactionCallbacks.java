@@ -0,0 +1,41 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션 종료 시점에 메모리 상태(색인/캐시/폐기 목록)를 갱신하는 콜백 등록.
+ * 트랜잭션 밖에서 호출되면 즉시 실행한다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {}
+
+    /** 커밋된 뒤에만 실행 (롤백되면 실행하지 않음) */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /** 커밋/롤백과 관계없이 트랜잭션이 끝난 뒤 실행 */
+    public static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
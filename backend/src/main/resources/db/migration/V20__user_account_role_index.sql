@@ -0,0 +1,2 @@
+-- 초대 가능 사용자 조회(role = STUDENT, id 커서 페이징)용 인덱스
+CREATE INDEX IF NOT EXISTS idx_user_account_role_id ON user_account(role, id);
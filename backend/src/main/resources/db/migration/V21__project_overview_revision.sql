@@ -0,0 +1,15 @@
+-- 프로젝트 개요 게시본 이력: 주기적 전체 스냅샷 + 직전 버전 대비 줄 단위 델타
+CREATE TABLE IF NOT EXISTS project_overview_revision (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    project_id BIGINT NOT NULL,
+    version INT NOT NULL,
+    kind VARCHAR(16) NOT NULL,
+    depth INT NOT NULL DEFAULT 0,
+    content LONGTEXT NOT NULL,
+    editor_id BIGINT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_overview_revision_version (project_id, version),
+    INDEX idx_overview_revision_kind (project_id, kind, version),
+    CONSTRAINT fk_overview_revision_project FOREIGN KEY (project_id) REFERENCES project(id) ON DELETE CASCADE,
+    CONSTRAINT fk_overview_revision_editor FOREIGN KEY (editor_id) REFERENCES user_account(id) ON DELETE SET NULL
+);
@@ -0,0 +1,2 @@
+-- 교수 검토 대기함(status = PENDING, 마감 임박순) 조회용 복합 인덱스
+CREATE INDEX IF NOT EXISTS idx_assignment_project_status_due ON assignment(project_id, status, due_date);
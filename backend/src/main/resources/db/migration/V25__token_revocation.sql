@@ -0,0 +1,15 @@
+-- 액세스 토큰 폐기 기록 (TokenRevocationService 가 기동 시 재생하고 인스턴스 간 주기 동기화)
+-- kind = USER  : subject = 사용자 id, 그 시각(issued_before) 이전 발급 토큰 전부 무효
+-- kind = TOKEN : subject = 토큰 jti, 해당 토큰 하나만 무효
+-- expires_at 이후에는 대상 토큰이 모두 만료되므로 행을 지워도 된다.
+CREATE TABLE IF NOT EXISTS token_revocation (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    kind VARCHAR(16) NOT NULL,
+    subject BIGINT NOT NULL,
+    issued_before DATETIME NULL,
+    expires_at DATETIME NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_revocation_expires ON token_revocation(expires_at);
+CREATE INDEX IF NOT EXISTS idx_token_revocation_created ON token_revocation(created_at);
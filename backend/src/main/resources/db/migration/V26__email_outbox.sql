@@ -0,0 +1,19 @@
+-- 메일 발송 outbox: 업무 트랜잭션 안에서 행만 쓰고, 실제 발송은 EmailOutboxService 디스패처가 나중에 한다.
+-- next_attempt_at: 다음 발송 시도 시각 (가져간 동안은 임대 만료 시각으로 밀어 두어 다른 인스턴스가 중복으로 가져가지 않음)
+-- dedup_key: 같은 내용의 메일을 dedup 창 안에서 한 번만 보내기 위한 키
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    dedup_key VARCHAR(100) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at DATETIME NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_due ON email_outbox(status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_dedup ON email_outbox(dedup_key, created_at);
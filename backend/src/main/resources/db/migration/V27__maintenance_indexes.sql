@@ -0,0 +1,5 @@
+-- 정리 작업(MaintenanceScheduler)의 청크 조회용 인덱스
+-- 읽은 지 오래된 알림
+CREATE INDEX IF NOT EXISTS idx_notification_read_created ON notification(is_read, created_at);
+-- 처리가 끝난(SENT/SKIPPED/FAILED) 메일 outbox 행
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_created ON email_outbox(status, created_at);
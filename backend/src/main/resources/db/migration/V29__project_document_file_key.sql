@@ -0,0 +1,4 @@
+-- 문서가 가리키는 로컬 저장소 key (고아 업로드 정리기가 후보 key 별로 인덱스 조회)
+-- 기존 행은 URL 디코딩이 필요해 SQL 로 채울 수 없으므로 UploadGarbageCollector 가 첫 실행 때 채운다.
+ALTER TABLE project_document ADD COLUMN IF NOT EXISTS file_key VARCHAR(500) NULL;
+CREATE INDEX IF NOT EXISTS idx_doc_file_key ON project_document(file_key);
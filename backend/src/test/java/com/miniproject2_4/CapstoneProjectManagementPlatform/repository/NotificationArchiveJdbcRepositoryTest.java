@@ -0,0 +1,88 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationArchiveJdbcRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 2, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private NotificationArchiveJdbcRepository repository;
+
+    /** jdbcTemplate.update 호출 기록 (SQL, 바인딩 값) */
+    private final List<String> sql = new ArrayList<>();
+    private final List<List<Object>> args = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(inv -> {
+            Object[] raw = inv.getRawArguments();
+            sql.add((String) raw[0]);
+            args.add(List.of((Object[]) raw[1]));
+            return 2;
+        });
+    }
+
+    @Test
+    void moveToArchive_ShouldCopyThenDeleteSameIds() {
+        int moved = repository.moveToArchive(List.of(3L, 5L), T0);
+
+        assertEquals(2, moved);
+        assertEquals(2, sql.size());
+        assertTrue(sql.get(0).startsWith("INSERT INTO notification_archive "));
+        assertTrue(sql.get(0).endsWith("FROM notification n WHERE n.id IN (?,?)"));
+        assertEquals(List.of(Timestamp.valueOf(T0), 3L, 5L), args.get(0));
+        assertEquals("DELETE FROM notification WHERE id IN (?,?)", sql.get(1));
+        assertEquals(List.of(3L, 5L), args.get(1));
+    }
+
+    @Test
+    void moveToArchive_WhenNoIds_ShouldNotTouchDatabase() {
+        assertEquals(0, repository.moveToArchive(List.of(), T0));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void splitMaxPartition_ShouldReorganizePmaxOnceInBoundaryOrder() {
+        repository.splitMaxPartition(List.of(
+                new NotificationArchiveJdbcRepository.MonthPartition("p202501", LocalDate.of(2025, 2, 1)),
+                new NotificationArchiveJdbcRepository.MonthPartition("p202502", LocalDate.of(2025, 3, 1))));
+
+        verify(jdbcTemplate).execute("ALTER TABLE notification_archive REORGANIZE PARTITION pmax INTO (" +
+                "PARTITION p202501 VALUES LESS THAN ('2025-02-01'), " +
+                "PARTITION p202502 VALUES LESS THAN ('2025-03-01'), " +
+                "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    void deleteCreatedBefore_ShouldDeleteSelectedIdsWithCutoff() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(7L, 8L));
+
+        assertEquals(2, repository.deleteCreatedBefore(T0, 500));
+
+        assertEquals("DELETE FROM notification_archive WHERE id IN (?,?) AND created_at < ?", sql.get(0));
+        assertEquals(List.of(7L, 8L, Timestamp.valueOf(T0)), args.get(0));
+    }
+}
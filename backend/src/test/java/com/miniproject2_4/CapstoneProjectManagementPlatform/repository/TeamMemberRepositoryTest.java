@@ -0,0 +1,68 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.repository;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.config.EntityCacheConfig;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Team;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TeamMember;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TeamMemberId;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** existsByTeam_IdAndUser_Id 기본 메서드(키 조회 + 2차 캐시)가 파생 쿼리(team.id = ? and user.id = ?)와 같은 결과를 내는지 */
+@DataJpaTest
+@Import(EntityCacheConfig.class)
+class TeamMemberRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TeamMemberRepository repository;
+
+    private Long teamId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        UserAccount user = em.persist(UserAccount.builder()
+                .name("Kim").email("kim@school.ac.kr").role(Role.STUDENT).passwordHash("x").build());
+        Team team = em.persist(Team.builder().name("Team A").build());
+        // 팀/사용자 id 가 같으면 뒤바꾼 조회도 같은 키가 되므로 다른 id 를 쓴다
+        if (team.getId().equals(user.getId())) team = em.persist(Team.builder().name("Team B").build());
+        em.persist(TeamMember.builder()
+                .id(new TeamMemberId(team.getId(), user.getId()))
+                .team(team).user(user).roleInTeam("MEMBER").build());
+        em.flush();
+        em.clear();
+        teamId = team.getId();
+        userId = user.getId();
+    }
+
+    @Test
+    void existsByTeamIdAndUserId_WhenMembershipExists_ShouldReturnTrue() {
+        assertTrue(repository.existsByTeam_IdAndUser_Id(teamId, userId));
+        // 두 번째는 2차 캐시에서
+        em.clear();
+        assertTrue(repository.existsByTeam_IdAndUser_Id(teamId, userId));
+    }
+
+    @Test
+    void existsByTeamIdAndUserId_ShouldNotSwapTeamAndUser() {
+        assertFalse(repository.existsByTeam_IdAndUser_Id(userId, teamId));
+        assertFalse(repository.existsByTeam_IdAndUser_Id(teamId, userId + 1000));
+    }
+
+    @Test
+    void existsByTeamIdAndUserId_WhenIdNull_ShouldReturnFalse() {
+        // 파생 쿼리도 "= null" 비교라 일치하는 행이 없다
+        assertFalse(repository.existsByTeam_IdAndUser_Id(null, userId));
+        assertFalse(repository.existsByTeam_IdAndUser_Id(teamId, null));
+    }
+}
@@ -32,7 +32,13 @@ class AuthControllerTest {
     private com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository userRepository;
 
     @MockBean
-    private com.miniproject2_4.CapstoneProjectManagementPlatform.repository.AuthSessionRepository authSessionRepository;
+    private com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.RefreshTokenService refreshTokenService;
+
+    @MockBean
+    private com.miniproject2_4.CapstoneProjectManagementPlatform.service.LastLoginBuffer lastLoginBuffer;
+
+    @MockBean
+    private com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.TokenRevocationService tokenRevocationService;
 
     @MockBean
     private org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
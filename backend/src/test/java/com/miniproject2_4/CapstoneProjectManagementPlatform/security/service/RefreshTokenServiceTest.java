@@ -0,0 +1,126 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.security.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.AuthSession;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.AuthSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private AuthSessionRepository authSessionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    /** token_hash → 세션 (DB 대신) */
+    private final Map<String, AuthSession> sessions = new HashMap<>();
+    private UserAccount user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTtl", Duration.ofDays(30));
+        ReflectionTestUtils.setField(refreshTokenService, "maxSessions", 10);
+        user = UserAccount.builder().id(1L).name("Kim").email("kim@school.ac.kr").role(Role.STUDENT).build();
+
+        lenient().when(authSessionRepository.save(any())).thenAnswer(inv -> {
+            AuthSession s = inv.getArgument(0);
+            s.setId((long) sessions.size() + 1);
+            sessions.put(s.getTokenHash(), s);
+            return s;
+        });
+        lenient().when(authSessionRepository.findWithUserByTokenHash(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(sessions.get(inv.<String>getArgument(0))));
+        lenient().when(authSessionRepository.rotate(anyLong(), anyString(), anyString(), any())).thenAnswer(inv -> {
+            AuthSession s = sessions.get(inv.<String>getArgument(1));
+            if (s == null || !s.getId().equals(inv.getArgument(0))) return 0;
+            sessions.remove(s.getTokenHash());
+            s.setTokenHash(inv.getArgument(2));
+            s.setExpiresAt(inv.getArgument(3));
+            sessions.put(s.getTokenHash(), s);
+            return 1;
+        });
+        lenient().when(authSessionRepository.findIdsByUserIdNewestFirst(1L)).thenReturn(List.of(1L));
+    }
+
+    @Test
+    void issue_ShouldStoreOnlyDigestOfToken() {
+        String token = refreshTokenService.issue(user);
+
+        AuthSession stored = sessions.values().iterator().next();
+        assertNotEquals(token, stored.getTokenHash());
+        assertEquals(RefreshTokenService.digest(token), stored.getTokenHash());
+        assertEquals(64, stored.getTokenHash().length());
+        assertTrue(stored.getExpiresAt().isAfter(LocalDateTime.now().plusDays(29)));
+    }
+
+    @Test
+    void rotate_ShouldReturnOwnerAndNewToken() {
+        String token = refreshTokenService.issue(user);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(token);
+
+        assertSame(user, rotation.user());
+        assertNotEquals(token, rotation.refreshToken());
+        assertTrue(sessions.containsKey(RefreshTokenService.digest(rotation.refreshToken())));
+        assertFalse(sessions.containsKey(RefreshTokenService.digest(token)));
+    }
+
+    @Test
+    void rotate_WhenOldTokenReused_ShouldReject() {
+        String token = refreshTokenService.issue(user);
+        String next = refreshTokenService.rotate(token).refreshToken();
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> refreshTokenService.rotate(token));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        // 재사용 시도가 정상 세션을 건드리지 않음
+        assertEquals(user, refreshTokenService.rotate(next).user());
+    }
+
+    @Test
+    void rotate_WhenConcurrentRotationWon_ShouldReject() {
+        String token = refreshTokenService.issue(user);
+        when(authSessionRepository.rotate(anyLong(), anyString(), anyString(), any())).thenReturn(0);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> refreshTokenService.rotate(token));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    @Test
+    void rotate_WhenExpired_ShouldDeleteSessionAndReturnUnauthorized() {
+        String token = refreshTokenService.issue(user);
+        sessions.get(RefreshTokenService.digest(token)).setExpiresAt(LocalDateTime.now().minusMinutes(1));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> refreshTokenService.rotate(token));
+        assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+        verify(authSessionRepository).deleteByTokenHash(RefreshTokenService.digest(token));
+    }
+}
@@ -0,0 +1,136 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.security.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.TokenRevocation;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TokenRevocationRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private TokenRevocationRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TokenRevocationService(repository, transactionManager, 1 << 16, 4);
+        ReflectionTestUtils.setField(service, "syncLookback", Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void revokeAccessToken_ShouldRejectOnlyThatJti() {
+        long exp = now() + 600;
+
+        assertTrue(service.revokeAccessToken(token(1L, now() - 10, exp, 42L)));
+
+        assertTrue(service.isRevoked(token(1L, now() - 10, exp, 42L)));
+        assertFalse(service.isRevoked(token(1L, now() - 10, exp, 43L)));
+        // jti 없는 이전 형식 토큰은 개별 폐기 대상이 아니다
+        assertFalse(service.revokeAccessToken(Map.of("sub", "1", "exp", exp)));
+        verify(repository, times(1)).save(any());
+    }
+
+    @Test
+    void revokeUser_ShouldRejectEarlierTokensButAllowSameSecondLogin() {
+        long revokedAt = now();
+
+        service.revokeUser(1L);
+
+        assertTrue(service.isRevoked(token(1L, revokedAt - 1, revokedAt + 600, 1L)));
+        // 비밀번호 재설정 직후 같은 초에 다시 로그인해 받은 토큰
+        long sameOrLater = now();
+        assertFalse(service.isRevoked(token(1L, sameOrLater, sameOrLater + 900, 2L)));
+        assertFalse(service.isRevoked(token(2L, revokedAt - 1, revokedAt + 600, 3L)));
+    }
+
+    @Test
+    void revoke_WhenTransactionRolledBack_ShouldNotApply() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.revokeUser(1L);
+        assertFalse(service.isRevoked(token(1L, now() - 5, now() + 600, 1L)));
+
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        assertFalse(service.isRevoked(token(1L, now() - 5, now() + 600, 1L)));
+    }
+
+    @Test
+    void prune_ShouldDropEntriesWhoseTokensExpired() {
+        long expired = now() - 1;
+        service.revokeAccessToken(token(1L, expired - 900, expired, 42L));
+        service.revokeAccessToken(token(1L, now() - 10, now() + 600, 43L));
+        assertTrue(service.isRevoked(token(1L, expired - 900, expired, 42L)));
+
+        service.prune();
+
+        assertFalse(service.isRevoked(token(1L, expired - 900, expired, 42L)));
+        assertTrue(service.isRevoked(token(1L, now() - 10, now() + 600, 43L)));
+    }
+
+    @Test
+    void sync_ShouldReplayPersistedRevocations() {
+        long watermark = now() - 60;
+        when(repository.findActiveCreatedSince(any(), isNull())).thenReturn(List.of(
+                TokenRevocation.builder()
+                        .kind(TokenRevocation.Kind.USER).subject(5L)
+                        .issuedBefore(toDateTime(watermark))
+                        .expiresAt(toDateTime(watermark + JwtUtil.ACCESS_TOKEN_TTL_SECONDS))
+                        .build(),
+                TokenRevocation.builder()
+                        .kind(TokenRevocation.Kind.TOKEN).subject(99L)
+                        .expiresAt(toDateTime(now() + 600))
+                        .build()));
+
+        service.sync();
+
+        assertTrue(service.isRevoked(token(5L, watermark - 1, now() + 600, 1L)));
+        assertFalse(service.isRevoked(token(5L, watermark, now() + 600, 2L)));
+        assertTrue(service.isRevoked(token(6L, now(), now() + 600, 99L)));
+    }
+
+    private static Map<String, Object> token(Long userId, long iat, long exp, Long jti) {
+        return Map.of("sub", String.valueOf(userId), "iat", iat, "exp", exp, "jti", String.valueOf(jti));
+    }
+
+    private static long now() {
+        return Instant.now().getEpochSecond();
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
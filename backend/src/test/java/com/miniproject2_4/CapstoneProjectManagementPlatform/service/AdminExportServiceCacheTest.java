@@ -0,0 +1,72 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.config.EntityCacheConfig;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 내보내기 스트림이 2차 캐시(entity.user)를 채우지 않는지 — 캐시는 커밋된 행만 담으므로 테스트 트랜잭션 없이 돌린다 */
+@DataJpaTest
+@Import({EntityCacheConfig.class, AdminExportService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminExportServiceCacheTest {
+
+    @Autowired
+    private AdminExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        userId = tx.execute(status -> userRepository.save(UserAccount.builder()
+                .name("Kim").email("kim@school.ac.kr").role(Role.STUDENT).passwordHash("x").build()).getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> userRepository.deleteById(userId));
+    }
+
+    @Test
+    void export_ShouldNotPopulateSecondLevelCache() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(AdminExportService.Kind.USERS, AdminExportService.Format.CSV, out);
+
+        // Then
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("kim@school.ac.kr"));
+        assertFalse(entityManagerFactory.getCache().contains(UserAccount.class, userId));
+
+        // 일반 id 조회는 그대로 캐시를 채운다
+        tx.executeWithoutResult(status -> userRepository.findById(userId));
+        assertTrue(entityManagerFactory.getCache().contains(UserAccount.class, userId));
+    }
+}
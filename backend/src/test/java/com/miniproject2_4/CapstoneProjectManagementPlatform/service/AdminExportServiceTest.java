@@ -0,0 +1,88 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.AssignmentRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.EventRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminExportServiceTest {
+
+    @Mock private ProjectRepository projectRepository;
+    @Mock private AssignmentRepository assignmentRepository;
+    @Mock private EventRepository eventRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private EntityManager entityManager;
+    @Mock private Session session;
+
+    @InjectMocks
+    private AdminExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        // @PersistenceContext 필드는 생성자 주입 대상이 아니다
+        ReflectionTestUtils.setField(exportService, "entityManager", entityManager);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+    }
+
+    @Test
+    void export_WhenCsvCellStartsWithFormula_ShouldPrefixQuote() throws Exception {
+        when(userRepository.streamAllForExport()).thenReturn(Stream.of(
+                user(1L, "=HYPERLINK(\"http://evil\",\"x\")", "a@school.ac.kr"),
+                user(2L, "@SUM(A1)", "+b@school.ac.kr"),
+                user(3L, "Kim, Minsu", "-c@school.ac.kr")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(AdminExportService.Kind.USERS, AdminExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).replace("\uFEFF", "").split("\r\n");
+        assertEquals("id,name,email,role,createdAt,lastLoginAt", lines[0]);
+        assertEquals("1,\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",a@school.ac.kr,STUDENT,,", lines[1]);
+        assertEquals("2,'@SUM(A1),'+b@school.ac.kr,STUDENT,,", lines[2]);
+        assertEquals("3,\"Kim, Minsu\",'-c@school.ac.kr,STUDENT,,", lines[3]);
+    }
+
+    @Test
+    void export_WhenNdjson_ShouldKeepOriginalText() throws Exception {
+        when(userRepository.streamAllForExport()).thenReturn(Stream.of(user(1L, "=1+1", "a@school.ac.kr")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(AdminExportService.Kind.USERS, AdminExportService.Format.NDJSON, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("\"name\":\"=1+1\""));
+    }
+
+    @Test
+    void export_ShouldBypassSecondLevelCacheForTheWholeStream() throws Exception {
+        when(userRepository.streamAllForExport()).thenReturn(Stream.of(user(1L, "Kim", "a@school.ac.kr")));
+
+        exportService.export(AdminExportService.Kind.USERS, AdminExportService.Format.CSV, new ByteArrayOutputStream());
+
+        verify(session).setCacheMode(CacheMode.IGNORE);
+    }
+
+    private static UserAccount user(Long id, String name, String email) {
+        return UserAccount.builder().id(id).name(name).email(email).role(Role.STUDENT).build();
+    }
+}
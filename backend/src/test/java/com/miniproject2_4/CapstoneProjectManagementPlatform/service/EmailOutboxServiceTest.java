@@ -0,0 +1,155 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.EmailOutbox;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    @Mock
+    private EmailOutboxRepository repository;
+
+    @Mock
+    private MailTransport transport;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new EmailOutboxService(repository, transport, transactionManager,
+                10, 3, Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(10));
+    }
+
+    private EmailOutbox claimedRow(long id, int attempts) {
+        return EmailOutbox.builder()
+                .id(id)
+                .dedupKey("test:" + id)
+                .recipient("test@example.com")
+                .subject("subject")
+                .body("body")
+                .status(EmailOutbox.Status.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().plusMinutes(2))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void givenClaimed(EmailOutbox row) {
+        when(repository.findDueIds(any(), any())).thenReturn(List.of(row.getId()));
+        when(repository.claim(eq(row.getId()), any(), any())).thenReturn(1);
+        when(repository.findAllById(List.of(row.getId()))).thenReturn(List.of(row));
+    }
+
+    @Test
+    void enqueue_WhenDuplicateWithinWindow_ShouldNotSave() {
+        // Given
+        when(repository.existsRecent(anyString(), any(), any(), isNull())).thenReturn(true);
+
+        // When
+        boolean queued = outboxService.enqueue("forgot-id", "test@example.com", "subject", "body");
+
+        // Then
+        assertFalse(queued);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void dispatch_WhenTransportSucceeds_ShouldMarkSent() {
+        // Given
+        givenClaimed(claimedRow(1L, 1));
+        when(transport.send(anyList())).thenReturn(Map.of());
+
+        // When
+        int sent = outboxService.dispatch();
+
+        // Then
+        assertEquals(1, sent);
+        verify(repository).markSent(eq(List.of(1L)), any());
+    }
+
+    @Test
+    void dispatch_WhenTransportThrows_ShouldScheduleRetryWithBackoff() {
+        // Given
+        givenClaimed(claimedRow(1L, 1));
+        when(transport.send(anyList())).thenThrow(new IllegalStateException("connection refused"));
+
+        // When
+        int sent = outboxService.dispatch();
+
+        // Then
+        assertEquals(0, sent);
+        verify(repository).markAttempt(eq(1L), eq(EmailOutbox.Status.PENDING),
+                argThat(next -> next.isAfter(LocalDateTime.now().plusSeconds(20))), contains("connection refused"));
+        verify(repository, never()).markSent(any(), any());
+    }
+
+    @Test
+    void dispatch_WhenPermanentFailure_ShouldMarkFailed() {
+        // Given
+        givenClaimed(claimedRow(1L, 1));
+        when(transport.send(anyList())).thenReturn(Map.of(1L, new MailTransport.Failure("550 no such user", true)));
+
+        // When
+        outboxService.dispatch();
+
+        // Then
+        verify(repository).markAttempt(eq(1L), eq(EmailOutbox.Status.FAILED), any(), eq("550 no such user"));
+    }
+
+    @Test
+    void dispatch_WhenMaxAttemptsReached_ShouldMarkFailed() {
+        // Given
+        givenClaimed(claimedRow(1L, 3));
+        when(transport.send(anyList())).thenReturn(Map.of(1L, new MailTransport.Failure("timeout", false)));
+
+        // When
+        outboxService.dispatch();
+
+        // Then
+        verify(repository).markAttempt(eq(1L), eq(EmailOutbox.Status.FAILED), any(), eq("timeout"));
+    }
+
+    @Test
+    void dispatch_WhenBacklogExceedsBatch_ShouldSendOnlyOneBatchPerRun() {
+        // Given: batch-size(10) 만큼 꽉 찬 묶음
+        List<Long> ids = LongStream.rangeClosed(1, 10).boxed().toList();
+        when(repository.findDueIds(any(), any())).thenReturn(ids);
+        when(repository.claim(anyLong(), any(), any())).thenReturn(1);
+        when(repository.findAllById(ids)).thenReturn(ids.stream().map(id -> claimedRow(id, 1)).toList());
+        when(transport.send(anyList())).thenReturn(Map.of());
+
+        // When
+        int sent = outboxService.dispatch();
+
+        // Then: 나머지는 다음 주기에
+        assertEquals(10, sent);
+        verify(repository, times(1)).findDueIds(any(), any());
+        verify(transport, times(1)).send(anyList());
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentiallyAndCap() {
+        assertTrue(outboxService.backoff(1).toSeconds() <= 36);
+        assertTrue(outboxService.backoff(3).toSeconds() >= 96);
+        assertTrue(outboxService.backoff(40).toMinutes() <= 72);
+    }
+}
@@ -0,0 +1,112 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserLoginJdbcRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LastLoginBufferTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 2, 9, 0);
+
+    @Mock
+    private UserLoginJdbcRepository userLoginJdbcRepository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    @InjectMocks
+    private LastLoginBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(buffer, "batchSize", 2);
+        lenient().when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+    }
+
+    @Test
+    void record_ShouldKeepLatestPerUser() {
+        buffer.record(1L, T0.plusMinutes(5));
+        buffer.record(1L, T0);
+        buffer.record(2L, T0);
+
+        assertEquals(Map.of(1L, T0.plusMinutes(5), 2L, T0), buffer.pending());
+        assertEquals(T0.plusMinutes(5), buffer.effective(1L, T0.plusMinutes(1)));
+        assertEquals(T0.plusHours(1), buffer.effective(1L, T0.plusHours(1)));
+        assertEquals(T0, buffer.effective(3L, T0));
+    }
+
+    @Test
+    void flush_ShouldWriteInBatchesEvictCacheAndClearBuffer() {
+        buffer.record(1L, T0);
+        buffer.record(2L, T0);
+        buffer.record(3L, T0);
+        List<List<UserLoginJdbcRepository.LoginStamp>> calls = new ArrayList<>();
+        doAnswer(inv -> calls.add(List.copyOf(inv.getArgument(0))))
+                .when(userLoginJdbcRepository).updateLastLoginAt(anyList());
+
+        assertEquals(3, buffer.flush());
+
+        assertEquals(List.of(2, 1), calls.stream().map(List::size).toList());
+        verify(secondLevelCache).evict(UserAccount.class, 1L);
+        verify(secondLevelCache).evict(UserAccount.class, 3L);
+        assertTrue(buffer.pending().isEmpty());
+        assertEquals(0, buffer.flush());
+    }
+
+    @Test
+    void flush_WhenNewerLoginArrivesDuringWrite_ShouldKeepIt() {
+        buffer.record(1L, T0);
+        doAnswer(inv -> {
+            buffer.record(1L, T0.plusMinutes(1));
+            return null;
+        }).when(userLoginJdbcRepository).updateLastLoginAt(anyList());
+
+        buffer.flush();
+
+        assertEquals(Map.of(1L, T0.plusMinutes(1)), buffer.pending());
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldKeepPendingForNextRun() {
+        buffer.record(1L, T0);
+        doThrow(new IllegalStateException("db down")).when(userLoginJdbcRepository).updateLastLoginAt(anyList());
+
+        buffer.scheduledFlush();
+
+        assertEquals(Map.of(1L, T0), buffer.pending());
+    }
+
+    @Test
+    void flushOnShutdown_ShouldWriteRemainingStamps() {
+        buffer.record(7L, T0);
+        ArgumentCaptor<List<UserLoginJdbcRepository.LoginStamp>> captor = ArgumentCaptor.forClass(List.class);
+
+        buffer.flushOnShutdown();
+
+        verify(userLoginJdbcRepository).updateLastLoginAt(captor.capture());
+        assertEquals(List.of(new UserLoginJdbcRepository.LoginStamp(7L, T0)), captor.getValue());
+        assertTrue(buffer.pending().isEmpty());
+    }
+}
@@ -0,0 +1,47 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalFileStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageService storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new LocalFileStorageService(null);
+        ReflectionTestUtils.setField(storage, "rootDirStr", root.toString());
+        storage.init();
+    }
+
+    @Test
+    void isInternalKey_ShouldMatchTrashAndThumbnailKeys() {
+        assertTrue(storage.isInternalKey("_trash/projects/1/a.pdf"));
+        assertTrue(storage.isInternalKey("/_thumb/projects/1/a.png.jpg"));
+        assertTrue(storage.isInternalKey("_trash"));
+        assertFalse(storage.isInternalKey("projects/1/a.pdf"));
+        assertFalse(storage.isInternalKey("projects/_trash/a.pdf"));
+    }
+
+    @Test
+    void isInternalKey_WhenKeyTraversesIntoTrash_ShouldStillMatch() {
+        // 원문 접두사만 보면 통과하지만 정규화하면 휴지통/썸네일 경로
+        assertTrue(storage.isInternalKey("x/../_trash/projects/1/a.pdf"));
+        assertTrue(storage.isInternalKey("projects/1/../../_thumb/projects/1/a.png.jpg"));
+        assertTrue(storage.isInternalKey("./_trash/a.pdf"));
+    }
+
+    @Test
+    void isInternalKey_WhenKeyEscapesRoot_ShouldReject() {
+        assertThrows(SecurityException.class, () -> storage.isInternalKey("../outside.txt"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaintenanceSchedulerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private MaintenanceScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) scheduler.stop();
+    }
+
+    @Test
+    void runNow_WhenJobSucceeds_ShouldRecordRowsAndMetrics() throws Exception {
+        // Given
+        scheduler = started(MaintenanceJob.of("sample", Duration.ofHours(1), () -> 42));
+
+        // When
+        scheduler.runNow("sample");
+        MaintenanceScheduler.JobStatus status = awaitIdle("sample");
+
+        // Then
+        assertEquals(1, status.runs());
+        assertEquals(42L, status.lastRows());
+        assertEquals(42, status.totalRows());
+        assertNull(status.lastError());
+        assertEquals(42.0, registry.get("maintenance.job.rows").tag("job", "sample").counter().count());
+        assertEquals(1, registry.get("maintenance.job.duration").tag("job", "sample").timer().count());
+    }
+
+    @Test
+    void runNow_WhenJobFails_ShouldRecordError() throws Exception {
+        // Given
+        scheduler = started(MaintenanceJob.of("broken", Duration.ofHours(1), () -> {
+            throw new IllegalStateException("db down");
+        }));
+
+        // When
+        scheduler.runNow("broken");
+        MaintenanceScheduler.JobStatus status = awaitIdle("broken");
+
+        // Then
+        assertEquals(1, status.failures());
+        assertTrue(status.lastError().contains("db down"));
+    }
+
+    @Test
+    void runNow_ShouldReturnImmediatelyAndNotOverlapRunningJob() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        scheduler = started(MaintenanceJob.of("slow", Duration.ofHours(1), () -> {
+            calls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        }));
+
+        // When: 작업이 끝나기 전에 두 번 요청
+        MaintenanceScheduler.JobStatus first = scheduler.runNow("slow");
+        MaintenanceScheduler.JobStatus second = scheduler.runNow("slow");
+
+        // Then: 호출 스레드는 기다리지 않고, 두 번째 요청은 새 실행을 만들지 않는다
+        assertTrue(first.running());
+        assertTrue(second.running());
+        assertEquals(0, first.runs());
+        release.countDown();
+        assertEquals(1, awaitIdle("slow").runs());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void constructor_ShouldApplyConfiguredInterval() {
+        // Given
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("app.maintenance.jobs.sample.interval", "15m")
+                .withProperty("app.maintenance.jobs.sample.enabled", "false");
+        // 실제 앱과 같은 "15m" 형식 변환
+        env.setConversionService(new ApplicationConversionService());
+
+        // When
+        scheduler = new MaintenanceScheduler(
+                List.of(MaintenanceJob.of("sample", Duration.ofHours(1), () -> 0)), env, registry);
+
+        // Then
+        MaintenanceScheduler.JobStatus status = scheduler.status("sample");
+        assertEquals(Duration.ofMinutes(15), status.interval());
+        assertFalse(status.enabled());
+        assertNull(scheduler.runNow("unknown"));
+    }
+
+    /** 일정 실행은 기본 initial-delay(2분) 뒤라 테스트 중에는 즉시 실행만 돈다 */
+    private MaintenanceScheduler started(MaintenanceJob job) {
+        MaintenanceScheduler s = new MaintenanceScheduler(List.of(job), new MockEnvironment(), registry);
+        s.start();
+        return s;
+    }
+
+    private MaintenanceScheduler.JobStatus awaitIdle(String name) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        MaintenanceScheduler.JobStatus status = scheduler.status(name);
+        while (status.running() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = scheduler.status(name);
+        }
+        assertFalse(status.running(), "job still running: " + name);
+        return status;
+    }
+}
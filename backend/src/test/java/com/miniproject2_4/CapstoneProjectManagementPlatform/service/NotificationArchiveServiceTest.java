@@ -0,0 +1,153 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.CursorPage;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.NotificationArchive;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.NotificationArchiveJdbcRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.NotificationArchiveRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationArchiveServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationArchiveRepository archiveRepository;
+
+    @Mock
+    private NotificationArchiveJdbcRepository archiveJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private NotificationArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "archiveAfter", Duration.ofDays(30));
+        ReflectionTestUtils.setField(service, "monthlyPartitions", true);
+        ReflectionTestUtils.setField(service, "monthsAhead", 1);
+        ReflectionTestUtils.setField(service, "retention", Duration.ZERO);
+    }
+
+    @Test
+    void archiveRead_ShouldMoveChunksUntilShortChunk() {
+        when(notificationRepository.findReadIdsCreatedBefore(any(), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(archiveJdbcRepository.moveToArchive(anyList(), any()))
+                .thenAnswer(inv -> inv.<List<Long>>getArgument(0).size());
+
+        assertEquals(3, service.archiveRead(2));
+
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository, times(2)).findReadIdsCreatedBefore(before.capture(), any());
+        assertTrue(before.getValue().isBefore(LocalDateTime.now().minusDays(29)));
+        verify(archiveJdbcRepository).moveToArchive(eq(List.of(1L, 2L)), any());
+        verify(archiveJdbcRepository).moveToArchive(eq(List.of(3L)), any());
+    }
+
+    @Test
+    void ensureMonthlyPartitions_WhenOnlyPmax_ShouldSplitFromOldestMonthInOneStatement() {
+        YearMonth now = YearMonth.now();
+        when(archiveJdbcRepository.partitionNames()).thenReturn(List.of("pmax"));
+        when(archiveJdbcRepository.minCreatedAt()).thenReturn(now.minusMonths(2).atDay(15).atStartOfDay());
+
+        assertEquals(4, service.ensureMonthlyPartitions());
+
+        // 이력이 pmax 에서 한 번에 각 달로 나뉜다: 두 달 전 ~ 다음 달
+        assertEquals(List.of(
+                partition(now.minusMonths(2)), partition(now.minusMonths(1)),
+                partition(now), partition(now.plusMonths(1))), splits());
+    }
+
+    @Test
+    void ensureMonthlyPartitions_WhenMonthsExist_ShouldOnlyAddMissingOnes() {
+        YearMonth now = YearMonth.now();
+        when(archiveJdbcRepository.partitionNames()).thenReturn(List.of(name(now), "pmax"));
+
+        assertEquals(1, service.ensureMonthlyPartitions());
+
+        assertEquals(List.of(partition(now.plusMonths(1))), splits());
+        verify(archiveJdbcRepository, never()).minCreatedAt();
+    }
+
+    @Test
+    void purgeExpired_ShouldDropOnlyFullyExpiredPartitionsThenDeleteLeftovers() {
+        ReflectionTestUtils.setField(service, "retention", Duration.ofDays(90));
+        YearMonth now = YearMonth.now();
+        when(archiveJdbcRepository.partitionNames())
+                .thenReturn(List.of(name(now.minusMonths(6)), name(now.minusMonths(2)), name(now), "pmax"));
+        when(archiveJdbcRepository.deleteCreatedBefore(any(), eq(100))).thenReturn(5);
+
+        assertEquals(5, service.purgeExpired(100));
+
+        verify(archiveJdbcRepository).dropPartition(name(now.minusMonths(6)));
+        verify(archiveJdbcRepository, times(1)).dropPartition(anyString());
+    }
+
+    @Test
+    void purgeExpired_WhenRetentionUnset_ShouldKeepEverything() {
+        assertEquals(0, service.purgeExpired(100));
+
+        verifyNoInteractions(archiveJdbcRepository);
+    }
+
+    @Test
+    void page_ShouldCapLimitAndSetCursorOnlyWhenFull() {
+        when(archiveRepository.findPage(eq(1L), isNull(), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(archive(9L), archive(8L)));
+        when(archiveRepository.findPage(eq(1L), eq(8L), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(archive(4L)));
+        when(archiveRepository.findPage(1L, null, PageRequest.of(0, 100))).thenReturn(List.of());
+
+        CursorPage<NotificationArchive> first = service.page(1L, null, 2);
+        CursorPage<NotificationArchive> last = service.page(1L, 8L, 2);
+        service.page(1L, null, 5000);
+
+        assertEquals(8L, first.nextCursor());
+        assertEquals(1, last.items().size());
+        assertNull(last.nextCursor());
+        // 5000 은 최대 100 으로 잘린다
+        verify(archiveRepository).findPage(1L, null, PageRequest.of(0, 100));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NotificationArchiveJdbcRepository.MonthPartition> splits() {
+        ArgumentCaptor<List<NotificationArchiveJdbcRepository.MonthPartition>> captor = ArgumentCaptor.forClass(List.class);
+        verify(archiveJdbcRepository).splitMaxPartition(captor.capture());
+        return captor.getValue();
+    }
+
+    private static NotificationArchiveJdbcRepository.MonthPartition partition(YearMonth month) {
+        return new NotificationArchiveJdbcRepository.MonthPartition(name(month), month.plusMonths(1).atDay(1));
+    }
+
+    private static String name(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static NotificationArchive archive(Long id) {
+        return NotificationArchive.builder().id(id).recipientId(1L).build();
+    }
+}
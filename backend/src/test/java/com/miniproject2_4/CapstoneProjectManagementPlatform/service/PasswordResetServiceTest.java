@@ -5,6 +5,8 @@ import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.PasswordResetTokenRepository;
 import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.RefreshTokenService;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.security.service.TokenRevocationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -35,6 +38,15 @@ class PasswordResetServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PasswordResetService passwordResetService;
 
@@ -204,6 +216,8 @@ class PasswordResetServiceTest {
         verify(userRepository).save(testUser);
         verify(tokenRepository).save(validToken);
         verify(tokenRepository).invalidateAllTokensForUser(1L);
+        verify(refreshTokenService).revokeAll(1L);
+        verify(tokenRevocationService).revokeUser(1L);
         verify(emailService).sendPasswordChangeNotificationEmail("test@example.com", "Test User");
     }
 
@@ -0,0 +1,137 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.RosterImportDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.RosterJdbcRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TeamMemberRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.TeamRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.util.ProjectAccessCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RosterImportServiceTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private TeamRepository teamRepository;
+    @Mock private TeamMemberRepository teamMemberRepository;
+    @Mock private RosterJdbcRepository rosterJdbcRepository;
+    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private UserAutocompleteIndex userIndex;
+    @Mock private ProjectAccessCache accessCache;
+
+    @InjectMocks
+    private RosterImportService service;
+
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "hashThreads", 1);
+        service.init();
+        lenient().when(passwordEncoder.encode(anyString())).thenReturn("hashed");
+        lenient().when(userRepository.findIdEmailByEmailIn(any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void importRoster_WhenValid_ShouldCreateUsersTeamAndMemberships() throws Exception {
+        when(rosterJdbcRepository.insertUsers(anyList(), any())).thenAnswer(inv -> ids(inv.getArgument(0)));
+        when(teamRepository.findByNameIn(any())).thenReturn(List.of());
+        when(rosterJdbcRepository.insertTeams(eq(List.of("Alpha")), any())).thenReturn(List.of(7L));
+        when(teamMemberRepository.findIdsByTeamIdInAndUserIdIn(any(), any())).thenReturn(List.of());
+
+        RosterImportDto.Report report = service.importRoster(new StringReader("""
+                email,name,team,team_role
+                a@school.ac.kr,Kim,Alpha,LEADER
+                b@school.ac.kr,Lee,alpha,
+                not-an-email,Park,,
+                """), "initial-pw");
+
+        assertEquals(3, report.totalRows());
+        assertEquals(2, report.importedRows());
+        assertEquals(2, report.createdUsers());
+        assertEquals(1, report.createdTeams());
+        assertEquals(2, report.addedMemberships());
+        assertEquals(List.of("INVALID_EMAIL"), report.errors().stream().map(RosterImportDto.RowError::code).toList());
+        verify(userIndex).upsert(100L, "Kim", "a@school.ac.kr", Role.STUDENT);
+        verify(accessCache).evictMembership(7L, 101L);
+    }
+
+    @Test
+    void importRoster_WhenChunkFails_ShouldRetryRowByRowAndHideVendorMessage() throws Exception {
+        when(rosterJdbcRepository.insertUsers(anyList(), any())).thenAnswer(inv -> {
+            List<RosterJdbcRepository.NewUser> users = inv.getArgument(0);
+            if (users.stream().anyMatch(u -> u.email().equals("dup@school.ac.kr"))) {
+                throw new DataIntegrityViolationException("(conn=42) Duplicate entry 'dup@school.ac.kr' for key 'uk_user_email'");
+            }
+            return ids(users);
+        });
+
+        RosterImportDto.Report report = service.importRoster(new StringReader("""
+                email,name
+                a@school.ac.kr,Kim
+                dup@school.ac.kr,Lee
+                c@school.ac.kr,Park
+                """), "initial-pw");
+
+        assertEquals(2, report.importedRows());
+        assertEquals(2, report.createdUsers());
+        assertEquals(1, report.errorCount());
+        RosterImportDto.RowError error = report.errors().get(0);
+        assertEquals(3, error.line());
+        assertEquals("CONSTRAINT_VIOLATION", error.code());
+        assertFalse(error.message().contains("Duplicate entry"));
+        verify(userIndex, never()).upsert(any(), any(), eq("dup@school.ac.kr"), any());
+        // 청크 1회 + 행 3회
+        verify(rosterJdbcRepository, times(4)).insertUsers(anyList(), any());
+    }
+
+    @Test
+    void importRoster_WhenDatabaseUnavailable_ShouldStopRetryingAfterFirstRow() throws Exception {
+        when(rosterJdbcRepository.insertUsers(anyList(), any()))
+                .thenThrow(new QueryTimeoutException("Connection timed out"));
+
+        RosterImportDto.Report report = service.importRoster(new StringReader("""
+                email,name
+                a@school.ac.kr,Kim
+                b@school.ac.kr,Lee
+                c@school.ac.kr,Park
+                """), "initial-pw");
+
+        assertEquals(0, report.importedRows());
+        assertEquals(3, report.errorCount());
+        assertTrue(report.errors().stream().allMatch(e -> e.code().equals("DB_ERROR")));
+        assertTrue(report.errors().stream().noneMatch(e -> e.message().contains("timed out")));
+        // 청크 1회 + 첫 행 1회
+        verify(rosterJdbcRepository, times(2)).insertUsers(anyList(), any());
+    }
+
+    private List<Long> ids(List<RosterJdbcRepository.NewUser> users) {
+        return users.stream().map(u -> nextId.getAndIncrement()).toList();
+    }
+}
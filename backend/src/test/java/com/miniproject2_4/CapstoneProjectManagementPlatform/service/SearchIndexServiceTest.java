@@ -0,0 +1,121 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.SearchDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Assignment;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Project;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexService.DocType.ASSIGNMENT;
+import static com.miniproject2_4.CapstoneProjectManagementPlatform.service.SearchIndexService.DocType.RISK;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexServiceTest {
+
+    @Mock private ProjectOverviewRepository overviewRepository;
+    @Mock private FeedbackRepository feedbackRepository;
+    @Mock private DecisionRepository decisionRepository;
+    @Mock private RiskRepository riskRepository;
+    @Mock private AssignmentRepository assignmentRepository;
+    @Mock private EventRepository eventRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SearchIndexService index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndexService(overviewRepository, feedbackRepository, decisionRepository,
+                riskRepository, assignmentRepository, eventRepository, transactionManager);
+    }
+
+    @Test
+    void search_ShouldRankByTermFrequencyAndQueryCoverage() {
+        index.upsert(doc(1L, 10L, "database schema review"));
+        index.upsert(doc(2L, 10L, "database database database migration"));
+        index.upsert(doc(3L, 10L, "frontend review"));
+
+        // 두 질의어를 모두 포함한 문서가 한 단어만 여러 번 나온 문서보다 앞선다
+        List<SearchDto.Hit> both = index.search("database review", 10, p -> true);
+        assertEquals(3, both.size());
+        assertEquals(1L, both.get(0).id());
+
+        // 한 단어 질의에서는 출현 빈도가 높은 문서가 앞선다
+        List<SearchDto.Hit> single = index.search("database", 10, p -> true);
+        assertEquals(List.of(2L, 1L), single.stream().map(SearchDto.Hit::id).toList());
+        assertTrue(single.get(0).score() > single.get(1).score());
+    }
+
+    @Test
+    void upsert_WhenUpdated_ShouldReplaceOldTerms() {
+        index.upsert(doc(1L, 10L, "alpha plan"));
+        index.upsert(doc(1L, 10L, "beta plan"));
+
+        assertTrue(index.search("alpha", 10, p -> true).isEmpty());
+        assertEquals(1, index.search("beta", 10, p -> true).size());
+        assertEquals(1, index.search("plan", 10, p -> true).size());
+    }
+
+    @Test
+    void remove_ShouldDropDocAndProject() {
+        index.upsert(doc(1L, 10L, "release checklist"));
+        index.upsert(doc(2L, 10L, "release notes"));
+        index.upsert(new SearchIndexService.IndexDoc(RISK, 1L, 20L, "release delay", null));
+
+        index.remove(ASSIGNMENT, 1L);
+        List<SearchDto.Hit> afterRemove = index.search("release", 10, p -> true);
+        assertEquals(Set.of("ASSIGNMENT:2", "RISK:1"),
+                afterRemove.stream().map(h -> h.type() + ":" + h.id()).collect(Collectors.toSet()));
+
+        index.removeProject(10L);
+        List<SearchDto.Hit> left = index.search("release", 10, p -> true);
+        assertEquals(1, left.size());
+        assertEquals("RISK", left.get(0).type());
+    }
+
+    @Test
+    void search_ShouldSkipProjectsWithoutPermission() {
+        index.upsert(doc(1L, 10L, "secret design"));
+        index.upsert(doc(2L, 20L, "public design"));
+
+        assertEquals(List.of(2L), ids(index.search("design", 10, p -> p == 20L)));
+    }
+
+    @Test
+    void rebuild_WhenChangeCommittedDuringRebuild_ShouldKeepNewerEntry() {
+        Project project = Project.builder().id(10L).build();
+        Assignment stale = Assignment.builder().id(1L).project(project).title("stale title").build();
+        // 색인 스레드가 변경 전 행을 읽는 사이에 커밋된 변경이 리스너로 들어온 상황
+        when(assignmentRepository.findAll()).thenAnswer(inv -> {
+            index.upsert(doc(1L, 10L, "fresh title"));
+            return List.of(stale);
+        });
+
+        index.rebuild();
+
+        assertTrue(index.search("stale", 10, p -> true).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("fresh", 10, p -> true)));
+
+        // 색인이 끝난 뒤의 변경은 기록 없이 바로 적용
+        index.upsert(doc(1L, 10L, "final title"));
+        assertEquals(List.of(1L), ids(index.search("final", 10, p -> true)));
+    }
+
+    private static SearchIndexService.IndexDoc doc(Long id, Long projectId, String title) {
+        return new SearchIndexService.IndexDoc(ASSIGNMENT, id, projectId, title, null);
+    }
+
+    private static List<Long> ids(List<SearchDto.Hit> hits) {
+        return hits.stream().map(SearchDto.Hit::id).toList();
+    }
+}
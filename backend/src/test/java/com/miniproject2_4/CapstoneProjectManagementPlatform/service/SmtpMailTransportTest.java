@@ -0,0 +1,103 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** SMTP 응답별 실패 분류: 수신자 거부(5xx) → 영구, 그 외 메시지 단위 실패 → 재시도, 연결 실패 → 묶음 전체 재시도 */
+@ExtendWith(MockitoExtension.class)
+class SmtpMailTransportTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    private SmtpMailTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        Session session = Session.getInstance(new Properties());
+        lenient().when(mailSender.createMimeMessage()).thenAnswer(inv -> new MimeMessage(session));
+        transport = new SmtpMailTransport(mailSender, "noreply@capstone.app");
+    }
+
+    @Test
+    void send_WhenAllAccepted_ShouldSendOneBatchWithOutboxIds() throws Exception {
+        Map<Long, MailTransport.Failure> failures = transport.send(List.of(message(1L, "a@school.ac.kr"),
+                message(2L, "b@school.ac.kr")));
+
+        assertTrue(failures.isEmpty());
+        ArgumentCaptor<MimeMessage[]> sent = ArgumentCaptor.forClass(MimeMessage[].class);
+        verify(mailSender).send(sent.capture());
+        assertEquals(2, sent.getValue().length);
+        assertEquals("2", sent.getValue()[1].getHeader("X-Outbox-Id")[0]);
+    }
+
+    @Test
+    void send_WhenAddressMalformed_ShouldFailPermanentlyAndSendTheRest() {
+        Map<Long, MailTransport.Failure> failures = transport.send(List.of(message(1L, "Kim <kim@school.ac.kr"),
+                message(2L, "b@school.ac.kr")));
+
+        assertEquals(Map.of(1L, true), permanence(failures));
+        ArgumentCaptor<MimeMessage[]> sent = ArgumentCaptor.forClass(MimeMessage[].class);
+        verify(mailSender).send(sent.capture());
+        assertEquals(1, sent.getValue().length);
+    }
+
+    @Test
+    void send_WhenServerRejectsSomeRecipients_ShouldClassifyPerMessage() {
+        doAnswer(inv -> {
+            MimeMessage[] msgs = (MimeMessage[]) inv.getRawArguments()[0];
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            // 550 No such user → 영구
+            failed.put(msgs[0], new MessagingException("failed",
+                    new SendFailedException("550 5.1.1 User unknown", null,
+                            new Address[0], new Address[0], new Address[]{new InternetAddress("gone@school.ac.kr")})));
+            // 451 일시 오류 → 재시도
+            failed.put(msgs[1], new MessagingException("451 4.3.0 Try again later"));
+            throw new MailSendException(failed);
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        Map<Long, MailTransport.Failure> failures = transport.send(List.of(message(1L, "gone@school.ac.kr"),
+                message(2L, "busy@school.ac.kr"), message(3L, "ok@school.ac.kr")));
+
+        assertEquals(Map.of(1L, true, 2L, false), permanence(failures));
+    }
+
+    @Test
+    void send_WhenConnectionFails_ShouldThrowSoWholeBatchIsRetried() {
+        doThrow(new MailSendException("Mail server connection failed"))
+                .when(mailSender).send(any(MimeMessage[].class));
+
+        assertThrows(MailSendException.class, () -> transport.send(List.of(message(1L, "a@school.ac.kr"))));
+    }
+
+    private static MailTransport.Message message(Long id, String to) {
+        return new MailTransport.Message(id, to, "subject", "body");
+    }
+
+    private static Map<Long, Boolean> permanence(Map<Long, MailTransport.Failure> failures) {
+        Map<Long, Boolean> out = new LinkedHashMap<>();
+        failures.forEach((id, f) -> out.put(id, f.permanent()));
+        return out;
+    }
+}
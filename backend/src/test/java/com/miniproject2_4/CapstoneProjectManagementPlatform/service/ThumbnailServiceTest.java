@@ -0,0 +1,84 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private ThumbnailService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ThumbnailService();
+        ReflectionTestUtils.setField(service, "maxEdge", 320);
+        ReflectionTestUtils.setField(service, "threads", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 10);
+        ReflectionTestUtils.setField(service, "failureTtl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(service, "failureMaxSize", 100L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void supports_WhenNoImageIoReader_ShouldReturnFalse() {
+        assertTrue(service.supports("a.png"));
+        assertTrue(service.supports("a.PDF"));
+        assertFalse(service.supports("a.txt"));
+        // 기본 JDK 에는 webp 디코더가 없다 → 플러그인이 없으면 지원하지 않음
+        assertEquals(ImageIO.getImageReadersBySuffix("webp").hasNext(), service.supports("a.webp"));
+    }
+
+    @Test
+    void generate_WhenImage_ShouldWriteScaledJpeg() throws Exception {
+        Path source = dir.resolve("wide.png");
+        ImageIO.write(new BufferedImage(1280, 640, BufferedImage.TYPE_INT_RGB), "png", source.toFile());
+        Path target = dir.resolve("_thumb/wide.png.jpg");
+
+        assertTrue(service.generate(source, target));
+
+        BufferedImage thumb = ImageIO.read(target.toFile());
+        assertEquals(320, thumb.getWidth());
+        assertEquals(160, thumb.getHeight());
+    }
+
+    @Test
+    void enqueue_WhenDecodeFails_ShouldNotQueueAgain() throws Exception {
+        Path source = dir.resolve("broken.png");
+        Files.writeString(source, "not an image");
+        Path target = dir.resolve("_thumb/broken.png.jpg");
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(service, "executor");
+
+        service.enqueue(source, target);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!service.hasFailed(target) && System.nanoTime() < deadline) Thread.sleep(10);
+        assertTrue(service.hasFailed(target));
+        assertFalse(Files.exists(target));
+
+        service.enqueue(source, target);
+        service.enqueue(source, target);
+        assertEquals(1, executor.getTaskCount());
+
+        // 원본이 다시 저장되면 재시도 가능
+        service.forgetFailure(target);
+        assertFalse(service.hasFailed(target));
+    }
+}
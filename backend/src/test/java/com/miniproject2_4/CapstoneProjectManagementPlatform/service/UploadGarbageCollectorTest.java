@@ -0,0 +1,126 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectDocumentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadGarbageCollectorTest {
+
+    @TempDir
+    Path root;
+
+    @Mock
+    private ProjectDocumentRepository documentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LocalFileStorageService storage;
+    private UploadGarbageCollector gc;
+
+    private record Row(Long getId, String getUrl) implements ProjectDocumentRepository.IdUrl {}
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new LocalFileStorageService(null);
+        ReflectionTestUtils.setField(storage, "rootDirStr", root.toString());
+        storage.init();
+
+        gc = new UploadGarbageCollector(storage, documentRepository, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(gc, "batchSize", 100);
+        ReflectionTestUtils.setField(gc, "gracePeriod", Duration.ofHours(24));
+        ReflectionTestUtils.setField(gc, "trashRetention", Duration.ofDays(7));
+    }
+
+    @Test
+    void sweep_WhenOrphanOlderThanGrace_ShouldMoveToTrash() throws Exception {
+        Path file = file("projects/1/old.pdf", Duration.ofHours(48));
+        when(documentRepository.findReferencedFileKeys(Set.of("projects/1/old.pdf"))).thenReturn(List.of());
+
+        gc.sweep();
+
+        assertFalse(Files.exists(file));
+        assertTrue(Files.exists(storage.resolveTrashPath("projects/1/old.pdf")));
+    }
+
+    @Test
+    void sweep_WhenOrphanWithinGrace_ShouldKeepWithoutLookup() throws Exception {
+        Path file = file("projects/1/new.pdf", Duration.ofHours(1));
+
+        gc.sweep();
+
+        assertTrue(Files.exists(file));
+        verify(documentRepository, never()).findReferencedFileKeys(any());
+    }
+
+    @Test
+    void sweep_WhenReferenced_ShouldKeepAndOnlyLookUpCandidates() throws Exception {
+        Path kept = file("projects/1/kept.pdf", Duration.ofHours(48));
+        Path orphan = file("projects/2/orphan.pdf", Duration.ofHours(48));
+        file("projects/2/fresh.pdf", Duration.ofMinutes(5));
+        when(documentRepository.findReferencedFileKeys(Set.of("projects/1/kept.pdf", "projects/2/orphan.pdf")))
+                .thenReturn(List.of("projects/1/kept.pdf"));
+
+        gc.sweep();
+
+        assertTrue(Files.exists(kept));
+        assertFalse(Files.exists(orphan));
+    }
+
+    @Test
+    void run_ShouldSweepOnlyWhenEnabledAndReportTrashedFiles() throws Exception {
+        Path file = file("projects/1/old.pdf", Duration.ofHours(48));
+        when(documentRepository.findReferencedFileKeys(Set.of("projects/1/old.pdf"))).thenReturn(List.of());
+
+        ReflectionTestUtils.setField(gc, "enabled", false);
+        assertEquals(0, gc.run());
+        assertTrue(Files.exists(file));
+
+        ReflectionTestUtils.setField(gc, "enabled", true);
+        assertEquals(1, gc.run());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void sweep_FirstRun_ShouldBackfillFileKeysOnce() throws Exception {
+        when(documentRepository.findLocalFilesWithoutKey(eq(0L), any()))
+                .thenReturn(List.of(new Row(7L, "/api/files?key=projects%2F1%2Fa%20b.pdf"),
+                        new Row(9L, "/api/files?key=")));
+        when(documentRepository.findLocalFilesWithoutKey(eq(9L), any())).thenReturn(List.of());
+
+        gc.sweep();
+        gc.sweep();
+
+        verify(documentRepository).updateFileKey(7L, "projects/1/a b.pdf");
+        verify(documentRepository, never()).updateFileKey(eq(9L), any());
+        verify(documentRepository, times(1)).findLocalFilesWithoutKey(eq(0L), any());
+    }
+
+    private Path file(String key, Duration age) throws Exception {
+        Path p = storage.resolveKeyToPath(key);
+        Files.createDirectories(p.getParent());
+        Files.writeString(p, key);
+        Files.setLastModifiedTime(p, FileTime.from(Instant.now().minus(age)));
+        return p;
+    }
+}
@@ -0,0 +1,103 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.service;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.controller.dto.UserDto;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.Role;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.entity.UserAccount;
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAutocompleteIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserAutocompleteIndex(userRepository);
+        index.upsert(1L, "Kim Minsu", "minsu@school.ac.kr", Role.STUDENT);
+        index.upsert(2L, "Park Jimin", "kimjm@school.ac.kr", Role.STUDENT);
+        index.upsert(3L, "Lee Kim", "lee@school.ac.kr", Role.PROFESSOR);
+    }
+
+    @Test
+    void search_ShouldRankNamePrefixThenEmailPrefixThenInfix() {
+        assertEquals(List.of(1L, 2L, 3L), ids(index.search("kim", null, 10)));
+    }
+
+    @Test
+    void search_WhenSingleCharOrInfix_ShouldMatchSubstring() {
+        assertEquals(List.of(3L), ids(index.search("e k", null, 10)));
+        // "min": 1 은 이메일 접두, 2 는 이름 중간 일치
+        assertEquals(List.of(1L, 2L), ids(index.search("min", null, 10)));
+        assertTrue(ids(index.search("j", null, 10)).contains(2L));
+        assertTrue(index.search("kimx", null, 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldFilterByRoleAndLimit() {
+        assertEquals(List.of(3L), ids(index.search("kim", Role.PROFESSOR, 10)));
+        assertEquals(List.of(1L), ids(index.search("kim", null, 1)));
+    }
+
+    @Test
+    void upsert_WhenRenamed_ShouldDropOldGrams() {
+        index.upsert(1L, "Choi Yuna", "yuna@school.ac.kr", Role.STUDENT);
+
+        assertEquals(List.of(2L, 3L), ids(index.search("kim", null, 10)));
+        List<UserDto> found = index.search("yuna", null, 10);
+        assertEquals(1, found.size());
+        assertEquals("Choi Yuna", found.get(0).name());
+    }
+
+    @Test
+    void remove_ShouldExcludeUser() {
+        index.remove(2L);
+        index.remove(99L);
+
+        assertEquals(List.of(1L, 3L), ids(index.search("kim", null, 10)));
+        assertTrue(index.search("jimin", null, 10).isEmpty());
+    }
+
+    @Test
+    void reload_WhenDeleteAndRenameArriveMidLoad_ShouldKeepLiveChanges() {
+        UserAutocompleteIndex fresh = new UserAutocompleteIndex(userRepository);
+        UserAccount gone = UserAccount.builder().id(5L).name("Jung Hana").email("hana@school.ac.kr").role(Role.STUDENT).build();
+        UserAccount renamed = UserAccount.builder().id(6L).name("Oh Old").email("oh@school.ac.kr").role(Role.STUDENT).build();
+        // 적재 스레드가 페이지를 읽은 뒤 색인에 넣기 전에 삭제/이름 변경이 커밋되어 리스너로 들어온 상황
+        when(userRepository.findAll(any(Pageable.class))).thenAnswer(inv -> {
+            fresh.remove(5L);
+            fresh.upsert(6L, "Oh New", "oh@school.ac.kr", Role.STUDENT);
+            return new PageImpl<>(List.of(gone, renamed), inv.getArgument(0), 2);
+        });
+
+        fresh.reload();
+
+        assertTrue(fresh.ready());
+        assertTrue(fresh.search("hana", null, 10).isEmpty());
+        assertTrue(fresh.search("old", null, 10).isEmpty());
+        assertEquals(List.of(6L), ids(fresh.search("new", null, 10)));
+
+        // 적재가 끝난 뒤의 변경은 기록 없이 바로 적용
+        fresh.upsert(5L, "Jung Hana", "hana@school.ac.kr", Role.STUDENT);
+        assertEquals(List.of(5L), ids(fresh.search("hana", null, 10)));
+    }
+
+    private static List<Long> ids(List<UserDto> users) {
+        return users.stream().map(UserDto::id).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void next_WhenQuotedFieldsAndBlankLines_ShouldParseRecords() throws IOException {
+        String csv = "\uFEFFemail,name\r\n"
+                + "\"kim@example.com\",\"Kim, \"\"J\"\"\"\r\n"
+                + "\r\n"
+                + "lee@example.com,\"two\nlines\"\n";
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            assertEquals(List.of("email", "name"), reader.next());
+            assertEquals(List.of("kim@example.com", "Kim, \"J\""), reader.next());
+            assertEquals(2, reader.recordLine());
+            assertEquals(List.of("lee@example.com", "two\nlines"), reader.next());
+            assertEquals(4, reader.recordLine());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void next_WhenTrailingEmptyField_ShouldKeepIt() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("a,b,\n"))) {
+            assertEquals(List.of("a", "b", ""), reader.next());
+        }
+    }
+
+    @Test
+    void next_WhenQuoteNotClosed_ShouldThrow() {
+        CsvReader reader = new CsvReader(new StringReader("\"open,field\n"));
+
+        assertThrows(CsvReader.MalformedCsvException.class, reader::next);
+    }
+}
@@ -0,0 +1,61 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineDiffTest {
+
+    @Test
+    void apply_WhenDeltaOfRandomEdits_ShouldRestoreTarget() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String from = randomText(random);
+            String to = randomText(random);
+            assertEquals(to, LineDiff.apply(from, LineDiff.delta(from, to)), () -> from + " -> " + to);
+        }
+    }
+
+    @Test
+    void delta_WhenSingleLineChanged_ShouldOnlyCarryChangedLine() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) sb.append("line ").append(i).append('\n');
+        String from = sb.toString();
+        String to = from.replace("line 500\n", "changed\n");
+
+        assertEquals("=500\n-1\n+changed\n=500", LineDiff.delta(from, to));
+    }
+
+    @Test
+    void diff_ShouldGroupConsecutiveLinesByType() {
+        List<LineDiff.Op> ops = LineDiff.diff("a\nb\nc", "a\nx\ny\nc");
+
+        assertEquals(List.of(
+                new LineDiff.Op(LineDiff.Type.EQUAL, List.of("a")),
+                new LineDiff.Op(LineDiff.Type.DELETE, List.of("b")),
+                new LineDiff.Op(LineDiff.Type.INSERT, List.of("x", "y")),
+                new LineDiff.Op(LineDiff.Type.EQUAL, List.of("c"))
+        ), ops);
+    }
+
+    @Test
+    void apply_WhenBaseDoesNotMatch_ShouldThrow() {
+        String delta = LineDiff.delta("a\nb\nc", "a\nc");
+
+        assertThrows(IllegalStateException.class, () -> LineDiff.apply("a", delta));
+    }
+
+    private static String randomText(Random random) {
+        int n = random.nextInt(10);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append('\n');
+            sb.append((char) ('a' + random.nextInt(4)));
+        }
+        if (random.nextBoolean()) sb.append('\n');
+        return sb.toString();
+    }
+}
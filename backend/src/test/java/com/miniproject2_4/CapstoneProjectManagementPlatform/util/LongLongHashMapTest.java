@@ -0,0 +1,57 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongLongHashMapTest {
+
+    @Test
+    void put_WhenManyKeys_ShouldResizeAndKeepValues() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        for (long k = 0; k < 10_000; k++) map.put(k * 31, k);
+
+        assertEquals(10_000, map.size());
+        for (long k = 0; k < 10_000; k++) assertEquals(k, map.get(k * 31, -1));
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    void put_WhenSentinelKey_ShouldStoreSeparately() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(Long.MIN_VALUE, 7);
+
+        assertTrue(map.containsKey(Long.MIN_VALUE));
+        assertEquals(7, map.get(Long.MIN_VALUE, -1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void putMax_WhenSmallerValue_ShouldKeepLarger() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.putMax(1, 100);
+        map.putMax(1, 50);
+
+        assertEquals(100, map.get(1, -1));
+    }
+
+    @Test
+    void retainIf_ShouldDropRejectedEntries() {
+        LongLongHashMap map = new LongLongHashMap();
+        for (long k = 1; k <= 100; k++) map.put(k, k);
+
+        LongLongHashMap kept = map.retainIf((k, v) -> v > 90);
+
+        assertEquals(10, kept.size());
+        assertTrue(kept.containsKey(95));
+        assertFalse(kept.containsKey(5));
+    }
+
+    @Test
+    void bloomFilter_WhenAdded_ShouldAlwaysMightContain() {
+        LongBloomFilter filter = new LongBloomFilter(1 << 16, 4);
+        for (long k = 0; k < 1_000; k++) filter.add(k);
+
+        for (long k = 0; k < 1_000; k++) assertTrue(filter.mightContain(k));
+    }
+}
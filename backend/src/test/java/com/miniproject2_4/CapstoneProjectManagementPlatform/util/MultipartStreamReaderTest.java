@@ -0,0 +1,90 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartStreamReaderTest {
+
+    private static final String BOUNDARY = "----form7MA4YWxkTrZu0gW";
+
+    private static byte[] body(String fileContent) {
+        String s = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"memo\"\r\n\r\n"
+                + "hello\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"보고서.txt\"\r\n"
+                + "Content-Type: text/plain\r\n\r\n"
+                + fileContent + "\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** read() 한 번에 최대 chunk 바이트만 돌려주는 스트림 (네트워크 분할 수신 흉내) */
+    private static InputStream chunked(byte[] data, int chunk) {
+        return new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, chunk));
+            }
+        };
+    }
+
+    @Test
+    void next_WhenChunkedInput_ShouldReadPartsInOrder() throws IOException {
+        String content = "line1\r\n--not-a-boundary\r\nline3";
+        for (int chunk : new int[]{1, 7, 100, 100_000}) {
+            try (MultipartStreamReader reader = new MultipartStreamReader(chunked(body(content), chunk), BOUNDARY)) {
+                MultipartStreamReader.Part memo = reader.next();
+                assertEquals("memo", memo.name());
+                assertNull(memo.filename());
+                assertEquals("hello", new String(memo.body().readAllBytes(), StandardCharsets.UTF_8));
+
+                MultipartStreamReader.Part file = reader.next();
+                assertEquals("file", file.name());
+                assertEquals("보고서.txt", file.filename());
+                assertEquals("text/plain", file.contentType());
+                assertEquals(content, new String(file.body().readAllBytes(), StandardCharsets.UTF_8));
+
+                assertNull(reader.next());
+            }
+        }
+    }
+
+    @Test
+    void next_WhenPartNotConsumed_ShouldSkipRemainingBody() throws IOException {
+        try (MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body("abc")), BOUNDARY)) {
+            reader.next();
+            MultipartStreamReader.Part file = reader.next();
+            assertEquals("abc", new String(file.body().readAllBytes(), StandardCharsets.UTF_8));
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void next_WhenBodyTruncated_ShouldThrowMalformed() {
+        byte[] full = body("abcdef");
+        byte[] truncated = java.util.Arrays.copyOf(full, full.length - 20);
+        assertThrows(MultipartStreamReader.MalformedMultipartException.class, () -> {
+            try (MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(truncated), BOUNDARY)) {
+                while (reader.next() != null) {
+                    // 끝까지 소비
+                }
+            }
+        });
+    }
+
+    @Test
+    void boundaryOf_ShouldParseContentTypeHeader() {
+        assertEquals("abc", MultipartStreamReader.boundaryOf("multipart/form-data; boundary=abc"));
+        assertEquals("a b", MultipartStreamReader.boundaryOf("multipart/form-data; boundary=\"a b\""));
+        assertNull(MultipartStreamReader.boundaryOf("application/json"));
+        assertNull(MultipartStreamReader.boundaryOf(null));
+    }
+}
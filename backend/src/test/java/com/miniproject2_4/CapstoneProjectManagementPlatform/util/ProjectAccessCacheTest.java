@@ -0,0 +1,118 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import com.miniproject2_4.CapstoneProjectManagementPlatform.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectAccessCacheTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ProjectAccessCache cache;
+
+    private record Flags(Long getTeamId, Boolean getProfessor, Boolean getMember, Boolean getLeader,
+                         Boolean getArchived) implements ProjectRepository.AccessFlags {}
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProjectAccessCache(projectRepository, 1000, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictMembership_ShouldReloadOnlyThatUsersTeamDecisions() {
+        member(10L, 1L, 7L);
+        member(10L, 2L, 7L);
+        cache.decision(10L, 1L);
+        cache.decision(10L, 2L);
+
+        // 명단 가져오기가 (팀 7, 사용자 1) 멤버십을 추가한 뒤 부르는 경로
+        cache.evictMembership(7L, 1L);
+        cache.decision(10L, 1L);
+        cache.decision(10L, 2L);
+
+        verify(projectRepository, times(2)).findAccessFlags(10L, 1L);
+        verify(projectRepository, times(1)).findAccessFlags(10L, 2L);
+    }
+
+    @Test
+    void evictTeam_WhenTeamDeleted_ShouldDropEveryMembersDecision() {
+        member(10L, 1L, 7L);
+        member(10L, 2L, 7L);
+        member(20L, 1L, 8L);
+        cache.decision(10L, 1L);
+        cache.decision(10L, 2L);
+        cache.decision(20L, 1L);
+
+        cache.evictTeam(7L);
+        cache.decision(10L, 1L);
+        cache.decision(10L, 2L);
+        cache.decision(20L, 1L);
+
+        verify(projectRepository, times(2)).findAccessFlags(10L, 1L);
+        verify(projectRepository, times(2)).findAccessFlags(10L, 2L);
+        verify(projectRepository, times(1)).findAccessFlags(20L, 1L);
+    }
+
+    @Test
+    void decision_WhenEvictedDuringLoad_ShouldNotCacheStaleResult() {
+        // 조회 중에 다른 스레드가 멤버십을 지운 상황: 읽어 온 값(member=true)은 이미 낡았다
+        when(projectRepository.findAccessFlags(10L, 1L))
+                .thenAnswer(inv -> {
+                    cache.evictMembership(7L, 1L);
+                    return Optional.of(new Flags(7L, false, true, false, false));
+                })
+                .thenReturn(Optional.of(new Flags(7L, false, false, false, false)));
+
+        assertTrue(cache.decision(10L, 1L).member());
+        assertFalse(cache.decision(10L, 1L).member());
+        assertFalse(cache.decision(10L, 1L).member());
+
+        verify(projectRepository, times(2)).findAccessFlags(10L, 1L);
+    }
+
+    @Test
+    void decision_WhileEvictingTransactionOpen_ShouldNotCacheUntilCompletion() {
+        member(10L, 1L, 7L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictTeam(7L);
+        cache.decision(10L, 1L);
+        cache.decision(10L, 1L);
+        verify(projectRepository, times(2)).findAccessFlags(10L, 1L);
+
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.decision(10L, 1L);
+        cache.decision(10L, 1L);
+        verify(projectRepository, times(3)).findAccessFlags(10L, 1L);
+    }
+
+    private void member(Long projectId, Long userId, Long teamId) {
+        when(projectRepository.findAccessFlags(projectId, userId))
+                .thenReturn(Optional.of(new Flags(teamId, false, true, false, false)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.miniproject2_4.CapstoneProjectManagementPlatform.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionCallbacksTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void afterCommit_WhenNoTransaction_ShouldRunImmediately() {
+        List<String> ran = new ArrayList<>();
+
+        TransactionCallbacks.afterCommit(() -> ran.add("commit"));
+        TransactionCallbacks.afterCompletion(() -> ran.add("completion"));
+
+        assertEquals(List.of("commit", "completion"), ran);
+    }
+
+    @Test
+    void afterCommit_WhenRolledBack_ShouldOnlyRunCompletion() {
+        List<String> ran = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(() -> ran.add("commit"));
+        TransactionCallbacks.afterCompletion(() -> ran.add("completion"));
+        assertTrue(ran.isEmpty());
+
+        // 롤백: afterCommit 은 호출되지 않는다
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        assertEquals(List.of("completion"), ran);
+    }
+
+    @Test
+    void afterCommit_WhenCommitted_ShouldRunDeferred() {
+        List<String> ran = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(() -> ran.add("commit"));
+        assertTrue(ran.isEmpty());
+
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            s.afterCommit();
+        }
+        assertEquals(List.of("commit"), ran);
+    }
+}
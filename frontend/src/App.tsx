@@ -14,6 +14,7 @@ import ProjectAssignments from "@/pages/Projects/Assignments";
 import { NotificationCenter } from "@/components/Notifications/NotificationCenter";
 import { SettingsPage } from "@/components/Settings/SettingsPage";
 import { http } from "@/api/http";
+import { authStore } from "@/stores/auth";
 import { Toaster } from "@/components/ui/sonner";
 import type { User } from "@/types/user";
 
@@ -93,8 +94,8 @@ export default function App() {
   };
 
   const handleLogout = () => {
-    localStorage.removeItem("accessToken");
-    localStorage.removeItem("refreshToken");
+    // 서버 세션/토큰 폐기 + 로컬 토큰 삭제
+    authStore.logout();
     setCurrentUser(null);
     setActiveProjectId(null);
   };
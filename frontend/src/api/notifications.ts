@@ -3,7 +3,7 @@ import { listProjects } from "@/api/projects";
 import { listProjectFeedback } from "@/api/feedback";
 import { listSchedulesInRange } from "@/api/schedules";
 import { getProjectDashboardDeadlines } from "@/api/dashboard";
-import type { AppNotification } from "@/types/domain";
+import type { AppNotification, CursorPage } from "@/types/domain";
 import { appBus } from "@/lib/app-bus";
 
 /** 로컬 저장 키 (클라이언트 집계 항목용) */
@@ -58,35 +58,51 @@ type FetchOpts = {
 };
 
 /** ---------- 서버 알림 우선 ---------- */
+function fromServer(n: any): AppNotification {
+  const mapType = (t: string): AppNotification["type"] => {
+    switch ((t || "").toUpperCase()) {
+      case "TEAM_INVITATION": return "team_invitation";
+      case "INVITATION_ACCEPTED": return "invitation_accepted";
+      case "INVITATION_DECLINED": return "invitation_declined";
+      default: return "system";
+    }
+  };
+  const ms = toEpochMsFromAny(n.ts ?? n.createdAtMs ?? n.createdAtEpoch ?? n.createdAt);
+  return {
+    id: `srv:${n.id}`,
+    type: mapType(n.type),
+    title: n.title,
+    message: n.body ?? "",
+    timestamp: toIso(ms), // ISO로 정규화
+    read: !!n.isRead,
+    priority: "medium",
+    payload: n.payload ?? null,
+  };
+}
+
 async function fetchServerNotifications(): Promise<AppNotification[]> {
   try {
     const { data } = await http.get(`/notifications`);
-    const mapType = (t: string): AppNotification["type"] => {
-      switch ((t || "").toUpperCase()) {
-        case "TEAM_INVITATION": return "team_invitation";
-        case "INVITATION_ACCEPTED": return "invitation_accepted";
-        case "INVITATION_DECLINED": return "invitation_declined";
-        default: return "system";
-      }
-    };
-    return (data as any[]).map((n) => {
-      const ms = toEpochMsFromAny(n.ts ?? n.createdAtMs ?? n.createdAtEpoch ?? n.createdAt);
-      return {
-        id: `srv:${n.id}`,
-        type: mapType(n.type),
-        title: n.title,
-        message: n.body ?? "",
-        timestamp: toIso(ms), // ISO로 정규화
-        read: !!n.isRead,
-        priority: "medium",
-        payload: n.payload ?? null,
-      };
-    });
+    return (data as any[]).map(fromServer);
   } catch {
     return [];
   }
 }
 
+/** 보관된(오래된 읽은) 서버 알림: id 커서 페이지 (최신 순)
+ *  - nextCursor 를 다음 요청의 cursor(beforeId)로 넘기면 됩니다.
+ */
+export async function fetchArchivedNotifications(
+  opts?: { cursor?: number | null; limit?: number }
+): Promise<CursorPage<AppNotification>> {
+  const params: Record<string, any> = {};
+  if (opts?.cursor != null) params.beforeId = opts.cursor;
+  if (opts?.limit != null) params.limit = opts.limit;
+
+  const { data } = await http.get<CursorPage<any>>(`/notifications/archive`, { params });
+  return { items: (data.items ?? []).map(fromServer), nextCursor: data.nextCursor ?? null };
+}
+
 /** ---------- 기존(클라이언트 집계) 보조 ---------- */
 async function fetchClientAggregated(opts: FetchOpts): Promise<AppNotification[]> {
   const readSet = getReadSet();
@@ -1,5 +1,5 @@
 ﻿import { http } from "@/api/http";
-import type { TeamListDto, UserDto } from "@/types/domain";
+import type { CursorPage, TeamListDto, UserDto } from "@/types/domain";
 
 /** (학생/교수/관리자 공통) 내가 팀 멤버로 속한 팀 */
 export async function listTeams() {
@@ -25,6 +25,20 @@ export async function listInvitableUsers(teamId: number) {
   return data;
 }
 
+/** 초대 가능한 사용자 커서 페이지 (q: 이름/이메일 검색, nextCursor 를 다음 afterId 로) */
+export async function listInvitableUsersPage(
+  teamId: number,
+  opts?: { q?: string; afterId?: number | null; limit?: number }
+): Promise<CursorPage<UserDto>> {
+  const params: Record<string, any> = {};
+  if (opts?.q) params.q = opts.q;
+  if (opts?.afterId != null) params.afterId = opts.afterId;
+  if (opts?.limit != null) params.limit = opts.limit;
+
+  const { data } = await http.get<CursorPage<UserDto>>(`/teams/${teamId}/invitable-users/page`, { params });
+  return { items: data.items ?? [], nextCursor: data.nextCursor ?? null };
+}
+
 /** 새 팀 생성 */
 export async function createTeam(name: string, description?: string) {
   const { data } = await http.post<TeamListDto>("/teams", { name, description });
@@ -1,4 +1,4 @@
-import { useState, useMemo, useEffect } from "react";
+import { useState, useEffect, useRef } from "react";
 import { Search, Loader2 } from "lucide-react";
 import { Dialog, DialogContent, DialogHeader, DialogTitle, DialogDescription } from "@/components/ui/dialog";
 import { Button } from "@/components/ui/button";
@@ -15,20 +15,41 @@ interface InviteMemberModalProps {
   team: TeamListDto | null;
   users: UserDto[];
   isLoading: boolean;
+  /** 다음 커서 페이지가 있는지 */
+  hasMore: boolean;
+  /** 검색어로 서버 목록을 다시 받는다 (입력 후 잠시 멈추면 호출) */
+  onSearch: (query: string) => void;
+  onLoadMore: () => void;
   onInviteSuccess: (teamId: number, newUser: UserDto) => void;
 }
 
-export function InviteMemberModal({ isOpen, onClose, team, users, isLoading, onInviteSuccess }: InviteMemberModalProps) {
+const SEARCH_DEBOUNCE_MS = 300;
+
+export function InviteMemberModal({
+  isOpen, onClose, team, users, isLoading, hasMore, onSearch, onLoadMore, onInviteSuccess,
+}: InviteMemberModalProps) {
   const [searchQuery, setSearchQuery] = useState("");
   const [invitingUserId, setInvitingUserId] = useState<number | null>(null);
+  // 마지막으로 서버에 보낸 검색어 (열 때 부모가 빈 검색어로 이미 불러옴)
+  const sentQuery = useRef("");
 
-  const filteredUsers = useMemo(() => {
-    const q = searchQuery.trim().toLowerCase();
-    if (!q) return users;
-    return users.filter(u => u.name.toLowerCase().includes(q) || u.email.toLowerCase().includes(q));
-  }, [users, searchQuery]);
+  useEffect(() => {
+    if (isOpen) {
+      setSearchQuery("");
+      sentQuery.current = "";
+    }
+  }, [isOpen]);
 
-  useEffect(() => { if (isOpen) setSearchQuery(""); }, [isOpen]);
+  useEffect(() => {
+    if (!isOpen) return;
+    const q = searchQuery.trim();
+    if (q === sentQuery.current) return;
+    const timer = setTimeout(() => {
+      sentQuery.current = q;
+      onSearch(q);
+    }, SEARCH_DEBOUNCE_MS);
+    return () => clearTimeout(timer);
+  }, [searchQuery, isOpen, onSearch]);
 
   if (!team) return null;
 
@@ -67,12 +88,12 @@ export function InviteMemberModal({ isOpen, onClose, team, users, isLoading, onI
         </div>
 
         <div className="flex-1 relative min-h-0 py-4">
-          {isLoading ? (
+          {isLoading && !users.length ? (
             <div>사용자 목록을 불러오는 중...</div>
           ) : (
             <ScrollArea className="h-full">
               <div className="space-y-2 pr-4">
-                {filteredUsers.length ? filteredUsers.map((user) => {
+                {users.length ? users.map((user) => {
                   const isInviting = invitingUserId === user.id;
                   return (
                     <div key={user.id} className="flex items-center justify-between p-2 border rounded-md">
@@ -88,6 +109,13 @@ export function InviteMemberModal({ isOpen, onClose, team, users, isLoading, onI
                 }) : (
                   <div className="text-center text-muted-foreground py-10">검색 결과가 없습니다.</div>
                 )}
+                {hasMore && (
+                  <div className="flex justify-center pt-2">
+                    <Button size="sm" variant="outline" onClick={onLoadMore} disabled={isLoading}>
+                      {isLoading ? (<><Loader2 className="mr-2 h-4 w-4 animate-spin" />불러오는 중…</>) : ("더 보기")}
+                    </Button>
+                  </div>
+                )}
               </div>
             </ScrollArea>
           )}
@@ -1,4 +1,4 @@
-import React, { useState, useEffect, useMemo, useCallback } from "react";
+import React, { useState, useEffect, useMemo, useCallback, useRef } from "react";
 import {
   Card, CardContent, CardDescription, CardHeader, CardTitle,
 } from "@/components/ui/card";
@@ -10,7 +10,7 @@ import {
   MessageSquare, CalendarDays, GitBranch, CheckCircle2,
 } from "lucide-react";
 import type { UserRole } from "@/types/user";
-import { listTeams, listAllTeams, listInvitableUsers } from "@/api/teams";
+import { listTeams, listAllTeams, listInvitableUsersPage } from "@/api/teams";
 import type { TeamListDto, UserDto } from "@/types/domain";
 import { CreateTeamModal } from "@/components/Teams/CreateTeamModal";
 import { InviteMemberModal } from "@/components/Teams/InviteMemberModal";
@@ -20,6 +20,9 @@ interface TeamManagementProps {
   userRole: UserRole;
 }
 
+/** 초대 후보 한 번에 받을 수 (서버 최대 200) */
+const INVITE_PAGE_SIZE = 50;
+
 function formatK(date?: string | null) {
   if (!date) return "-";
   return new Date(date).toLocaleDateString("ko-KR", { year: "numeric", month: "short", day: "numeric" });
@@ -56,6 +59,10 @@ export function TeamManagement({ userRole }: TeamManagementProps) {
 
   const [users, setUsers] = useState<UserDto[]>([]);
   const [loadingUsers, setLoadingUsers] = useState(false);
+  const [usersCursor, setUsersCursor] = useState<number | null>(null);
+  const [usersQuery, setUsersQuery] = useState("");
+  // 늦게 도착한 이전 검색 응답이 최신 결과를 덮지 않도록
+  const usersRequestSeq = useRef(0);
 
   const loadTeams = useCallback(async () => {
     try {
@@ -88,24 +95,41 @@ export function TeamManagement({ userRole }: TeamManagementProps) {
     );
   }, [teams, q]);
 
-  async function loadUsersForInvite(teamId: number) {
+  /** 초대 후보: 서버에서 검색/커서 페이지로 받는다 (afterId 가 있으면 이어 붙임) */
+  async function loadUsersForInvite(teamId: number, query = "", afterId: number | null = null) {
+    const seq = ++usersRequestSeq.current;
     setLoadingUsers(true);
     try {
-      const list = await listInvitableUsers(teamId);
-      setUsers(list ?? []);
+      const page = await listInvitableUsersPage(teamId, { q: query, afterId, limit: INVITE_PAGE_SIZE });
+      if (seq !== usersRequestSeq.current) return;
+      setUsers((prev) => (afterId == null ? page.items : [...prev, ...page.items]));
+      setUsersCursor(page.nextCursor);
+      setUsersQuery(query);
     } catch {
-      setUsers([]);
+      if (seq !== usersRequestSeq.current) return;
+      if (afterId == null) setUsers([]);
+      setUsersCursor(null);
     } finally {
-      setLoadingUsers(false);
+      if (seq === usersRequestSeq.current) setLoadingUsers(false);
     }
   }
 
   const openInvite = async (team: TeamListDto) => {
     setSelectedTeam(team);
     setShowInviteModal(true);
+    setUsers([]);
+    setUsersCursor(null);
     await loadUsersForInvite(team.id);
   };
 
+  const searchInvitable = (query: string) => {
+    if (selectedTeam) loadUsersForInvite(selectedTeam.id, query);
+  };
+
+  const loadMoreInvitable = () => {
+    if (selectedTeam && usersCursor != null) loadUsersForInvite(selectedTeam.id, usersQuery, usersCursor);
+  };
+
   const openSettings = (team: TeamListDto) => {
     setSelectedTeam(team);
     setShowSettingsModal(true);
@@ -286,6 +310,9 @@ export function TeamManagement({ userRole }: TeamManagementProps) {
         team={selectedTeam}
         users={users}
         isLoading={loadingUsers}
+        hasMore={usersCursor != null}
+        onSearch={searchInvitable}
+        onLoadMore={loadMoreInvitable}
         onInviteSuccess={handleInviteSuccess}
       />
 
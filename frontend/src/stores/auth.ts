@@ -77,10 +77,24 @@ class AuthStore {
     if (!refreshToken) return null;
     const { data } = await http.post("/auth/refresh", { refreshToken });
     localStorage.setItem("accessToken", data.accessToken);
+    // 리프레시 토큰은 매번 교체되므로 새 값으로 저장
+    if (data.refreshToken) localStorage.setItem("refreshToken", data.refreshToken);
     return data.accessToken as string;
   }
 
   logout() {
+    // 서버 측 폐기(access token jti + 리프레시 세션)는 응답을 기다리지 않는다
+    const accessToken = localStorage.getItem("accessToken");
+    const refreshToken = localStorage.getItem("refreshToken");
+    if (accessToken || refreshToken) {
+      http
+        .post(
+          "/auth/logout",
+          { refreshToken },
+          accessToken ? { headers: { Authorization: `Bearer ${accessToken}` } } : undefined
+        )
+        .catch(() => {});
+    }
     localStorage.removeItem("accessToken");
     localStorage.removeItem("refreshToken");
     this.set({ user: null });